@@ -0,0 +1,103 @@
+package com.gloomy.server.infrastructure.jwt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gloomy.server.domain.jwt.JWTPayload;
+import com.gloomy.server.domain.user.Type;
+import com.gloomy.server.domain.user.User;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 요청마다 실행되는 JWT 검증 비용을 비교한다.
+ * legacy는 정규식, 요청마다 만드는 Mac, 문자열 서명 비교, 두 번의 payload 파싱을 쓰던 이전 방식이고
+ * cold는 검증 캐시에 없는 토큰, cached는 이미 검증한 토큰을 다시 검증하는 경우다.
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JWTVerificationBenchmark {
+
+    private static final byte[] SECRET = "BENCHMARK_SECRET".getBytes(StandardCharsets.UTF_8);
+    private static final int TOKEN_COUNT = 16384;
+
+    private HmacSHA256JWTService jwtService;
+    private LegacyVerifier legacyVerifier;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        final var objectMapper = new ObjectMapper();
+        jwtService = new HmacSHA256JWTService(SECRET, 3600, 3600, objectMapper);
+        legacyVerifier = new LegacyVerifier(SECRET, objectMapper);
+        tokens = new String[TOKEN_COUNT];
+        for (var i = 0; i < TOKEN_COUNT; i++) {
+            final var user = User.of("benchmark@test.com", "benchmark", Type.KAKAO);
+            user.changeId((long) i + 1);
+            tokens[i] = jwtService.jwtFromUser(user);
+        }
+    }
+
+    @Benchmark
+    public JWTPayload legacy() throws Exception {
+        return legacyVerifier.jwtPayloadFromJWT(nextToken());
+    }
+
+    @Benchmark
+    public JWTPayload cold() {
+        return jwtService.jwtPayloadFromJWT(nextToken());
+    }
+
+    @Benchmark
+    public JWTPayload cached() {
+        return jwtService.jwtPayloadFromJWT(tokens[0]);
+    }
+
+    private String nextToken() {
+        next = (next + 1) & (TOKEN_COUNT - 1);
+        return tokens[next];
+    }
+
+    private static class LegacyVerifier {
+        private static final String JWT_HEADER = Base64URL.base64URLFromString("{\"alg\":\"HS256\",\"type\":\"JWT\"}");
+        private static final String BASE64URL_PATTERN = "[\\w_\\-]+";
+        private static final Pattern JWT_PATTERN = Pattern.compile(String.format("^(%s\\.)(%s\\.)(%s)$",
+                BASE64URL_PATTERN, BASE64URL_PATTERN, BASE64URL_PATTERN));
+
+        private final byte[] secret;
+        private final ObjectMapper objectMapper;
+
+        private LegacyVerifier(byte[] secret, ObjectMapper objectMapper) {
+            this.secret = secret;
+            this.objectMapper = objectMapper;
+        }
+
+        private JWTPayload jwtPayloadFromJWT(String jwtToken) throws Exception {
+            final var splintedTokens = jwtToken.split("\\.");
+            final var hmacSHA256 = Mac.getInstance("HmacSHA256");
+            hmacSHA256.init(new SecretKeySpec(secret, "HmacSHA256"));
+            final var signatureBytes = hmacSHA256.doFinal(
+                    splintedTokens[0].concat(".").concat(splintedTokens[1]).getBytes(StandardCharsets.UTF_8));
+            if (!JWT_PATTERN.matcher(jwtToken).matches() || !splintedTokens[0].equals(JWT_HEADER)
+                    || !Base64.getUrlEncoder().withoutPadding().encodeToString(signatureBytes).equals(splintedTokens[2])) {
+                throw new IllegalArgumentException("Malformed token");
+            }
+            final var jwtPayload = objectMapper.readValue(Base64URL.stringFromBase64URL(splintedTokens[1]), UserJWTPayload.class);
+            final var expiredCheck = objectMapper.readValue(Base64URL.stringFromBase64URL(jwtToken.split("\\.")[1]), UserJWTPayload.class);
+            if (expiredCheck.isExpired()) {
+                throw new IllegalArgumentException("token expired");
+            }
+            return jwtPayload;
+        }
+    }
+}
@@ -87,5 +87,21 @@ public class CommentDTO {
                     .deletedAt(comment.getDeletedAt().getDeletedAt().toString())
                     .build();
         }
+
+        public static CommentDTO.Response of(CommentRow row) {
+            boolean isUserComment = row.getUserId() != null;
+            return builder()
+                    .id(row.getId())
+                    .content(row.getContent())
+                    .feedId(row.getFeedId())
+                    .userId(row.getUserId())
+                    .nickName(isUserComment ? null : row.getNickname())
+                    .password(isUserComment ? null : row.getPassword())
+                    .status(row.getStatus().toString())
+                    .createdAt(row.getCreatedAt().toString())
+                    .updatedAt(row.getUpdatedAt().toString())
+                    .deletedAt(row.getDeletedAt().toString())
+                    .build();
+        }
     }
 }
@@ -7,6 +7,8 @@ import com.gloomy.server.domain.user.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -20,4 +22,18 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     Page<Comment> findAllByUserIdAndStatus(Pageable pageable, User userId, Status status);
 
     Integer countCommentByFeedId(Feed feedId);
+
+    @Query(value = "select new com.gloomy.server.application.comment.CommentRow(c.id, c.content.content, c.feedId.id, c.userId.id," +
+            " c.nonUser.nickname.nickname, c.nonUser.password.password, c.status," +
+            " c.createdAt.createdAt, c.updatedAt.updatedAt, c.deletedAt.deletedAt)" +
+            " from Comment c where c.feedId.id = :feedId and c.status = :status",
+            countQuery = "select count(c) from Comment c where c.feedId.id = :feedId and c.status = :status")
+    Page<CommentRow> findRowsByFeedIdAndStatus(@Param("feedId") Long feedId, @Param("status") Status status, Pageable pageable);
+
+    @Query(value = "select new com.gloomy.server.application.comment.CommentRow(c.id, c.content.content, c.feedId.id, c.userId.id," +
+            " c.nonUser.nickname.nickname, c.nonUser.password.password, c.status," +
+            " c.createdAt.createdAt, c.updatedAt.updatedAt, c.deletedAt.deletedAt)" +
+            " from Comment c where c.userId.id = :userId and c.status = :status",
+            countQuery = "select count(c) from Comment c where c.userId.id = :userId and c.status = :status")
+    Page<CommentRow> findRowsByUserIdAndStatus(@Param("userId") Long userId, @Param("status") Status status, Pageable pageable);
 }
@@ -1,14 +1,16 @@
 package com.gloomy.server.application.comment;
 
 import com.gloomy.server.application.core.response.RequestContext;
+import com.gloomy.server.application.core.response.ResourceVersions;
+import com.gloomy.server.application.security.CurrentUserId;
 import com.gloomy.server.domain.comment.Comment;
-import com.gloomy.server.domain.user.UserService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -16,27 +18,29 @@ import java.util.List;
 @RestController
 @RequestMapping("/comment")
 public class CommentRestController {
-    private final UserService userService;
     private final CommentService commentService;
     private final RequestContext requestContext;
+    private final ResourceVersions resourceVersions;
 
-    public CommentRestController(UserService userService, CommentService commentService, RequestContext requestContext) {
-        this.userService = userService;
+    public CommentRestController(CommentService commentService, RequestContext requestContext, ResourceVersions resourceVersions) {
         this.commentService = commentService;
         this.requestContext = requestContext;
+        this.resourceVersions = resourceVersions;
     }
 
     @PostMapping(value = "")
-    public CommentDTO.Response createComment(@Validated @RequestBody CommentDTO.Request commentDTO) {
+    public CommentDTO.Response createComment(@Validated @RequestBody CommentDTO.Request commentDTO, @CurrentUserId Long userId) {
         requestContext.setRequestBody(commentDTO);
-        Long userId = userService.getMyInfo();
         Comment createdComment = commentService.createComment(userId, commentDTO);
         return makeCommentDTOResponse(createdComment);
     }
 
     @GetMapping("/feed/{feedId}")
-    public Page<CommentDTO.Response> getFeedAllActiveComments(@PageableDefault(size = 10) Pageable pageable, @PathVariable Long feedId) {
-        Page<Comment> feedAllComments = commentService.getFeedAllActiveComments(pageable, feedId);
+    public Page<CommentDTO.Response> getFeedAllActiveComments(@PageableDefault(size = 10) Pageable pageable, @PathVariable Long feedId, WebRequest webRequest) {
+        if (webRequest.checkNotModified(resourceVersions.etag(ResourceVersions.COMMENTS, feedId))) {
+            return null;
+        }
+        Page<CommentRow> feedAllComments = commentService.getFeedAllActiveCommentRows(pageable, feedId);
         return makeResult(feedAllComments);
     }
 
@@ -58,10 +62,10 @@ public class CommentRestController {
         commentService.deleteComment(commentId);
     }
 
-    private Page<CommentDTO.Response> makeResult(Page<Comment> allComments) {
+    private Page<CommentDTO.Response> makeResult(Page<CommentRow> allComments) {
         List<CommentDTO.Response> result = new ArrayList<>();
-        for (Comment comment : allComments.getContent()) {
-            result.add(makeCommentDTOResponse(comment));
+        for (CommentRow comment : allComments.getContent()) {
+            result.add(CommentDTO.Response.of(comment));
         }
         return new PageImpl<>(result);
     }
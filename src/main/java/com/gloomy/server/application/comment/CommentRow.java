@@ -0,0 +1,37 @@
+package com.gloomy.server.application.comment;
+
+import com.gloomy.server.domain.common.entity.Status;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 목록 응답에 필요한 컬럼만 읽어 온 읽기 전용 행.
+ */
+@Getter
+public class CommentRow {
+    private final Long id;
+    private final String content;
+    private final Long feedId;
+    private final Long userId;
+    private final String nickname;
+    private final String password;
+    private final Status status;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final LocalDateTime deletedAt;
+
+    public CommentRow(Long id, String content, Long feedId, Long userId, String nickname, String password,
+                      Status status, LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime deletedAt) {
+        this.id = id;
+        this.content = content;
+        this.feedId = feedId;
+        this.userId = userId;
+        this.nickname = nickname;
+        this.password = password;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.deletedAt = deletedAt;
+    }
+}
@@ -1,5 +1,7 @@
 package com.gloomy.server.application.comment;
 
+import com.gloomy.server.application.core.response.ResourceVersions;
+import com.gloomy.server.application.feed.FeedCardRow;
 import com.gloomy.server.application.feed.FeedService;
 import com.gloomy.server.application.notice.NoticeService;
 import com.gloomy.server.domain.comment.Comment;
@@ -24,19 +26,24 @@ public class CommentService {
     private final FeedService feedService;
     private final NoticeService noticeService;
     private final CommentRepository commentRepository;
+    private final ResourceVersions resourceVersions;
 
-    public CommentService(UserService userService, FeedService feedService, NoticeService noticeService, CommentRepository commentRepository) {
+    public CommentService(UserService userService, FeedService feedService, NoticeService noticeService, CommentRepository commentRepository,
+                          ResourceVersions resourceVersions) {
         this.userService = userService;
         this.feedService = feedService;
         this.noticeService = noticeService;
         this.commentRepository = commentRepository;
+        this.resourceVersions = resourceVersions;
     }
 
     @Transactional
     public Comment createComment(Long userId, CommentDTO.Request commentDTO) throws IllegalArgumentException {
         validateCommentDTO(userId, commentDTO);
         Comment comment = commentRepository.save(makeComment(userId, commentDTO));
-        noticeService.createNotice(comment.getFeedId(), comment, Type.COMMENT);
+        feedService.addCommentCount(comment.getFeedId(), 1);
+        resourceVersions.touch(ResourceVersions.COMMENTS, comment.getFeedId().getId());
+        noticeService.publishNotice(comment.getFeedId(), comment, Type.COMMENT);
         return comment;
     }
 
@@ -72,7 +79,9 @@ public class CommentService {
         validateUpdateCommentRequest(commentId, updateCommentDTO);
         Comment foundComment = findComment(commentId);
         foundComment.setContent(new Content(updateCommentDTO.getContent()));
-        return commentRepository.save(foundComment);
+        Comment updatedComment = commentRepository.save(foundComment);
+        resourceVersions.touch(ResourceVersions.COMMENTS, updatedComment.getFeedId().getId());
+        return updatedComment;
     }
 
     private void validateUpdateCommentRequest(Long commentId, UpdateCommentDTO.Request updateCommentDTO) {
@@ -87,8 +96,13 @@ public class CommentService {
     @Transactional
     public Comment deleteComment(Long commentId) {
         Comment foundComment = findComment(commentId);
+        if (foundComment.getStatus() == Status.active()) {
+            feedService.addCommentCount(foundComment.getFeedId(), -1);
+        }
         foundComment.delete();
-        return commentRepository.save(foundComment);
+        Comment deletedComment = commentRepository.save(foundComment);
+        resourceVersions.touch(ResourceVersions.COMMENTS, deletedComment.getFeedId().getId());
+        return deletedComment;
     }
 
     @Transactional
@@ -109,28 +123,32 @@ public class CommentService {
 
     @Transactional(readOnly = true)
     public Page<Comment> getFeedAllActiveComments(Pageable pageable, Long feedId) {
-        if (pageable == null) {
-            throw new IllegalArgumentException("[CommentService] Pageable이 유효하지 않습니다.");
-        }
-        if (feedId == null || feedId <= 0L) {
-            throw new IllegalArgumentException("[CommentService] 해당 댓글 ID가 유효하지 않습니다.");
-        }
+        validatePageableAndFeedId(pageable, feedId);
         Feed foundFeed = feedService.findOneFeed(feedId);
         return commentRepository.findAllByFeedIdAndStatus(pageable, foundFeed, Status.active());
     }
 
+    @Transactional(readOnly = true)
+    public Page<CommentRow> getFeedAllActiveCommentRows(Pageable pageable, Long feedId) {
+        validatePageableAndFeedId(pageable, feedId);
+        FeedCardRow foundFeed = feedService.findFeedCardRow(feedId);
+        return commentRepository.findRowsByFeedIdAndStatus(foundFeed.getId(), Status.active(), pageable);
+    }
+
     @Transactional(readOnly = true)
     public Page<Comment> getCommentByIdAndActive(Pageable pageable, Long userId) {
-        if (pageable == null) {
-            throw new IllegalArgumentException("[CommentService] Pageable이 유효하지 않습니다.");
-        }
-        if (userId == null || userId <= 0L) {
-            throw new IllegalArgumentException("[CommentService] 해당 댓글 ID가 유효하지 않습니다.");
-        }
+        validatePageableAndUserId(pageable, userId);
         User findUser = userService.findUser(userId);
         return commentRepository.findAllByUserIdAndStatus(pageable, findUser, Status.active());
     }
 
+    @Transactional(readOnly = true)
+    public Page<CommentRow> getCommentRowsByIdAndActive(Pageable pageable, Long userId) {
+        validatePageableAndUserId(pageable, userId);
+        User findUser = userService.findUser(userId);
+        return commentRepository.findRowsByUserIdAndStatus(findUser.getId(), Status.active(), pageable);
+    }
+
     @Transactional(readOnly = true)
     public Integer getFeedAllActiveCommentsCount(Feed feedId) {
         return commentRepository.countCommentByFeedId(feedId);
@@ -141,4 +159,22 @@ public class CommentService {
         Feed foundFeed = feedService.findOneFeed(feedId);
         return commentRepository.findAllByFeedId(foundFeed);
     }
+
+    private void validatePageableAndFeedId(Pageable pageable, Long feedId) {
+        if (pageable == null) {
+            throw new IllegalArgumentException("[CommentService] Pageable이 유효하지 않습니다.");
+        }
+        if (feedId == null || feedId <= 0L) {
+            throw new IllegalArgumentException("[CommentService] 해당 댓글 ID가 유효하지 않습니다.");
+        }
+    }
+
+    private void validatePageableAndUserId(Pageable pageable, Long userId) {
+        if (pageable == null) {
+            throw new IllegalArgumentException("[CommentService] Pageable이 유효하지 않습니다.");
+        }
+        if (userId == null || userId <= 0L) {
+            throw new IllegalArgumentException("[CommentService] 해당 댓글 ID가 유효하지 않습니다.");
+        }
+    }
 }
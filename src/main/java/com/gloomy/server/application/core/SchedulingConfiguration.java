@@ -0,0 +1,28 @@
+package com.gloomy.server.application.core;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * @Scheduled 작업이 함께 쓰는 스케줄러. 하트비트, 토큰 동기화, 로그아웃 작업 배분, 통계 로그처럼 짧게 끝나는 작업만 돌린다.
+ * 오래 걸릴 수 있는 작업(알림 outbox 처리, S3 대기열 재시도, 알림 보관 정리)은 주기마다 자기 전용 스레드에 넘기기만 하므로
+ * 짧은 작업이 그 뒤에서 기다리지 않는다. 피드 인덱스 재구축과 피드 카운터 재계산은 드물게 돌지만 길 수 있으므로,
+ * 둘이 겹쳐도 짧은 작업에 스레드가 남도록 기본 크기를 4로 둔다.
+ */
+@EnableScheduling
+@Configuration
+public class SchedulingConfiguration {
+    @Value("${scheduling.pool-size:4}")
+    private int poolSize;
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(poolSize);
+        taskScheduler.setThreadNamePrefix("scheduler-");
+        return taskScheduler;
+    }
+}
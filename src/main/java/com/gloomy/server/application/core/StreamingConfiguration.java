@@ -0,0 +1,45 @@
+package com.gloomy.server.application.core;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 스트리밍 응답(StreamingResponseWriter)만 쓰는 실행기. MVC 전역 비동기 실행기는 건드리지 않는다.
+ * 실행기 빈이 하나라도 있으면 스프링 부트가 기본 applicationTaskExecutor를 만들지 않으므로, 같은 설정(spring.task.execution.*)으로 직접 등록해
+ * 다른 비동기 요청은 전과 같은 실행기를 쓰게 한다.
+ */
+@Configuration
+public class StreamingConfiguration {
+    @Value("${streaming.pool-size:4}")
+    private int poolSize;
+
+    @Value("${streaming.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Lazy
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor streamingTaskExecutor() {
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(poolSize);
+        taskExecutor.setMaxPoolSize(poolSize);
+        taskExecutor.setQueueCapacity(queueCapacity);
+        // 대기열이 차면 TaskRejectedException을 던져 503으로 돌려준다
+        taskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        taskExecutor.setThreadNamePrefix("streaming-");
+        return taskExecutor;
+    }
+}
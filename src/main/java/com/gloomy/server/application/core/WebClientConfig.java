@@ -4,6 +4,7 @@ import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
@@ -12,11 +13,19 @@ import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * 외부 API(카카오, 닉네임 등) 호출에 쓰는 WebClient 설정.
+ * 모든 호출이 하나의 커넥션 풀과 DNS 캐시를 공유하므로, 서비스에서는 WebClient.builder()로 새로 만들지 말고
+ * 이 빈을 주입받아 써야 한다.
+ */
 @Slf4j
 @Configuration
 public class WebClientConfig {
@@ -24,8 +33,51 @@ public class WebClientConfig {
     private final int MAX_IN_MEMORY_SIZE = 1024*1024*50;
     private final int TIMEOUT_MILLISECONDS = 5000;
 
+    @Value("${webclient.pool.max-connections:100}")
+    private int maxConnections;
+
+    @Value("${webclient.pool.pending-acquire-max-count:500}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${webclient.pool.pending-acquire-timeout-ms:2000}")
+    private long pendingAcquireTimeoutMs;
+
+    @Value("${webclient.pool.max-idle-time-ms:30000}")
+    private long maxIdleTimeMs;
+
+    @Value("${webclient.pool.max-life-time-ms:300000}")
+    private long maxLifeTimeMs;
+
+    @Value("${webclient.dns.cache-max-ttl-seconds:60}")
+    private long dnsCacheMaxTtlSeconds;
+
+    @Value("${webclient.dns.cache-negative-ttl-seconds:5}")
+    private long dnsCacheNegativeTtlSeconds;
+
+    @Value("${login.scheduler.thread-cap:10}")
+    private int loginThreadCap;
+
+    @Value("${login.scheduler.queued-task-cap:1000}")
+    private int loginQueuedTaskCap;
+
+    /**
+     * 호스트별로 커넥션을 재사용하는 풀. 유휴 커넥션은 서버가 먼저 끊기 전에 백그라운드에서 정리한다.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider connectionProvider(WebClientPoolMetrics poolMetrics) {
+        return ConnectionProvider.builder("outbound")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .maxLifeTime(Duration.ofMillis(maxLifeTimeMs))
+                .evictInBackground(Duration.ofMillis(maxIdleTimeMs))
+                .metrics(true, () -> poolMetrics)
+                .build();
+    }
+
     @Bean
-    public WebClient webClient() {
+    public WebClient webClient(ConnectionProvider connectionProvider) {
 
         ExchangeStrategies exchangeStrategies = ExchangeStrategies.builder()
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(MAX_IN_MEMORY_SIZE))
@@ -38,7 +90,10 @@ public class WebClientConfig {
         return WebClient.builder()
                 .clientConnector(
                         new ReactorClientHttpConnector(
-                                HttpClient.create()
+                                HttpClient.create(connectionProvider)
+                                        .resolver(spec -> spec
+                                                .cacheMaxTimeToLive(Duration.ofSeconds(dnsCacheMaxTtlSeconds))
+                                                .cacheNegativeTimeToLive(Duration.ofSeconds(dnsCacheNegativeTtlSeconds)))
                                         .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, TIMEOUT_MILLISECONDS)
                                         .responseTimeout(Duration.ofMillis(TIMEOUT_MILLISECONDS))
                                         .doOnConnected(conn ->
@@ -64,4 +119,13 @@ public class WebClientConfig {
                 .defaultHeader("user-agent", "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_14_6) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/78.0.3904.87 Safari/537.3")
                 .build();
     }
+
+    /**
+     * 외부 API 응답을 받은 뒤 DB 작업처럼 블로킹되는 로그인 처리를 돌리는 스케줄러.
+     * 스레드 수를 커넥션 풀 크기 이하로 묶어 가입이 몰려도 톰캣 스레드와 DB 커넥션이 고갈되지 않게 한다.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler loginScheduler() {
+        return Schedulers.newBoundedElastic(loginThreadCap, loginQueuedTaskCap, "login");
+    }
 }
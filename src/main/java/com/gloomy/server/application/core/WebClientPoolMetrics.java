@@ -0,0 +1,40 @@
+package com.gloomy.server.application.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * WebClient 커넥션 풀의 호스트별 상태(사용 중, 할당, 유휴, 대기)를 모아 두는 레지스트라.
+ * reactor-netty가 호스트마다 풀을 만들 때 registerMetrics를 호출한다.
+ */
+@Slf4j
+@Component
+public class WebClientPoolMetrics implements ConnectionProvider.MeterRegistrar {
+    private final Map<String, ConnectionPoolMetrics> pools = new ConcurrentHashMap<>();
+
+    @Override
+    public void registerMetrics(String poolName, String id, SocketAddress remoteAddress, ConnectionPoolMetrics metrics) {
+        pools.put(poolName + "/" + remoteAddress, metrics);
+    }
+
+    public Map<String, ConnectionPoolMetrics> pools() {
+        return Collections.unmodifiableMap(new TreeMap<>(pools));
+    }
+
+    @Scheduled(fixedDelayString = "${webclient.pool.stats-log-delay-ms:600000}",
+            initialDelayString = "${webclient.pool.stats-log-delay-ms:600000}")
+    public void logStats() {
+        pools().forEach((pool, metrics) ->
+                log.info("[WebClientPool] pool={}, acquired={}, allocated={}, idle={}, pending={}",
+                        pool, metrics.acquiredSize(), metrics.allocatedSize(), metrics.idleSize(), metrics.pendingAcquireSize()));
+    }
+}
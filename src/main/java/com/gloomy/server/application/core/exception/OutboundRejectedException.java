@@ -0,0 +1,11 @@
+package com.gloomy.server.application.core.exception;
+
+/**
+ * 외부 호출을 보내지 않고 거절했을 때 던진다. 회로가 열렸거나, 동시 호출 수가 가득 찼거나, 요청에 남은 시간이 없는 경우다.
+ */
+public class OutboundRejectedException extends RuntimeException {
+
+    public OutboundRejectedException(String message) {
+        super(message);
+    }
+}
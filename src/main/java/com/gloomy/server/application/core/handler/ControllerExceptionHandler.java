@@ -1,8 +1,10 @@
 package com.gloomy.server.application.core.handler;
 
+import com.gloomy.server.application.core.exception.OutboundRejectedException;
 import com.gloomy.server.application.core.response.ErrorResponse;
 import com.gloomy.server.application.core.response.RequestContext;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
@@ -13,6 +15,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.net.BindException;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @RestControllerAdvice
@@ -38,6 +41,27 @@ public class ControllerExceptionHandler {
         return new ErrorResponse<>(HttpStatus.BAD_REQUEST.value(), e.getMessage(), requestContext.getRequestBody());
     }
 
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(OutboundRejectedException.class)
+    public ErrorResponse<?> handlerOutboundRejectedException(OutboundRejectedException e) {
+        log.warn(e.getMessage());
+        return new ErrorResponse<>(HttpStatus.SERVICE_UNAVAILABLE.value(), e.getMessage(), requestContext.getRequestBody());
+    }
+
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(TaskRejectedException.class)
+    public ErrorResponse<?> handlerTaskRejectedException(TaskRejectedException e) {
+        log.warn("비동기 작업 대기열이 가득 찼습니다: {}", e.getMessage());
+        return new ErrorResponse<>(HttpStatus.SERVICE_UNAVAILABLE.value(), e.getMessage(), requestContext.getRequestBody());
+    }
+
+    @ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+    @ExceptionHandler(TimeoutException.class)
+    public ErrorResponse<?> handlerTimeoutException(TimeoutException e) {
+        log.warn("외부 호출 시간 초과: {}", e.getMessage());
+        return new ErrorResponse<>(HttpStatus.GATEWAY_TIMEOUT.value(), e.getMessage(), requestContext.getRequestBody());
+    }
+
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(BindException.class)
     public ErrorResponse<?> handlerBindException(BindException e) {
@@ -13,7 +13,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
 
 import java.io.IOException;
-import java.util.LinkedHashMap;
+import java.util.Map;
 
 @RestControllerAdvice
 public class ControllerHandler implements ResponseBodyAdvice<Object> {
@@ -31,8 +31,13 @@ public class ControllerHandler implements ResponseBodyAdvice<Object> {
         if (response instanceof ServletServerHttpResponse) {
             status = ((ServletServerHttpResponse) response).getServletResponse().getStatus();
         }
+        if (status == HttpStatus.NOT_MODIFIED.value()) {
+            return null;
+        }
         if (status != HttpStatus.OK.value()) {
-            body = ((LinkedHashMap<?, ?>) body).get("error");
+            if (body instanceof Map) {
+                body = ((Map<?, ?>) body).get("error");
+            }
             return new RestResponse<>(status, "실패", body);
         }
         return new RestResponse<>(status, "성공", body);
@@ -0,0 +1,52 @@
+package com.gloomy.server.application.core.resilience;
+
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 요청 하나가 쓸 수 있는 남은 시간. DeadlineFilter가 요청 스레드에 걸어 두고, OutboundGuard는 외부 호출의 타임아웃을
+ * 남은 시간 이하로 줄인다. 요청 스레드를 벗어나는 Reactor 체인에는 propagate로 Context에 담아 넘긴다.
+ */
+public final class Deadline {
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long expiresAtNanos;
+
+    private Deadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    public static Deadline after(Duration budget) {
+        return new Deadline(System.nanoTime() + budget.toNanos());
+    }
+
+    public long remainingMillis() {
+        return Math.max(0, (expiresAtNanos - System.nanoTime()) / 1_000_000);
+    }
+
+    public boolean isExpired() {
+        return expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    public static void set(Deadline deadline) {
+        CURRENT.set(deadline);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 지금 스레드의 Deadline을 Reactor Context에 담는다. 체인을 조립하는 요청 스레드에서 contextWrite에 넘긴다.
+     */
+    public static Function<Context, Context> propagate() {
+        Deadline deadline = current();
+        return context -> deadline == null ? context : context.put(Deadline.class, deadline);
+    }
+}
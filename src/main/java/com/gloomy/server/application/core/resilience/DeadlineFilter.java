@@ -0,0 +1,49 @@
+package com.gloomy.server.application.core.resilience;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 요청마다 Deadline을 건다. 클라이언트가 X-Request-Timeout-Ms로 남은 시간을 보내면 그 값을 쓰되 requestBudgetMs를 넘지 않는다.
+ */
+@Component
+public class DeadlineFilter extends OncePerRequestFilter {
+    public static final String REQUEST_TIMEOUT_HEADER = "X-Request-Timeout-Ms";
+
+    private final long requestBudgetMs;
+
+    public DeadlineFilter(@Value("${outbound.request-budget-ms:10000}") long requestBudgetMs) {
+        this.requestBudgetMs = requestBudgetMs;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Deadline.set(Deadline.after(Duration.ofMillis(budgetOf(request))));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Deadline.clear();
+        }
+    }
+
+    private long budgetOf(HttpServletRequest request) {
+        String header = request.getHeader(REQUEST_TIMEOUT_HEADER);
+        if (header == null) {
+            return requestBudgetMs;
+        }
+        try {
+            return Math.max(0, Math.min(Long.parseLong(header.trim()), requestBudgetMs));
+        } catch (NumberFormatException e) {
+            return requestBudgetMs;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.gloomy.server.application.core.resilience;
+
+import com.amazonaws.AmazonServiceException;
+import com.gloomy.server.application.core.exception.OutboundRejectedException;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+ * 외부 의존성 하나에 대한 동시 호출 제한(bulkhead), 회로 차단기, 타임아웃을 묶은 가드.
+ * <p>
+ * 회로 차단기는 최근 windowSize번의 결과를 돌아가며 기록하고, minCalls번 이상 쌓였을 때 실패율이 failureRateThreshold 이상이면
+ * openMillis 동안 호출을 보내지 않고 바로 거절한다. 그 뒤 halfOpenCalls번을 시험 삼아 보내 모두 성공하면 닫고, 하나라도 실패하면 다시 연다.
+ * 상태가 바뀌기 전에 나간 호출의 결과는 새 상태에 섞이지 않도록 버린다.
+ * 4xx 응답(429 제외)처럼 상대가 정상적으로 답한 거절은 실패로 세지 않는다.
+ * <p>
+ * 호출마다 타임아웃은 timeoutMillis와 요청 Deadline의 남은 시간 중 짧은 쪽이고, 남은 시간이 없으면 보내지 않는다.
+ */
+@Slf4j
+public class OutboundGuard {
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private enum Outcome {
+        SUCCESS, FAILURE, TIMEOUT, IGNORED
+    }
+
+    private final String name;
+    private final int maxConcurrent;
+    private final Semaphore bulkhead;
+    private final long timeoutMillis;
+    private final boolean[] window;
+    private final int minCalls;
+    private final double failureRateThreshold;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final AtomicLong successCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong openRejectedCount = new AtomicLong();
+    private final AtomicLong bulkheadRejectedCount = new AtomicLong();
+    private final AtomicLong deadlineRejectedCount = new AtomicLong();
+
+    private State state = State.CLOSED;
+    private long generation;
+    private long openedAt;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+    private int halfOpenIssued;
+    private int halfOpenSucceeded;
+
+    @Builder
+    public OutboundGuard(String name, int maxConcurrent, long timeoutMillis, int windowSize, int minCalls,
+                         double failureRateThreshold, long openMillis, int halfOpenCalls) {
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.bulkhead = new Semaphore(maxConcurrent);
+        this.timeoutMillis = timeoutMillis;
+        this.window = new boolean[Math.max(windowSize, 1)];
+        this.minCalls = Math.max(Math.min(minCalls, window.length), 1);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openMillis * 1_000_000;
+        this.halfOpenCalls = Math.max(halfOpenCalls, 1);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 블로킹 호출을 가드 안에서 실행한다. action에는 이번 호출에 쓸 타임아웃(밀리초)이 넘어가며, 호출하는 쪽이 직접 적용해야 한다.
+     */
+    public <T> T call(LongFunction<T> action) {
+        Permit permit = admit(Deadline.current());
+        AtomicBoolean finished = new AtomicBoolean();
+        try {
+            T result = action.apply(permit.timeoutMillis);
+            finish(permit, finished, Outcome.SUCCESS);
+            return result;
+        } catch (RuntimeException e) {
+            finish(permit, finished, outcomeOf(e));
+            throw e;
+        } finally {
+            finish(permit, finished, Outcome.IGNORED);
+        }
+    }
+
+    /**
+     * Mono를 구독할 때 가드를 거치게 한다. Deadline은 Reactor Context에 담긴 것을 먼저 보고, 없으면 구독하는 스레드의 것을 쓴다.
+     */
+    public <T> Mono<T> guard(Mono<T> mono) {
+        return Mono.deferContextual(context -> {
+            Permit permit;
+            try {
+                permit = admit(context.getOrDefault(Deadline.class, Deadline.current()));
+            } catch (OutboundRejectedException e) {
+                return Mono.error(e);
+            }
+            AtomicBoolean finished = new AtomicBoolean();
+            return mono.timeout(Duration.ofMillis(permit.timeoutMillis))
+                    .doOnSuccess(value -> finish(permit, finished, Outcome.SUCCESS))
+                    .doOnError(e -> finish(permit, finished, outcomeOf(e)))
+                    .doOnCancel(() -> finish(permit, finished, Outcome.IGNORED));
+        });
+    }
+
+    public synchronized OutboundGuardStats stats() {
+        double failureRate = windowCount == 0 ? 0 : (double) windowFailures / windowCount;
+        return new OutboundGuardStats(name, currentState(), failureRate, maxConcurrent - bulkhead.availablePermits(),
+                successCount.get(), failureCount.get(), timeoutCount.get(),
+                openRejectedCount.get(), bulkheadRejectedCount.get(), deadlineRejectedCount.get());
+    }
+
+    private Permit admit(Deadline deadline) {
+        long timeout = deadline == null ? timeoutMillis : Math.min(timeoutMillis, deadline.remainingMillis());
+        if (timeout <= 0) {
+            deadlineRejectedCount.incrementAndGet();
+            throw new OutboundRejectedException("[OutboundGuard] " + name + " 호출에 남은 시간이 없습니다.");
+        }
+        if (!bulkhead.tryAcquire()) {
+            bulkheadRejectedCount.incrementAndGet();
+            throw new OutboundRejectedException("[OutboundGuard] " + name + " 동시 호출 수가 가득 찼습니다.");
+        }
+        long permittedGeneration = acquirePermission();
+        if (permittedGeneration < 0) {
+            bulkhead.release();
+            openRejectedCount.incrementAndGet();
+            throw new OutboundRejectedException("[OutboundGuard] " + name + " 회로가 열려 있습니다.");
+        }
+        return new Permit(timeout, permittedGeneration);
+    }
+
+    private synchronized long acquirePermission() {
+        if (currentState() == State.OPEN) {
+            return -1;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenIssued >= halfOpenCalls) {
+                return -1;
+            }
+            halfOpenIssued++;
+        }
+        return generation;
+    }
+
+    private void finish(Permit permit, AtomicBoolean finished, Outcome outcome) {
+        if (!finished.compareAndSet(false, true)) {
+            return;
+        }
+        bulkhead.release();
+        if (outcome == Outcome.SUCCESS) {
+            successCount.incrementAndGet();
+        } else if (outcome == Outcome.FAILURE) {
+            failureCount.incrementAndGet();
+        } else if (outcome == Outcome.TIMEOUT) {
+            failureCount.incrementAndGet();
+            timeoutCount.incrementAndGet();
+        }
+        record(outcome, permit.generation);
+    }
+
+    private synchronized void record(Outcome outcome, long permittedGeneration) {
+        if (permittedGeneration != generation) {
+            return;
+        }
+        boolean failed = outcome == Outcome.FAILURE || outcome == Outcome.TIMEOUT;
+        if (state == State.HALF_OPEN) {
+            if (outcome == Outcome.IGNORED) {
+                halfOpenIssued--;
+            } else if (failed) {
+                transition(State.OPEN);
+            } else if (++halfOpenSucceeded >= halfOpenCalls) {
+                transition(State.CLOSED);
+            }
+            return;
+        }
+        if (outcome == Outcome.IGNORED) {
+            return;
+        }
+        if (windowCount == window.length) {
+            windowFailures -= window[windowIndex] ? 1 : 0;
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failed;
+        windowFailures += failed ? 1 : 0;
+        windowIndex = (windowIndex + 1) % window.length;
+        if (windowCount >= minCalls && (double) windowFailures / windowCount >= failureRateThreshold) {
+            transition(State.OPEN);
+        }
+    }
+
+    /**
+     * 열린 지 openMillis가 지났으면 반쯤 연 상태로 바꾼 뒤 현재 상태를 돌려준다.
+     */
+    private State currentState() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+            transition(State.HALF_OPEN);
+        }
+        return state;
+    }
+
+    private void transition(State next) {
+        log.warn("[OutboundGuard] {} 회로 상태 변경: {} -> {}", name, state, next);
+        state = next;
+        generation++;
+        openedAt = System.nanoTime();
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+        halfOpenIssued = 0;
+        halfOpenSucceeded = 0;
+    }
+
+    private static Outcome outcomeOf(Throwable e) {
+        Throwable cause = Exceptions.unwrap(e);
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof TimeoutException) {
+            return Outcome.TIMEOUT;
+        }
+        if (cause instanceof WebClientResponseException) {
+            HttpStatus status = HttpStatus.resolve(((WebClientResponseException) cause).getRawStatusCode());
+            return isPeerRejection(status) ? Outcome.SUCCESS : Outcome.FAILURE;
+        }
+        if (cause instanceof AmazonServiceException) {
+            HttpStatus status = HttpStatus.resolve(((AmazonServiceException) cause).getStatusCode());
+            return isPeerRejection(status) ? Outcome.SUCCESS : Outcome.FAILURE;
+        }
+        return Outcome.FAILURE;
+    }
+
+    private static boolean isPeerRejection(HttpStatus status) {
+        return status != null && status.is4xxClientError() && status != HttpStatus.TOO_MANY_REQUESTS;
+    }
+
+    private static class Permit {
+        private final long timeoutMillis;
+        private final long generation;
+
+        private Permit(long timeoutMillis, long generation) {
+            this.timeoutMillis = timeoutMillis;
+            this.generation = generation;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.gloomy.server.application.core.resilience;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OutboundGuardStats {
+    private final String name;
+    private final OutboundGuard.State state;
+    private final double failureRate;
+    private final int inFlight;
+    private final long successCount;
+    private final long failureCount;
+    private final long timeoutCount;
+    private final long openRejectedCount;
+    private final long bulkheadRejectedCount;
+    private final long deadlineRejectedCount;
+}
@@ -0,0 +1,83 @@
+package com.gloomy.server.application.core.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 외부 의존성별 OutboundGuard를 만들어 보관한다. 설정은 outbound.{name}.*에서 읽고, 없으면 outbound.default.*, 그것도 없으면 기본값을 쓴다.
+ */
+@Slf4j
+@Component
+public class OutboundGuards {
+    public static final String KAKAO = "kakao";
+    public static final String NICKNAME = "nickname";
+    public static final String S3 = "s3";
+    public static final String S3_SPOOL = "s3-spool";
+    public static final String FIREBASE = "firebase";
+
+    private final Environment environment;
+    private final Map<String, OutboundGuard> guards = new ConcurrentHashMap<>();
+
+    public OutboundGuards(Environment environment) {
+        this.environment = environment;
+    }
+
+    public OutboundGuard get(String name) {
+        return guards.computeIfAbsent(name, key -> create(key, null));
+    }
+
+    /**
+     * 가드가 아직 없으면 timeout-ms 기본값을 defaultTimeoutMillis로 만든다. 클라이언트 자체 타임아웃이 더 긴 의존성이
+     * outbound.default.timeout-ms에 잘려 나가지 않게 하기 위함이며, outbound.{name}.timeout-ms가 있으면 그 값이 우선한다.
+     */
+    public OutboundGuard get(String name, long defaultTimeoutMillis) {
+        return guards.computeIfAbsent(name, key -> create(key, defaultTimeoutMillis));
+    }
+
+    public List<OutboundGuardStats> stats() {
+        return guards.values().stream()
+                .map(OutboundGuard::stats)
+                .sorted((a, b) -> a.getName().compareTo(b.getName()))
+                .collect(Collectors.toList());
+    }
+
+    @Scheduled(fixedDelayString = "${outbound.stats-log-delay-ms:600000}",
+            initialDelayString = "${outbound.stats-log-delay-ms:600000}")
+    public void logStats() {
+        for (OutboundGuardStats stats : stats()) {
+            log.info("[OutboundGuard] name={}, state={}, failureRate={}, inFlight={}, success={}, failure={}, timeout={}, openRejected={}, bulkheadRejected={}, deadlineRejected={}",
+                    stats.getName(), stats.getState(), String.format("%.3f", stats.getFailureRate()), stats.getInFlight(),
+                    stats.getSuccessCount(), stats.getFailureCount(), stats.getTimeoutCount(),
+                    stats.getOpenRejectedCount(), stats.getBulkheadRejectedCount(), stats.getDeadlineRejectedCount());
+        }
+    }
+
+    private OutboundGuard create(String name, Long defaultTimeoutMillis) {
+        Long timeoutMillis = environment.getProperty("outbound." + name + ".timeout-ms", Long.class, defaultTimeoutMillis);
+        return OutboundGuard.builder()
+                .name(name)
+                .maxConcurrent(property(name, "max-concurrent", Integer.class, 20))
+                .timeoutMillis(timeoutMillis != null ? timeoutMillis : property(name, "timeout-ms", Long.class, 5000L))
+                .windowSize(property(name, "window-size", Integer.class, 20))
+                .minCalls(property(name, "min-calls", Integer.class, 10))
+                .failureRateThreshold(property(name, "failure-rate-threshold", Double.class, 0.5))
+                .openMillis(property(name, "open-ms", Long.class, 30000L))
+                .halfOpenCalls(property(name, "half-open-calls", Integer.class, 3))
+                .build();
+    }
+
+    private <T> T property(String name, String key, Class<T> type, T defaultValue) {
+        T value = environment.getProperty("outbound." + name + "." + key, type);
+        if (value != null) {
+            return value;
+        }
+        return environment.getProperty("outbound.default." + key, type, defaultValue);
+    }
+}
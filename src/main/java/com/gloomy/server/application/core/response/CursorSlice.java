@@ -0,0 +1,22 @@
+package com.gloomy.server.application.core.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CursorSlice<T> {
+    private final List<T> content;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    public CursorSlice(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+    public <R> CursorSlice<R> withContent(List<R> content) {
+        return new CursorSlice<>(content, nextCursor);
+    }
+}
@@ -0,0 +1,79 @@
+package com.gloomy.server.application.core.response;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 조회 응답의 ETag를 만들기 위한 자원별 버전 번호.
+ * 자원이 바뀔 때 touch로 버전을 올리고, 응답 본문을 만들지 않고도 버전만으로 ETag를 계산한다.
+ * <p>
+ * 버전은 (자원, ID)를 해시한 칸에 저장하므로 서로 다른 자원이 같은 칸을 쓸 수 있다. 이때는 ETag가 필요 이상으로 바뀔 뿐 틀린 304를 주지는 않는다.
+ * 서버가 다시 뜨면 버전이 처음부터 시작하므로 ETag에 기동할 때마다 바뀌는 epoch를 붙인다.
+ */
+@Component
+public class ResourceVersions {
+    public static final String FEED = "feed";
+    public static final String FEEDS = "feeds";
+    public static final String HIDDEN_FEEDS = "hidden-feeds";
+    public static final String COMMENTS = "comments";
+    public static final String NOTICES = "notices";
+    public static final long ALL = 0L;
+
+    private static final int STRIPES = 8192;
+
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final AtomicLongArray versions = new AtomicLongArray(STRIPES);
+
+    /**
+     * 버전을 바로 올리고, 현재 트랜잭션이 끝난 뒤에 한 번 더 올린다.
+     * 커밋 전에 읽힌 이전 내용이 새 버전의 ETag로 캐시되는 일을 막기 위함이다.
+     */
+    public void touch(String resource, Long id) {
+        versions.incrementAndGet(stripeOf(resource, id));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                versions.incrementAndGet(stripeOf(resource, id));
+            }
+        });
+    }
+
+    public void touchAll() {
+        for (int i = 0; i < STRIPES; i++) {
+            versions.incrementAndGet(i);
+        }
+    }
+
+    public long version(String resource, Long id) {
+        return versions.get(stripeOf(resource, id));
+    }
+
+    public String etag(String resource, Long id) {
+        return "\"" + epoch + "-" + part(resource, id) + "\"";
+    }
+
+    public String etag(String resource, Long id, String otherResource, Long otherId) {
+        return "\"" + epoch + "-" + part(resource, id) + "-" + part(otherResource, otherId) + "\"";
+    }
+
+    private String part(String resource, Long id) {
+        return resource + "." + idOf(id) + "." + version(resource, id);
+    }
+
+    private static int stripeOf(String resource, Long id) {
+        int hash = 31 * resource.hashCode() + Long.hashCode(idOf(id));
+        hash ^= hash >>> 16;
+        return hash & (STRIPES - 1);
+    }
+
+    private static long idOf(Long id) {
+        return id == null ? ALL : id;
+    }
+}
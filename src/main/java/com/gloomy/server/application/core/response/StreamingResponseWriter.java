@@ -0,0 +1,143 @@
+package com.gloomy.server.application.core.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gloomy.server.application.core.util.LocalDateTimeUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * CursorSlice 목록을 RestResponse와 같은 모양으로 항목마다 바로 써 내려간다.
+ * 한 번에 chunkSize개씩만 읽고 쓰므로 전체 결과 크기와 관계없이 요청당 메모리 사용량이 일정하다.
+ * 첫 묶음은 요청 스레드에서 읽어, 잘못된 커서나 파라미터는 평소처럼 오류 응답으로 돌려준다.
+ * 그 뒤 조회가 실패하면 JSON을 닫지 않은 채 멈춰, 클라이언트가 잘린 목록을 정상 응답으로 받지 않게 한다.
+ * <p>
+ * 나머지 묶음은 MVC 전역 비동기 실행기가 아닌 스트리밍 전용 실행기(streamingTaskExecutor)에서 써서, 스트리밍 요청이 몰려도
+ * 다른 비동기 요청에는 영향을 주지 않는다. 한 요청이 쓸 수 있는 항목 수는 maxLimit까지다.
+ */
+@Slf4j
+@Component
+public class StreamingResponseWriter {
+    private final ObjectMapper objectMapper;
+    private final TaskExecutor taskExecutor;
+    private final long timeoutMillis;
+    private final int maxLimit;
+
+    public StreamingResponseWriter(ObjectMapper objectMapper,
+                                   @Qualifier("streamingTaskExecutor") TaskExecutor taskExecutor,
+                                   @Value("${streaming.timeout-ms:300000}") long timeoutMillis,
+                                   @Value("${streaming.max-limit:1000}") int maxLimit) {
+        this.objectMapper = objectMapper;
+        this.taskExecutor = taskExecutor;
+        this.timeoutMillis = timeoutMillis;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * 첫 묶음을 읽은 뒤 나머지를 스트리밍 전용 실행기에서 써 내려가는 응답을 돌려준다.
+     * 실행기 대기열이 가득 차면 TaskRejectedException을 던져 503으로 돌려준다.
+     */
+    public <T> ResponseBodyEmitter streamCursorSlices(CursorSliceReader<T> reader, String cursor, int chunkSize, int limit) {
+        StreamingResponseBody body = writeCursorSlices(reader, cursor, chunkSize, limit);
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeoutMillis);
+        taskExecutor.execute(() -> {
+            try {
+                body.writeTo(new EmitterOutputStream(emitter));
+                emitter.complete();
+            } catch (IOException | RuntimeException e) {
+                emitter.completeWithError(e);
+            }
+        });
+        return emitter;
+    }
+
+    public <T> StreamingResponseBody writeCursorSlices(CursorSliceReader<T> reader, String cursor, int chunkSize, int limit) {
+        if (chunkSize <= 0 || limit <= 0) {
+            throw new IllegalArgumentException("[StreamingResponseWriter] 조회 개수가 유효하지 않습니다.");
+        }
+        int maxCount = Math.min(limit, maxLimit);
+        int firstSize = Math.min(chunkSize, maxCount);
+        CursorSlice<T> firstSlice = reader.read(cursor, firstSize);
+        return outputStream -> write(outputStream, reader, firstSlice, firstSize, chunkSize, maxCount);
+    }
+
+    private <T> void write(OutputStream outputStream, CursorSliceReader<T> reader, CursorSlice<T> firstSlice,
+                           int firstSize, int chunkSize, int limit) throws IOException {
+        JsonGenerator generator = objectMapper.createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        generator.writeStartObject();
+        generator.writeNumberField("code", HttpStatus.OK.value());
+        generator.writeStringField("message", "성공");
+        generator.writeObjectFieldStart("result");
+        generator.writeArrayFieldStart("content");
+
+        CursorSlice<T> slice = firstSlice;
+        int requested = firstSize;
+        while (true) {
+            for (T item : slice.getContent()) {
+                generator.writeObject(item);
+            }
+            generator.flush();
+            if (!slice.isHasNext() || requested >= limit) {
+                break;
+            }
+            int size = Math.min(chunkSize, limit - requested);
+            try {
+                slice = reader.read(slice.getNextCursor(), size);
+            } catch (RuntimeException e) {
+                log.error("[StreamingResponseWriter] 스트리밍 도중 조회에 실패했습니다.", e);
+                generator.flush();
+                throw e;
+            }
+            requested += size;
+        }
+
+        generator.writeEndArray();
+        generator.writeStringField("nextCursor", slice.getNextCursor());
+        generator.writeBooleanField("hasNext", slice.isHasNext());
+        generator.writeEndObject();
+        generator.writeStringField("responseTime", LocalDateTimeUtil.getLocalDateTimeNowStringPattern("yyyy-MM-dd hh:mm:ss"));
+        generator.writeEndObject();
+        generator.close();
+    }
+
+    @FunctionalInterface
+    public interface CursorSliceReader<T> {
+        CursorSlice<T> read(String cursor, int size);
+    }
+
+    /**
+     * JsonGenerator가 내보내는 바이트를 그대로 ResponseBodyEmitter로 보낸다. 생성기가 자체 버퍼를 두므로 묶음 단위로 전달된다.
+     */
+    private static class EmitterOutputStream extends OutputStream {
+        private final ResponseBodyEmitter emitter;
+
+        private EmitterOutputStream(ResponseBodyEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            emitter.send(new byte[]{(byte) b}, MediaType.APPLICATION_JSON);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (length > 0) {
+                emitter.send(Arrays.copyOfRange(bytes, offset, offset + length), MediaType.APPLICATION_JSON);
+            }
+        }
+    }
+}
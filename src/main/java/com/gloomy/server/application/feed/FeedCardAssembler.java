@@ -0,0 +1,156 @@
+package com.gloomy.server.application.feed;
+
+import com.gloomy.server.application.core.response.CursorSlice;
+import com.gloomy.server.application.feed.card.FeedCardCache;
+import com.gloomy.server.application.image.ImageService;
+import com.gloomy.server.application.image.Images;
+import com.gloomy.server.domain.common.entity.Status;
+import com.gloomy.server.domain.feed.Feed;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 피드 목록 응답을 만든다.
+ * 이미지는 피드마다 조회하지 않고 페이지 단위로 한 번만 조회하며, 좋아요 수와 댓글 수는 피드의 카운터를 사용한다.
+ * 목록은 엔티티 대신 FeedCardRow로 읽고, 만든 카드는 FeedCardCache에 넣어 두어 캐시에 없는 피드만 새로 만든다.
+ */
+@Component
+public class FeedCardAssembler {
+    private static final String ACTIVE = Status.active().toString();
+
+    private final ImageService imageService;
+    private final FeedService feedService;
+    private final FeedCardCache feedCardCache;
+
+    public FeedCardAssembler(ImageService imageService, FeedService feedService, FeedCardCache feedCardCache) {
+        this.imageService = imageService;
+        this.feedService = feedService;
+        this.feedCardCache = feedCardCache;
+    }
+
+    @Transactional(readOnly = true)
+    public Page<FeedDTO.Response> makeActiveFeedPage(Page<Long> feedIds) {
+        return new PageImpl<>(makeFeedCards(feedIds.getContent(), true));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorSlice<FeedDTO.Response> makeActiveFeedSlice(CursorSlice<Long> feedIds) {
+        return feedIds.withContent(makeFeedCards(feedIds.getContent(), true));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<FeedDTO.Response> makeFeedPage(Page<Long> feedIds) {
+        return new PageImpl<>(makeFeedCards(feedIds.getContent(), false));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorSlice<FeedDTO.Response> makeFeedSlice(CursorSlice<Long> feedIds) {
+        return feedIds.withContent(makeFeedCards(feedIds.getContent(), false));
+    }
+
+    @Transactional(readOnly = true)
+    public FeedDTO.Response makeFeedDTOResponse(Feed feed) {
+        return makeFeedDTOResponses(List.of(feed)).get(0);
+    }
+
+    @Transactional(readOnly = true)
+    public FeedDTO.Response findFeedDTOResponse(Long feedId) {
+        FeedDTO.Response cachedCard = feedCardCache.get(feedId);
+        if (cachedCard != null) {
+            return cachedCard;
+        }
+        long version = feedCardCache.version(feedId);
+        FeedCardRow row = feedService.findFeedCardRow(feedId);
+        List<String> imageURLs = imageService.findAllActiveImageURLs(List.of(feedId)).getOrDefault(feedId, new ArrayList<>());
+        FeedDTO.Response card = FeedDTO.Response.of(row, imageURLs);
+        feedCardCache.put(feedId, version, card);
+        return card;
+    }
+
+    /**
+     * 피드 ID 순서대로 카드를 만들고, activeOnly이면 그 사이 삭제되거나 숨겨진 피드는 뺀다.
+     */
+    private List<FeedDTO.Response> makeFeedCards(List<Long> feedIds, boolean activeOnly) {
+        List<FeedDTO.Response> result = new ArrayList<>();
+        for (FeedDTO.Response card : loadFeedCards(feedIds)) {
+            if (card != null && (!activeOnly || ACTIVE.equals(card.getStatus()))) {
+                result.add(card);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 이미 읽어 둔 피드 엔티티의 카드를 만든다. 엔티티는 캐시 버전을 받기 전에 읽혔으므로 캐시에 넣을 카드는
+     * 버전을 받은 뒤 FeedCardRow로 다시 읽어 만들고, 행이 없는 피드만 엔티티로 만들어 캐시에 넣지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public List<FeedDTO.Response> makeFeedDTOResponses(List<Feed> feeds) {
+        List<Long> feedIds = new ArrayList<>();
+        for (Feed feed : feeds) {
+            feedIds.add(feed.getId());
+        }
+        FeedDTO.Response[] cards = loadFeedCards(feedIds);
+        List<Feed> missedFeeds = new ArrayList<>();
+        for (int i = 0; i < feeds.size(); i++) {
+            if (cards[i] == null) {
+                missedFeeds.add(feeds.get(i));
+            }
+        }
+        if (!missedFeeds.isEmpty()) {
+            Map<Long, Images> activeImages = imageService.findAllActiveImages(missedFeeds);
+            for (int i = 0; i < feeds.size(); i++) {
+                if (cards[i] == null) {
+                    cards[i] = makeCard(feeds.get(i), activeImages);
+                }
+            }
+        }
+        return new ArrayList<>(List.of(cards));
+    }
+
+    /**
+     * 피드 ID 순서대로 카드를 채운다. 캐시에 없는 피드는 버전을 먼저 받은 뒤 필요한 컬럼만 한 번에 읽어 오고,
+     * 행이 없는 피드 자리는 null로 남긴다.
+     */
+    private FeedDTO.Response[] loadFeedCards(List<Long> feedIds) {
+        FeedDTO.Response[] cards = new FeedDTO.Response[feedIds.size()];
+        Map<Long, Long> versions = new HashMap<>();
+        for (int i = 0; i < feedIds.size(); i++) {
+            Long feedId = feedIds.get(i);
+            cards[i] = feedCardCache.get(feedId);
+            if (cards[i] == null) {
+                versions.put(feedId, feedCardCache.version(feedId));
+            }
+        }
+        if (versions.isEmpty()) {
+            return cards;
+        }
+        Map<Long, FeedCardRow> rows = new HashMap<>();
+        for (FeedCardRow row : feedService.findFeedCardRows(versions.keySet())) {
+            rows.put(row.getId(), row);
+        }
+        Map<Long, List<String>> imageURLs = imageService.findAllActiveImageURLs(versions.keySet());
+        for (int i = 0; i < feedIds.size(); i++) {
+            FeedCardRow row = rows.get(feedIds.get(i));
+            if (cards[i] == null && row != null) {
+                cards[i] = FeedDTO.Response.of(row, imageURLs.getOrDefault(row.getId(), new ArrayList<>()));
+                feedCardCache.put(row.getId(), versions.get(row.getId()), cards[i]);
+            }
+        }
+        return cards;
+    }
+
+    private FeedDTO.Response makeCard(Feed feed, Map<Long, Images> activeImages) {
+        return FeedDTO.Response.of(feed,
+                activeImages.getOrDefault(feed.getId(), new Images()),
+                feed.getLikeCount(),
+                feed.getCommentCount());
+    }
+}
@@ -0,0 +1,46 @@
+package com.gloomy.server.application.feed;
+
+import com.gloomy.server.domain.common.entity.Status;
+import com.gloomy.server.domain.feed.Category;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 피드 카드를 만드는 데 필요한 컬럼만 읽어 온 읽기 전용 행. 엔티티를 거치지 않으므로 영속성 컨텍스트에 남지 않는다.
+ */
+@Getter
+public class FeedCardRow {
+    private final Long id;
+    private final String ip;
+    private final Long userId;
+    private final String nickname;
+    private final String password;
+    private final Category category;
+    private final String title;
+    private final String content;
+    private final Integer likeCount;
+    private final Integer commentCount;
+    private final Status status;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final LocalDateTime deletedAt;
+
+    public FeedCardRow(Long id, String ip, Long userId, String nickname, String password, Category category, String title, String content,
+                       Integer likeCount, Integer commentCount, Status status, LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime deletedAt) {
+        this.id = id;
+        this.ip = ip;
+        this.userId = userId;
+        this.nickname = nickname;
+        this.password = password;
+        this.category = category;
+        this.title = title;
+        this.content = content;
+        this.likeCount = likeCount;
+        this.commentCount = commentCount;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.deletedAt = deletedAt;
+    }
+}
@@ -0,0 +1,33 @@
+package com.gloomy.server.application.feed;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 피드의 좋아요/댓글/대댓글 카운터를 실제 행 수로 다시 맞춘다.
+ * 피드 ID 구간마다 별도 트랜잭션으로 실행해 잠금이 길게 잡히지 않게 한다.
+ */
+@Slf4j
+@Component
+public class FeedCountReconciler {
+    private final FeedService feedService;
+
+    @Value("${feed.count.reconcile-chunk-size:500}")
+    private long chunkSize;
+
+    public FeedCountReconciler(FeedService feedService) {
+        this.feedService = feedService;
+    }
+
+    @Scheduled(cron = "${feed.count.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        long maxId = feedService.findMaxFeedId();
+        int reconciledCount = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            reconciledCount += feedService.reconcileCounts(fromId, fromId + chunkSize - 1);
+        }
+        log.info("[FeedCountReconciler] 피드 카운터 재계산 완료: {}건", reconciledCount);
+    }
+}
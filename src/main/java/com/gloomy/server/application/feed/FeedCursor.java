@@ -0,0 +1,52 @@
+package com.gloomy.server.application.feed;
+
+import com.gloomy.server.application.feed.sort.FeedSort;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 피드 목록의 다음 조회 위치. (정렬 기준, 정렬 키, 피드 ID)를 base64url 문자열로 주고받는다.
+ * 최신순은 피드 ID, 인기순은 좋아요 수가 정렬 키이다.
+ */
+@Getter
+public class FeedCursor {
+    private static final String DELIMITER = ":";
+
+    private final FeedSort sort;
+    private final long key;
+    private final long id;
+
+    private FeedCursor(FeedSort sort, long key, long id) {
+        this.sort = sort;
+        this.key = key;
+        this.id = id;
+    }
+
+    public static FeedCursor first(FeedSort sort) {
+        return new FeedCursor(sort, Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    public static FeedCursor of(FeedSort sort, long key, long id) {
+        return new FeedCursor(sort, key, id);
+    }
+
+    public static FeedCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] tokens = decoded.split(DELIMITER);
+            if (tokens.length != 3) {
+                throw new IllegalArgumentException();
+            }
+            return new FeedCursor(FeedSort.from(tokens[0]), Long.parseLong(tokens[1]), Long.parseLong(tokens[2]));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("[FeedCursor] cursor가 유효하지 않습니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = sort.getCode() + DELIMITER + key + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -115,5 +115,26 @@ public class FeedDTO {
                     .deletedAt(feed.getDeletedAt().getDeletedAt().toString())
                     .build();
         }
+
+        public static Response of(FeedCardRow row, List<String> imageURLs) {
+            boolean isUserFeed = row.getUserId() != null;
+            return builder()
+                    .id(row.getId())
+                    .ip(row.getIp())
+                    .userId(row.getUserId())
+                    .nickName(isUserFeed ? null : row.getNickname())
+                    .password(isUserFeed ? null : row.getPassword())
+                    .category(row.getCategory().toString())
+                    .title(row.getTitle())
+                    .content(row.getContent())
+                    .likeCount(row.getLikeCount())
+                    .imageURLs(imageURLs)
+                    .commentCount(row.getCommentCount())
+                    .status(row.getStatus().toString())
+                    .createdAt(row.getCreatedAt().toString())
+                    .updatedAt(row.getUpdatedAt().toString())
+                    .deletedAt(row.getDeletedAt().toString())
+                    .build();
+        }
     }
 }
@@ -1,5 +1,6 @@
 package com.gloomy.server.application.feed;
 
+import com.gloomy.server.application.feed.index.FeedIndexRow;
 import com.gloomy.server.domain.common.entity.Status;
 import com.gloomy.server.domain.feed.Category;
 import com.gloomy.server.domain.feed.Feed;
@@ -7,55 +8,95 @@ import com.gloomy.server.domain.user.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface FeedRepository extends JpaRepository<Feed, Long> {
     Page<Feed> findByUserId(Pageable pageable, User userId);
 
     Page<Feed> findAll(Pageable pageable);
 
-    Page<Feed> findByStatusOrderByCreatedAtDesc(Pageable pageable, Status status);
-
-    Page<Feed> findByStatusAndCategoryOrderByCreatedAtDesc(Pageable pageable, Status status, Category category);
-
-    @Query(value = "select * from feed f" +
-            "   left outer join (select feed_id as id, count(*) as like_count from feed_like group by id order by count(id)) as fl" +
-            "   on f.id = fl.id" +
-            "   where f.status = :#{#status?.getCode()}" +
-            "   order by fl.like_count desc, f.id desc", nativeQuery = true)
-    Page<Feed> findByStatusOrderByLikeCount(Pageable pageable, Status status);
-
-    @Query(value = "select * from feed f" +
-            "   left outer join (select feed_id as id, count(*) as like_count from feed_like group by id order by count(id)) as fl" +
-            "   on f.id = fl.id" +
-            "   where f.status = :#{#status?.getCode()}" +
-            "   and f.category = :#{#category?.getCode()}" +
-            "   order by fl.like_count desc, f.id desc", nativeQuery = true)
-    Page<Feed> findByStatusAndCategoryOrderByLikeCount(Pageable pageable, Status status, Category category);
-
-    @Query(value = "select f from Feed f where f not in (select r.feedId from Report r where r.userId = :userId) and f.status = :status order by f.id desc")
-    Page<Feed> findByStatusWithReportOrderByCreatedDesc(Pageable pageable, @Param("userId") User userId, @Param("status") Status status);
-
-    @Query(value = "select f from Feed f where f not in (select r.feedId from Report r where r.userId = :userId) and f.status = :status and f.category = :category order by f.id desc")
-    Page<Feed> findByStatusAndCategoryWithReportOrderByCreatedDesc(Pageable pageable, @Param("userId") User userId, @Param("status") Status status, @Param("category") Category category);
-
-    @Query(value = "select f from feed f" +
-            "   left outer join (select feed_id as id, count(*) as like_count from feed_like group by id order by count(id)) as fl" +
-            "   on f.id = fl.id" +
-            "   where f.id not in (select r.feed_id from report r where r.userId = :userId)" +
-            "   and f.status = :#{#status?.getCode()}" +
-            "   order by fl.like_count desc, f.id desc", nativeQuery = true)
-    Page<Feed> findByStatusWithReportOrderByLikeCount(Pageable pageable, @Param("userId") Long user, @Param("status") Status status);
-
-    @Query(value = "select f from feed f" +
-            "   left outer join (select feed_id as id, count(*) as like_count from feed_like group by id order by count(id)) as fl" +
-            "   on f.id = fl.id" +
-            "   where f.id not in (select r.feed_id from report r where r.userId = :userId)" +
-            "   and f.status = :#{#status?.getCode()}" +
-            "   and f.category = :#{#category?.getCode()}" +
-            "   order by fl.like_count desc, f.id desc", nativeQuery = true)
-    Page<Feed> findByStatusAndCategoryWithReportOrderByLikeCount(Pageable pageable, @Param("userId") Long user, @Param("status") Status status, @Param("category") Category category);
+    long countByStatus(Status status);
+
+    long countByStatusAndCategory(Status status, Category category);
+
+    long countByStatusAndIdIn(Status status, Collection<Long> ids);
+
+    long countByStatusAndCategoryAndIdIn(Status status, Category category, Collection<Long> ids);
+
+    @Query("select f.id as id, f.status as status, f.category as category, f.likeCount as likeCount" +
+            " from Feed f where f.status = :status and f.id < :id" +
+            " order by f.id desc")
+    List<FeedIndexRow> findActiveFeedsOrderByIdAfter(@Param("status") Status status, @Param("id") Long id, Pageable pageable);
+
+    @Query("select f.id as id, f.status as status, f.category as category, f.likeCount as likeCount" +
+            " from Feed f where f.status = :status and f.category = :category and f.id < :id" +
+            " order by f.id desc")
+    List<FeedIndexRow> findActiveFeedsByCategoryOrderByIdAfter(@Param("status") Status status, @Param("category") Category category,
+                                                               @Param("id") Long id, Pageable pageable);
+
+    @Query("select f.id as id, f.status as status, f.category as category, f.likeCount as likeCount" +
+            " from Feed f where f.status = :status" +
+            " and (f.likeCount < :likeCount or (f.likeCount = :likeCount and f.id < :id))" +
+            " order by f.likeCount desc, f.id desc")
+    List<FeedIndexRow> findActiveFeedsOrderByLikeCountAfter(@Param("status") Status status,
+                                                            @Param("likeCount") Integer likeCount, @Param("id") Long id, Pageable pageable);
+
+    @Query("select f.id as id, f.status as status, f.category as category, f.likeCount as likeCount" +
+            " from Feed f where f.status = :status and f.category = :category" +
+            " and (f.likeCount < :likeCount or (f.likeCount = :likeCount and f.id < :id))" +
+            " order by f.likeCount desc, f.id desc")
+    List<FeedIndexRow> findActiveFeedsByCategoryOrderByLikeCountAfter(@Param("status") Status status, @Param("category") Category category,
+                                                                      @Param("likeCount") Integer likeCount, @Param("id") Long id, Pageable pageable);
+
+    @Query("select f.id from Feed f where f.userId.id = :userId and f.id < :id order by f.id desc")
+    List<Long> findUserFeedIdsOrderByIdAfter(@Param("userId") Long userId, @Param("id") Long id, Pageable pageable);
+
+    @Query(value = "select f.id from Feed f where f.userId.id = :userId",
+            countQuery = "select count(f) from Feed f where f.userId.id = :userId")
+    Page<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select new com.gloomy.server.application.feed.FeedCardRow(f.id, f.ip.ip, f.userId.id," +
+            " f.nonUser.nickname.nickname, f.nonUser.password.password, f.category, f.title.title, f.content.content," +
+            " f.likeCount, f.commentCount, f.status, f.createdAt.createdAt, f.updatedAt.updatedAt, f.deletedAt.deletedAt)" +
+            " from Feed f where f.id in :ids")
+    List<FeedCardRow> findCardRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update Feed f set f.likeCount = f.likeCount + :delta where f.id = :feedId and f.likeCount + :delta >= 0")
+    int addLikeCount(@Param("feedId") Long feedId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("update Feed f set f.commentCount = f.commentCount + :delta where f.id = :feedId and f.commentCount + :delta >= 0")
+    int addCommentCount(@Param("feedId") Long feedId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("update Feed f set f.replyCount = f.replyCount + :delta where f.id = :feedId and f.replyCount + :delta >= 0")
+    int addReplyCount(@Param("feedId") Long feedId, @Param("delta") int delta);
+
+    @Query("select f.id as id, f.status as status, f.category as category, f.likeCount as likeCount" +
+            " from Feed f where f.status = :status and f.id > :id order by f.id")
+    List<FeedIndexRow> findIndexRowsAfter(@Param("status") Status status, @Param("id") Long id, Pageable pageable);
+
+    @Query("select f.id as id, f.status as status, f.category as category, f.likeCount as likeCount" +
+            " from Feed f where f.id = :id")
+    Optional<FeedIndexRow> findIndexRowById(@Param("id") Long id);
+
+    @Query("select max(f.id) from Feed f")
+    Long findMaxId();
+
+    @Modifying
+    @Query("update Feed f set" +
+            " f.likeCount = (select count(fl) from FeedLike fl where fl.feedId = f and fl.status = :status)," +
+            " f.commentCount = (select count(cm) from Comment cm where cm.feedId = f and cm.status = :status)," +
+            " f.replyCount = (select count(r) from Reply r join r.commentId c where c.feedId = f and r.status = :status)" +
+            " where f.id between :fromId and :toId")
+    int reconcileCounts(@Param("fromId") Long fromId, @Param("toId") Long toId, @Param("status") Status status);
 }
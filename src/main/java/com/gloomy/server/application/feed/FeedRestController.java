@@ -1,78 +1,104 @@
 package com.gloomy.server.application.feed;
 
-import com.gloomy.server.application.comment.CommentService;
+import com.gloomy.server.application.core.response.CursorSlice;
 import com.gloomy.server.application.core.response.RequestContext;
-import com.gloomy.server.application.feedlike.FeedLikeService;
-import com.gloomy.server.application.image.ImageService;
-import com.gloomy.server.application.image.Images;
-import com.gloomy.server.domain.comment.Comment;
+import com.gloomy.server.application.core.response.ResourceVersions;
+import com.gloomy.server.application.core.response.StreamingResponseWriter;
+import com.gloomy.server.application.security.CurrentUserId;
 import com.gloomy.server.domain.feed.Feed;
-import com.gloomy.server.domain.user.UserService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.ArrayList;
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
 @Slf4j
 @RestController
 @RequestMapping("/feed")
 public class FeedRestController {
-    private final UserService userService;
     private final FeedService feedService;
-    private final ImageService imageService;
-    private final FeedLikeService feedLikeService;
-    private final CommentService commentService;
+    private final FeedCardAssembler feedCardAssembler;
     private final RequestContext requestContext;
+    private final StreamingResponseWriter streamingResponseWriter;
+    private final ResourceVersions resourceVersions;
 
-    public FeedRestController(UserService userService, FeedService feedService, ImageService imageService, FeedLikeService feedLikeService, CommentService commentService, RequestContext requestContext) {
-        this.userService = userService;
+    public FeedRestController(FeedService feedService, FeedCardAssembler feedCardAssembler, RequestContext requestContext,
+                              StreamingResponseWriter streamingResponseWriter, ResourceVersions resourceVersions) {
         this.feedService = feedService;
-        this.imageService = imageService;
-        this.feedLikeService = feedLikeService;
-        this.commentService = commentService;
+        this.feedCardAssembler = feedCardAssembler;
         this.requestContext = requestContext;
+        this.streamingResponseWriter = streamingResponseWriter;
+        this.resourceVersions = resourceVersions;
     }
 
     @PostMapping(value = "")
-    public FeedDTO.Response createFeed(@Validated @RequestBody FeedDTO.Request feedDTO) {
+    public FeedDTO.Response createFeed(@Validated @RequestBody FeedDTO.Request feedDTO, @CurrentUserId Long userId) {
         requestContext.setRequestBody(feedDTO);
-        Long userId = userService.getMyInfo();
         Feed createFeed = feedService.createFeed(userId, feedDTO);
         return makeFeedDTOResponse(createFeed);
     }
 
     @PutMapping(value = "/{feedId}")
-    public FeedDTO.Response createUndefinedFeed(@PathVariable Long feedId, @RequestBody FeedDTO.Request feedDTO) {
+    public FeedDTO.Response createUndefinedFeed(@PathVariable Long feedId, @RequestBody FeedDTO.Request feedDTO, @CurrentUserId Long userId) {
         requestContext.setRequestBody(feedDTO);
-        Long userId = userService.getMyInfo();
         Feed createFeed = feedService.createUndefinedFeed(feedId, userId, feedDTO);
         return makeFeedDTOResponse(createFeed);
     }
 
     @GetMapping(value = "")
-    public Page<FeedDTO.Response> getAllActiveFeeds(@PageableDefault(size = 10) Pageable pageable, @RequestParam(required = false) String category) {
-        Long userId = userService.getMyInfo();
-        Page<Feed> allFeeds = feedService.findAllActiveFeeds(pageable, userId, category);
-        return makeResult(allFeeds);
+    public Page<FeedDTO.Response> getAllActiveFeeds(@PageableDefault(size = 10) Pageable pageable, @RequestParam(required = false) String category,
+                                                    WebRequest webRequest, @CurrentUserId Long userId) {
+        if (webRequest.checkNotModified(makeActiveFeedsETag(userId))) {
+            return null;
+        }
+        Page<Long> allFeedIds = feedService.findAllActiveFeedIds(pageable, userId, category);
+        return feedCardAssembler.makeActiveFeedPage(allFeedIds);
+    }
+
+    @GetMapping(value = "", params = "cursor")
+    public CursorSlice<FeedDTO.Response> getAllActiveFeeds(@RequestParam String cursor, @PageableDefault(size = 10) Pageable pageable, @RequestParam(required = false) String category,
+                                                           WebRequest webRequest, @CurrentUserId Long userId) {
+        if (webRequest.checkNotModified(makeActiveFeedsETag(userId))) {
+            return null;
+        }
+        CursorSlice<Long> allFeedIds = feedService.findAllActiveFeedIds(cursor, pageable, userId, category);
+        return feedCardAssembler.makeActiveFeedSlice(allFeedIds);
+    }
+
+    @GetMapping("/stream")
+    public ResponseEntity<ResponseBodyEmitter> streamAllActiveFeeds(@RequestParam(required = false) String cursor, @RequestParam(defaultValue = "1000") int limit,
+                                                                    @PageableDefault(size = 100) Pageable pageable, @RequestParam(required = false) String category, @CurrentUserId Long userId) {
+        ResponseBodyEmitter body = streamingResponseWriter.streamCursorSlices((nextCursor, size) -> {
+            CursorSlice<Long> allFeedIds = feedService.findAllActiveFeedIds(nextCursor, PageRequest.of(0, size, pageable.getSort()), userId, category);
+            return feedCardAssembler.makeActiveFeedSlice(allFeedIds);
+        }, cursor, pageable.getPageSize(), limit);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
     @GetMapping("/{feedId}")
-    public FeedDTO.Response getFeed(@PathVariable Long feedId) {
-        Feed foundFeed = feedService.findOneFeed(feedId);
-        return makeFeedDTOResponse(foundFeed);
+    public FeedDTO.Response getFeed(@PathVariable Long feedId, WebRequest webRequest) {
+        if (webRequest.checkNotModified(resourceVersions.etag(ResourceVersions.FEED, feedId))) {
+            return null;
+        }
+        return feedCardAssembler.findFeedDTOResponse(feedId);
     }
 
     @GetMapping("/user")
-    public Page<FeedDTO.Response> getUserFeeds(@PageableDefault(size = 10) Pageable pageable) {
-        Long userId = userService.getMyInfo();
-        Page<Feed> userFeeds = feedService.findUserFeeds(pageable, userId);
-        return makeResult(userFeeds);
+    public Page<FeedDTO.Response> getUserFeeds(@PageableDefault(size = 10) Pageable pageable, @CurrentUserId Long userId) {
+        Page<Long> userFeedIds = feedService.findUserFeedIds(pageable, userId);
+        return feedCardAssembler.makeFeedPage(userFeedIds);
+    }
+
+    @GetMapping(value = "/user", params = "cursor")
+    public CursorSlice<FeedDTO.Response> getUserFeeds(@RequestParam String cursor, @PageableDefault(size = 10) Pageable pageable, @CurrentUserId Long userId) {
+        CursorSlice<Long> userFeedIds = feedService.findUserFeedIds(cursor, pageable, userId);
+        return feedCardAssembler.makeFeedSlice(userFeedIds);
     }
 
     @PostMapping(value = "/{feedId}")
@@ -87,18 +113,11 @@ public class FeedRestController {
         feedService.deleteFeed(feedId);
     }
 
-    private Page<FeedDTO.Response> makeResult(Page<Feed> allFeeds) {
-        List<FeedDTO.Response> result = new ArrayList<>();
-        for (Feed feed : allFeeds.getContent()) {
-            result.add(makeFeedDTOResponse(feed));
-        }
-        return new PageImpl<>(result);
+    private String makeActiveFeedsETag(Long userId) {
+        return resourceVersions.etag(ResourceVersions.FEEDS, ResourceVersions.ALL, ResourceVersions.HIDDEN_FEEDS, userId);
     }
 
     private FeedDTO.Response makeFeedDTOResponse(Feed feed) {
-        Images activeImages = imageService.findAllActiveImages(feed);
-        Integer likeCount = feedLikeService.getFeedLikeCount(feed);
-        List<Comment> allComments = commentService.findAllComments(feed.getId());
-        return FeedDTO.Response.of(feed, activeImages, likeCount, allComments.size());
+        return feedCardAssembler.makeFeedDTOResponse(feed);
     }
 }
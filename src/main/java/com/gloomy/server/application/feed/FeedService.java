@@ -1,16 +1,24 @@
 package com.gloomy.server.application.feed;
 
+import com.gloomy.server.application.core.response.CursorSlice;
+import com.gloomy.server.application.core.response.ResourceVersions;
+import com.gloomy.server.application.feed.card.FeedCardCache;
+import com.gloomy.server.application.feed.index.FeedIndex;
+import com.gloomy.server.application.feed.index.FeedIndexResult;
+import com.gloomy.server.application.feed.index.FeedIndexRow;
 import com.gloomy.server.application.feed.sort.FeedSort;
 import com.gloomy.server.application.image.ImageService;
 import com.gloomy.server.application.image.Images;
 import com.gloomy.server.domain.common.entity.Status;
 import com.gloomy.server.domain.feed.Category;
 import com.gloomy.server.domain.feed.Feed;
+import com.gloomy.server.domain.report.HiddenFeedCache;
 import com.gloomy.server.domain.user.User;
 import com.gloomy.server.domain.user.UserService;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.EnumUtils;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -18,7 +26,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -28,23 +41,38 @@ public class FeedService {
     private final ImageService imageService;
     private final UserService userService;
     private final FeedRepository feedRepository;
+    private final FeedIndex feedIndex;
+    private final HiddenFeedCache hiddenFeedCache;
+    private final FeedCardCache feedCardCache;
+    private final ResourceVersions resourceVersions;
 
-    public FeedService(ImageService imageService, UserService userService, FeedRepository feedRepository) {
+    public FeedService(ImageService imageService, UserService userService, FeedRepository feedRepository, FeedIndex feedIndex,
+                       HiddenFeedCache hiddenFeedCache, FeedCardCache feedCardCache, ResourceVersions resourceVersions) {
         this.imageService = imageService;
         this.userService = userService;
         this.feedRepository = feedRepository;
+        this.feedIndex = feedIndex;
+        this.hiddenFeedCache = hiddenFeedCache;
+        this.feedCardCache = feedCardCache;
+        this.resourceVersions = resourceVersions;
     }
 
     @Transactional
     public Feed createFeed(Long userId, FeedDTO.Request feedDTO) throws IllegalArgumentException {
         validateFeedDTO(userId, feedDTO);
         User user = getUser(userId);
-        return feedRepository.save(Feed.of(user, feedDTO));
+        Feed createdFeed = feedRepository.save(Feed.of(user, feedDTO));
+        feedIndex.put(createdFeed);
+        resourceVersions.touch(ResourceVersions.FEEDS, ResourceVersions.ALL);
+        return createdFeed;
     }
 
     @Transactional
     Feed createFeed(User userId) {
-        return feedRepository.save(Feed.from(userId));
+        Feed createdFeed = feedRepository.save(Feed.from(userId));
+        feedIndex.put(createdFeed);
+        resourceVersions.touch(ResourceVersions.FEEDS, ResourceVersions.ALL);
+        return createdFeed;
     }
 
     public Feed createUndefinedFeed(Long feedId, Long userId, FeedDTO.Request feedDTO) {
@@ -56,7 +84,10 @@ public class FeedService {
         foundFeed.setCategory(feedDTO.getCategory());
         foundFeed.setTitle(feedDTO.getTitle());
         foundFeed.setContent(feedDTO.getContent());
-        return feedRepository.save(foundFeed);
+        Feed savedFeed = feedRepository.save(foundFeed);
+        feedIndex.put(savedFeed);
+        touchFeed(savedFeed);
+        return savedFeed;
     }
 
     @Transactional(readOnly = true)
@@ -69,95 +100,259 @@ public class FeedService {
 
     @Transactional(readOnly = true)
     public Page<Feed> findAllActiveFeeds(Pageable originPageable, Long userId, String category) {
+        Page<Long> feedIds = findAllActiveFeedIds(originPageable, userId, category);
+        return new PageImpl<>(findActiveFeedsByIds(feedIds.getContent()), feedIds.getPageable(), feedIds.getTotalElements());
+    }
+
+    @Transactional(readOnly = true)
+    public CursorSlice<Feed> findAllActiveFeeds(String cursor, Pageable pageable, Long userId, String category) {
+        CursorSlice<Long> feedIds = findAllActiveFeedIds(cursor, pageable, userId, category);
+        return feedIds.withContent(findActiveFeedsByIds(feedIds.getContent()));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Long> findAllActiveFeedIds(Pageable originPageable, Long userId, String category) {
         validatePageableAndSortAndCategory(originPageable, category);
-        Optional<Sort.Order> order = originPageable.getSort().stream().findFirst();
-        Pageable pageable = PageRequest.of(0, 10);
+        Pageable pageable = PageRequest.of(originPageable.getPageNumber(), originPageable.getPageSize());
+        FeedCursor feedCursor = makeFeedCursor(null, originPageable);
+        long[] hiddenFeedIds = findHiddenFeedIds(userId);
 
-        if (category == null || Category.valueOf(category) == Category.ALL) {
-            return findAllActiveFeedsWithoutCategory(pageable, order, userId);
+        if (feedIndex.isReady()) {
+            FeedIndexResult result = feedIndex.find(toCategory(category), feedCursor.getSort(), feedCursor,
+                    pageable.getOffset(), pageable.getPageSize(), hiddenFeedIds);
+            return new PageImpl<>(result.getFeedIds(), pageable, result.getTotal());
         }
-        return findAllActiveFeedsWithCategory(pageable, order, userId, category);
+        List<FeedIndexRow> rows = findActiveFeedsFromDatabase(toCategory(category), feedCursor, pageable.getOffset(), pageable.getPageSize(), hiddenFeedIds);
+        List<Long> content = new ArrayList<>();
+        for (FeedIndexRow row : rows.subList(0, Math.min(rows.size(), pageable.getPageSize()))) {
+            content.add(row.getId());
+        }
+        return new PageImpl<>(content, pageable, countActiveFeeds(toCategory(category), hiddenFeedIds));
     }
 
     @Transactional(readOnly = true)
-    public Page<Feed> findAllActiveFeedsWithoutCategory(Pageable pageable, Optional<Sort.Order> order, Long userId) {
-        if (userId == null) {
-            return findAllActiveFeedsWithoutReport(pageable, order);
+    public CursorSlice<Long> findAllActiveFeedIds(String cursor, Pageable pageable, Long userId, String category) {
+        validatePageableAndSortAndCategory(pageable, category);
+        FeedCursor feedCursor = makeFeedCursor(cursor, pageable);
+        long[] hiddenFeedIds = findHiddenFeedIds(userId);
+
+        if (feedIndex.isReady()) {
+            FeedIndexResult result = feedIndex.find(toCategory(category), feedCursor.getSort(), feedCursor,
+                    0, pageable.getPageSize(), hiddenFeedIds);
+            FeedCursor nextCursor = result.getNextCursor();
+            return new CursorSlice<>(result.getFeedIds(), nextCursor == null ? null : nextCursor.encode());
         }
-        return findAllActiveFeedsWithReport(pageable, order, userId);
+        List<FeedIndexRow> rows = findActiveFeedsFromDatabase(toCategory(category), feedCursor, 0, pageable.getPageSize(), hiddenFeedIds);
+        return makeCursorSlice(rows, pageable.getPageSize(), feedCursor.getSort());
+    }
+
+    /**
+     * 인덱스가 준비되기 전에 사용하는 전체 개수. category의 활성 피드 수에서 그중 숨긴 피드 수를 뺀다.
+     */
+    private long countActiveFeeds(Category category, long[] hiddenFeedIds) {
+        long total = category == Category.ALL
+                ? feedRepository.countByStatus(Status.active())
+                : feedRepository.countByStatusAndCategory(Status.active(), category);
+        if (hiddenFeedIds.length == 0) {
+            return total;
+        }
+        List<Long> hiddenIds = new ArrayList<>();
+        for (long hiddenFeedId : hiddenFeedIds) {
+            hiddenIds.add(hiddenFeedId);
+        }
+        long hidden = category == Category.ALL
+                ? feedRepository.countByStatusAndIdIn(Status.active(), hiddenIds)
+                : feedRepository.countByStatusAndCategoryAndIdIn(Status.active(), category, hiddenIds);
+        return total - hidden;
+    }
+
+    /**
+     * 인덱스가 준비되기 전에 사용하는 DB 조회. 숨긴 피드는 쿼리 대신 메모리에서 거르고,
+     * 다음 페이지 여부를 알 수 있도록 최대 size + 1개를 반환한다.
+     */
+    private List<FeedIndexRow> findActiveFeedsFromDatabase(Category category, FeedCursor feedCursor, long offset, int size, long[] hiddenFeedIds) {
+        Pageable limit = PageRequest.of(0, (int) Math.min(offset + size + 1 + hiddenFeedIds.length, Integer.MAX_VALUE));
+        List<FeedIndexRow> candidates;
+        if (feedCursor.getSort() == FeedSort.LIKE) {
+            int likeCount = (int) Math.min(feedCursor.getKey(), Integer.MAX_VALUE);
+            candidates = category == Category.ALL
+                    ? feedRepository.findActiveFeedsOrderByLikeCountAfter(Status.active(), likeCount, feedCursor.getId(), limit)
+                    : feedRepository.findActiveFeedsByCategoryOrderByLikeCountAfter(Status.active(), category, likeCount, feedCursor.getId(), limit);
+        } else {
+            candidates = category == Category.ALL
+                    ? feedRepository.findActiveFeedsOrderByIdAfter(Status.active(), feedCursor.getId(), limit)
+                    : feedRepository.findActiveFeedsByCategoryOrderByIdAfter(Status.active(), category, feedCursor.getId(), limit);
+        }
+        List<FeedIndexRow> rows = new ArrayList<>();
+        long skipped = 0;
+        for (FeedIndexRow row : candidates) {
+            if (rows.size() > size) {
+                break;
+            }
+            if (Arrays.binarySearch(hiddenFeedIds, row.getId()) >= 0) {
+                continue;
+            }
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            rows.add(row);
+        }
+        return rows;
     }
 
     @Transactional(readOnly = true)
-    public Page<Feed> findAllActiveFeedsWithCategory(Pageable pageable, Optional<Sort.Order> order, Long userId, String originCategory) {
-        Category category = originCategory == null ? Category.ALL : Category.valueOf(originCategory);
-        if (userId == null) {
-            return findAllActiveFeedsByCategoryWithoutReport(pageable, order, category);
+    public CursorSlice<Feed> findUserFeeds(String cursor, Pageable pageable, Long userId) {
+        CursorSlice<Long> feedIds = findUserFeedIds(cursor, pageable, userId);
+        return feedIds.withContent(findFeedsByIds(feedIds.getContent()));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorSlice<Long> findUserFeedIds(String cursor, Pageable pageable, Long userId) {
+        validatePageableAndUserId(pageable, userId);
+        FeedCursor feedCursor = isFirstCursor(cursor) ? FeedCursor.first(FeedSort.DATE) : FeedCursor.decode(cursor);
+        List<Long> feedIds = feedRepository.findUserFeedIdsOrderByIdAfter(userId, feedCursor.getId(), PageRequest.of(0, pageable.getPageSize() + 1));
+        if (feedIds.size() <= pageable.getPageSize()) {
+            return new CursorSlice<>(feedIds, null);
+        }
+        List<Long> content = feedIds.subList(0, pageable.getPageSize());
+        Long lastFeedId = content.get(content.size() - 1);
+        return new CursorSlice<>(content, FeedCursor.of(FeedSort.DATE, lastFeedId, lastFeedId).encode());
+    }
+
+    @Transactional(readOnly = true)
+    public List<FeedCardRow> findFeedCardRows(Collection<Long> feedIds) {
+        if (feedIds.isEmpty()) {
+            return new ArrayList<>();
         }
-        return findAllActiveFeedsByCategoryWithReport(pageable, order, userId, category);
+        return feedRepository.findCardRowsByIdIn(feedIds);
     }
 
-    private Page<Feed> findAllActiveFeedsByCategoryWithoutReport(Pageable pageable, Optional<Sort.Order> order, Category category) {
-        if (order.isEmpty() || FeedSort.from(order.get().getProperty()) == FeedSort.DATE) {
-            return feedRepository.findByStatusAndCategoryOrderByCreatedAtDesc(pageable, Status.active(), category);
+    private FeedCursor makeFeedCursor(String cursor, Pageable pageable) {
+        if (!isFirstCursor(cursor)) {
+            return FeedCursor.decode(cursor);
+        }
+        Optional<Sort.Order> order = pageable.getSort().stream().findFirst();
+        if (order.isEmpty()) {
+            return FeedCursor.first(FeedSort.DATE);
         }
-        return feedRepository.findByStatusAndCategoryOrderByLikeCount(pageable, Status.active(), category);
+        return FeedCursor.first(FeedSort.from(order.get().getProperty()));
     }
 
-    private Page<Feed> findAllActiveFeedsByCategoryWithReport(Pageable pageable, Optional<Sort.Order> order, Long userId, Category category) {
-        User user = userService.findUser(userId);
-        if (order.isEmpty() || FeedSort.from(order.get().getProperty()) == FeedSort.DATE) {
-            return feedRepository.findByStatusAndCategoryWithReportOrderByCreatedDesc(pageable, user, Status.active(), category);
+    private Category toCategory(String category) {
+        return category == null ? Category.ALL : Category.valueOf(category);
+    }
+
+    private long[] findHiddenFeedIds(Long userId) {
+        if (userId == null) {
+            return FeedIndex.noHiddenFeeds();
         }
-        return feedRepository.findByStatusAndCategoryWithReportOrderByLikeCount(pageable, user.getId(), Status.active(), category);
+        return hiddenFeedCache.getHiddenFeedIds(userId);
     }
 
-    private Page<Feed> findAllActiveFeedsWithoutReport(Pageable pageable, Optional<Sort.Order> order) {
-        if (order.isEmpty() || FeedSort.from(order.get().getProperty()) == FeedSort.DATE) {
-            return feedRepository.findByStatusOrderByCreatedAtDesc(pageable, Status.active());
+    private List<Feed> findActiveFeedsByIds(List<Long> feedIds) {
+        List<Feed> result = new ArrayList<>();
+        for (Feed feed : findFeedsByIds(feedIds)) {
+            if (feed.getStatus() == Status.active()) {
+                result.add(feed);
+            }
         }
-        return feedRepository.findByStatusOrderByLikeCount(pageable, Status.active());
+        return result;
     }
 
-    private Page<Feed> findAllActiveFeedsWithReport(Pageable pageable, Optional<Sort.Order> order, Long userId) {
-        User user = userService.findUser(userId);
-        if (order.isEmpty() || FeedSort.from(order.get().getProperty()) == FeedSort.DATE) {
-            return feedRepository.findByStatusWithReportOrderByCreatedDesc(pageable, user, Status.active());
+    private List<Feed> findFeedsByIds(List<Long> feedIds) {
+        Map<Long, Feed> foundFeeds = new HashMap<>();
+        for (Feed feed : feedRepository.findAllById(feedIds)) {
+            foundFeeds.put(feed.getId(), feed);
+        }
+        List<Feed> result = new ArrayList<>();
+        for (Long feedId : feedIds) {
+            Feed feed = foundFeeds.get(feedId);
+            if (feed != null) {
+                result.add(feed);
+            }
         }
-        return feedRepository.findByStatusWithReportOrderByLikeCount(pageable, user.getId(), Status.active());
+        return result;
+    }
+
+    private boolean isFirstCursor(String cursor) {
+        return cursor == null || cursor.isBlank();
+    }
+
+    private CursorSlice<Long> makeCursorSlice(List<FeedIndexRow> rows, int size, FeedSort sort) {
+        List<Long> content = new ArrayList<>();
+        for (FeedIndexRow row : rows.subList(0, Math.min(rows.size(), size))) {
+            content.add(row.getId());
+        }
+        if (rows.size() <= size) {
+            return new CursorSlice<>(content, null);
+        }
+        FeedIndexRow last = rows.get(size - 1);
+        long key = sort == FeedSort.LIKE ? last.getLikeCount() : last.getId();
+        return new CursorSlice<>(content, FeedCursor.of(sort, key, last.getId()).encode());
     }
 
     @Transactional(readOnly = true)
     public Page<Feed> findUserFeeds(Pageable pageable, Long userId) throws IllegalArgumentException {
+        validatePageableAndUserId(pageable, userId);
+        return feedRepository.findByUserId(pageable, findFeedOwner(userId));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Long> findUserFeedIds(Pageable pageable, Long userId) throws IllegalArgumentException {
+        validatePageableAndUserId(pageable, userId);
+        return feedRepository.findIdsByUserId(findFeedOwner(userId).getId(), pageable);
+    }
+
+    private User findFeedOwner(Long userId) {
+        try {
+            return userService.findUser(userId);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("[FeedService] 해당하는 회원이 없습니다.");
+        }
+    }
+
+    private void validatePageableAndUserId(Pageable pageable, Long userId) {
         if (pageable == null) {
             throw new IllegalArgumentException("[FeedService] pageable이 유효하지 않습니다.");
         }
         if (userId == null || userId <= 0) {
             throw new IllegalArgumentException("[FeedService] 회원 ID가 유효하지 않습니다.");
         }
-        try {
-            User foundUser = userService.findUser(userId);
-            return feedRepository.findByUserId(pageable, foundUser);
-        } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException("[FeedService] 해당하는 회원이 없습니다.");
-        }
     }
 
     @Transactional(readOnly = true)
     public Feed findOneFeed(Long feedId) throws IllegalArgumentException {
-        if (feedId == null || feedId <= 0) {
-            throw new IllegalArgumentException("[FeedService] 비회원 피드 ID가 유효하지 않습니다.");
-        }
+        validateFeedId(feedId);
         return feedRepository.findById(feedId).orElseThrow(() -> {
             throw new IllegalArgumentException("[FeedService] 해당 피드 ID가 존재하지 않습니다.");
         });
     }
 
+    @Transactional(readOnly = true)
+    public FeedCardRow findFeedCardRow(Long feedId) throws IllegalArgumentException {
+        validateFeedId(feedId);
+        List<FeedCardRow> rows = feedRepository.findCardRowsByIdIn(List.of(feedId));
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("[FeedService] 해당 피드 ID가 존재하지 않습니다.");
+        }
+        return rows.get(0);
+    }
+
+    private void validateFeedId(Long feedId) {
+        if (feedId == null || feedId <= 0) {
+            throw new IllegalArgumentException("[FeedService] 비회원 피드 ID가 유효하지 않습니다.");
+        }
+    }
+
     @Transactional
     public Feed updateOneFeed(Long feedId, UpdateFeedDTO.Request feedDTO) {
         Feed foundFeed = findOneFeed(feedId);
         validateUpdateFeedDTO(foundFeed, feedDTO);
         updateFeed(foundFeed, feedDTO);
-        return feedRepository.save(foundFeed);
+        Feed updatedFeed = feedRepository.save(foundFeed);
+        touchFeed(updatedFeed);
+        return updatedFeed;
     }
 
     private void updateFeed(Feed foundFeed, UpdateFeedDTO.Request feedDTO) {
@@ -173,12 +368,76 @@ public class FeedService {
     public Feed deleteFeed(Long feedId) {
         Feed foundFeed = findOneFeed(feedId);
         foundFeed.delete();
-        return feedRepository.save(foundFeed);
+        Feed deletedFeed = feedRepository.save(foundFeed);
+        feedIndex.remove(feedId);
+        touchFeed(deletedFeed);
+        return deletedFeed;
+    }
+
+    @Transactional
+    public Feed reportFeed(Feed feed) {
+        feed.report();
+        Feed reportedFeed = feedRepository.save(feed);
+        feedIndex.remove(feed.getId());
+        touchFeed(reportedFeed);
+        return reportedFeed;
     }
 
     @Transactional
     public void deleteAll() {
         feedRepository.deleteAll();
+        feedIndex.clear();
+        feedCardCache.clear();
+        resourceVersions.touchAll();
+    }
+
+    @Transactional
+    public void addLikeCount(Feed feed, int delta) {
+        feedRepository.addLikeCount(feed.getId(), delta);
+        feed.addLikeCount(delta);
+        feedIndex.addLikeCount(feed.getId(), delta);
+        touchFeed(feed);
+    }
+
+    @Transactional
+    public void addCommentCount(Feed feed, int delta) {
+        feedRepository.addCommentCount(feed.getId(), delta);
+        feed.addCommentCount(delta);
+        touchFeed(feed);
+    }
+
+    @Transactional
+    public void addReplyCount(Feed feed, int delta) {
+        feedRepository.addReplyCount(feed.getId(), delta);
+        feed.addReplyCount(delta);
+        touchFeed(feed);
+    }
+
+    @Transactional(readOnly = true)
+    public Long findMaxFeedId() {
+        Long maxId = feedRepository.findMaxId();
+        return maxId == null ? 0L : maxId;
+    }
+
+    @Transactional
+    public int reconcileCounts(Long fromId, Long toId) {
+        int reconciledCount = feedRepository.reconcileCounts(fromId, toId, Status.active());
+        if (reconciledCount > 0) {
+            resourceVersions.touchAll();
+        }
+        return reconciledCount;
+    }
+
+    /**
+     * 피드 카드와 피드가 보이는 조회 응답(피드 상세, 피드 목록, 작성자의 알림 목록)의 ETag를 함께 무효화한다.
+     */
+    private void touchFeed(Feed feed) {
+        feedCardCache.invalidate(feed.getId());
+        resourceVersions.touch(ResourceVersions.FEED, feed.getId());
+        resourceVersions.touch(ResourceVersions.FEEDS, ResourceVersions.ALL);
+        if (feed.getUserId() != null) {
+            resourceVersions.touch(ResourceVersions.NOTICES, feed.getUserId().getId());
+        }
     }
 
     @Transactional
@@ -0,0 +1,196 @@
+package com.gloomy.server.application.feed.card;
+
+import com.gloomy.server.application.feed.FeedDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 조립이 끝난 피드 카드(FeedDTO.Response)를 피드 ID로 보관하는 캐시.
+ * 카드의 대략적인 크기 합이 maxWeight를 넘지 않도록 가장 오래 쓰이지 않은 카드부터 내보내되,
+ * 새 카드의 최근 조회 빈도가 내보낼 카드보다 높을 때만 자리를 바꾼다.
+ * <p>
+ * 피드가 바뀌면 invalidate로 해당 피드의 버전을 올린다. 조회 전에 받아 둔 버전이 그 사이 바뀌었다면
+ * put은 아무것도 하지 않으므로, 변경 이전 상태로 만든 카드가 다시 들어오지 않는다.
+ */
+@Slf4j
+@Component
+public class FeedCardCache {
+    private static final int VERSION_STRIPES = 4096;
+    private static final int AVERAGE_CARD_WEIGHT = 1024;
+    private static final int CARD_OVERHEAD = 256;
+    private static final int IMAGE_URL_OVERHEAD = 48;
+
+    private final long maxWeight;
+    private final long ttlMillis;
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final long[] versions = new long[VERSION_STRIPES];
+    private final FrequencySketch frequencySketch;
+    private long weight;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long rejectionCount;
+
+    public FeedCardCache(@Value("${feed.card-cache.max-weight-bytes:16777216}") long maxWeight,
+                         @Value("${feed.card-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.maxWeight = maxWeight;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.frequencySketch = new FrequencySketch((int) Math.min(maxWeight / AVERAGE_CARD_WEIGHT, Integer.MAX_VALUE));
+    }
+
+    public synchronized FeedDTO.Response get(Long feedId) {
+        if (feedId == null) {
+            return null;
+        }
+        frequencySketch.increment(feedId);
+        Entry entry = entries.get(feedId);
+        if (entry == null || entry.isExpired(System.currentTimeMillis())) {
+            if (entry != null) {
+                removeEntry(feedId);
+            }
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        return entry.card;
+    }
+
+    /**
+     * put에 넘길 버전. 피드를 DB에서 읽기 전에 받아 두어야 한다.
+     */
+    public synchronized long version(Long feedId) {
+        return versions[stripeOf(feedId)];
+    }
+
+    public synchronized void put(Long feedId, long version, FeedDTO.Response card) {
+        if (versions[stripeOf(feedId)] != version) {
+            return;
+        }
+        long cardWeight = weigh(card);
+        if (cardWeight > maxWeight) {
+            rejectionCount++;
+            return;
+        }
+        Entry previous = entries.remove(feedId);
+        if (previous != null) {
+            weight -= previous.weight;
+        }
+        if (!makeRoom(feedId, cardWeight)) {
+            rejectionCount++;
+            return;
+        }
+        entries.put(feedId, new Entry(card, cardWeight, System.currentTimeMillis() + ttlMillis));
+        weight += cardWeight;
+    }
+
+    /**
+     * 피드 카드를 바로 버리고, 현재 트랜잭션이 끝난 뒤에 한 번 더 버린다.
+     * 트랜잭션 도중 다른 요청이 커밋되지 않은 상태로 만든 카드가 남지 않게 하기 위함이다.
+     */
+    public void invalidate(Long feedId) {
+        invalidateNow(feedId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                invalidateNow(feedId);
+            }
+        });
+    }
+
+    public synchronized void clear() {
+        for (int i = 0; i < versions.length; i++) {
+            versions[i]++;
+        }
+        entries.clear();
+        weight = 0;
+    }
+
+    public synchronized FeedCardCacheStats stats() {
+        return new FeedCardCacheStats(hitCount, missCount, evictionCount, rejectionCount, entries.size(), weight, maxWeight);
+    }
+
+    @Scheduled(fixedDelayString = "${feed.card-cache.stats-log-delay-ms:600000}",
+            initialDelayString = "${feed.card-cache.stats-log-delay-ms:600000}")
+    public void logStats() {
+        FeedCardCacheStats stats = stats();
+        log.info("[FeedCardCache] size={}, weight={}/{}, hitRate={}, hit={}, miss={}, eviction={}, rejection={}",
+                stats.getSize(), stats.getWeight(), stats.getMaxWeight(), String.format("%.3f", stats.getHitRate()),
+                stats.getHitCount(), stats.getMissCount(), stats.getEvictionCount(), stats.getRejectionCount());
+    }
+
+    private synchronized void invalidateNow(Long feedId) {
+        versions[stripeOf(feedId)]++;
+        removeEntry(feedId);
+    }
+
+    private boolean makeRoom(Long feedId, long cardWeight) {
+        int candidateFrequency = frequencySketch.frequency(feedId);
+        Iterator<Map.Entry<Long, Entry>> eldest = entries.entrySet().iterator();
+        while (weight + cardWeight > maxWeight && eldest.hasNext()) {
+            Map.Entry<Long, Entry> victim = eldest.next();
+            if (frequencySketch.frequency(victim.getKey()) >= candidateFrequency) {
+                return false;
+            }
+            weight -= victim.getValue().weight;
+            eldest.remove();
+            evictionCount++;
+        }
+        return weight + cardWeight <= maxWeight;
+    }
+
+    private void removeEntry(Long feedId) {
+        Entry removed = entries.remove(feedId);
+        if (removed != null) {
+            weight -= removed.weight;
+        }
+    }
+
+    private static int stripeOf(Long feedId) {
+        return feedId == null ? 0 : Long.hashCode(feedId) & (VERSION_STRIPES - 1);
+    }
+
+    static long weigh(FeedDTO.Response card) {
+        long result = CARD_OVERHEAD;
+        result += lengthOf(card.getIp()) + lengthOf(card.getNickname()) + lengthOf(card.getPassword())
+                + lengthOf(card.getCategory()) + lengthOf(card.getTitle()) + lengthOf(card.getContent())
+                + lengthOf(card.getStatus()) + lengthOf(card.getCreatedAt()) + lengthOf(card.getUpdatedAt())
+                + lengthOf(card.getDeletedAt());
+        if (card.getImageURLs() != null) {
+            for (String imageURL : card.getImageURLs()) {
+                result += IMAGE_URL_OVERHEAD + lengthOf(imageURL);
+            }
+        }
+        return result;
+    }
+
+    private static long lengthOf(String value) {
+        return value == null ? 0 : 2L * value.length();
+    }
+
+    private static class Entry {
+        private final FeedDTO.Response card;
+        private final long weight;
+        private final long expiresAt;
+
+        private Entry(FeedDTO.Response card, long weight, long expiresAt) {
+            this.card = card;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
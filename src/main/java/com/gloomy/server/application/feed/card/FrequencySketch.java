@@ -0,0 +1,63 @@
+package com.gloomy.server.application.feed.card;
+
+/**
+ * 피드별 최근 조회 빈도를 근사하는 count-min sketch.
+ * 카운터는 15에서 멈추고, 일정 횟수만큼 기록할 때마다 모두 절반으로 줄여 오래된 빈도를 잊는다.
+ */
+class FrequencySketch {
+    private static final int DEPTH = 4;
+    private static final int MAX_FREQUENCY = 15;
+    private static final int MAX_WIDTH = 1 << 20;
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+    };
+
+    private final byte[][] counters;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int expectedEntries) {
+        int width = Integer.highestOneBit(Math.min(Math.max(expectedEntries, 64), MAX_WIDTH) - 1) << 1;
+        this.counters = new byte[DEPTH][width];
+        this.mask = width - 1;
+        this.sampleSize = width * 10;
+    }
+
+    void increment(long id) {
+        boolean added = false;
+        for (int row = 0; row < DEPTH; row++) {
+            int index = indexOf(id, row);
+            if (counters[row][index] < MAX_FREQUENCY) {
+                counters[row][index]++;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    int frequency(long id) {
+        int frequency = MAX_FREQUENCY;
+        for (int row = 0; row < DEPTH; row++) {
+            frequency = Math.min(frequency, counters[row][indexOf(id, row)]);
+        }
+        return frequency;
+    }
+
+    private void reset() {
+        for (byte[] row : counters) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = (byte) (row[i] >>> 1);
+            }
+        }
+        additions /= 2;
+    }
+
+    private int indexOf(long id, int row) {
+        long hash = (id + SEEDS[row]) * SEEDS[(row + 1) % DEPTH];
+        hash ^= hash >>> 32;
+        return (int) hash & mask;
+    }
+}
@@ -0,0 +1,277 @@
+package com.gloomy.server.application.feed.index;
+
+import com.gloomy.server.application.feed.FeedCursor;
+import com.gloomy.server.application.feed.FeedRepository;
+import com.gloomy.server.application.feed.sort.FeedSort;
+import com.gloomy.server.domain.common.entity.Status;
+import com.gloomy.server.domain.feed.Category;
+import com.gloomy.server.domain.feed.Feed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 활성 피드 목록을 DB 대신 메모리에서 조회하기 위한 인덱스.
+ * 피드 ID만 정렬 순서대로 돌려주고, 카드 데이터는 호출하는 쪽에서 ID로 조회한다.
+ * <p>
+ * 쓰기 경로는 트랜잭션 안에서 바로 인덱스를 갱신하고, 롤백되면 해당 피드를 DB에서 다시 읽어 되돌린다.
+ * 누락이나 어긋남은 주기적인 재구축으로 바로잡는다.
+ */
+@Slf4j
+@Component
+public class FeedIndex {
+    private static final long[] NO_HIDDEN_FEEDS = new long[0];
+
+    private final FeedRepository feedRepository;
+    private final TransactionTemplate repairTransaction;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Value("${feed.index.bootstrap-chunk-size:1000}")
+    private int bootstrapChunkSize;
+
+    private FeedIndexState state = new FeedIndexState();
+    private Set<Long> touchedWhileRebuilding;
+    private volatile boolean ready;
+
+    public FeedIndex(FeedRepository feedRepository, PlatformTransactionManager transactionManager) {
+        this.feedRepository = feedRepository;
+        this.repairTransaction = new TransactionTemplate(transactionManager);
+        this.repairTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.repairTransaction.setReadOnly(true);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public static long[] noHiddenFeeds() {
+        return NO_HIDDEN_FEEDS;
+    }
+
+    /**
+     * cursor 다음 위치부터 offset개를 건너뛰고 size개의 피드 ID를 반환한다.
+     * total은 category의 활성 피드 중 숨기지 않은 피드 수다.
+     *
+     * @param hiddenFeedIds 결과에서 제외할 피드 ID. 오름차순으로 정렬되어 있어야 한다.
+     */
+    public FeedIndexResult find(Category category, FeedSort sort, FeedCursor cursor, long offset, int size, long[] hiddenFeedIds) {
+        lock.readLock().lock();
+        try {
+            SortedLongArray keys = state.keys(category, sort);
+            int position = keys.lowerBound(indexKey(sort, cursor)) - 1;
+            if (hiddenFeedIds.length == 0) {
+                position -= (int) Math.min(offset, Integer.MAX_VALUE);
+            } else {
+                position = skipVisible(keys, position, offset, hiddenFeedIds);
+            }
+            List<Long> feedIds = new ArrayList<>(size);
+            long lastKey = 0;
+            for (; position >= 0 && feedIds.size() < size; position--) {
+                long key = keys.get(position);
+                long feedId = FeedIndexState.idOf(key);
+                if (isHidden(hiddenFeedIds, feedId)) {
+                    continue;
+                }
+                feedIds.add(feedId);
+                lastKey = key;
+            }
+            FeedCursor nextCursor = hasVisible(keys, position, hiddenFeedIds) ? cursorOf(sort, lastKey) : null;
+            return new FeedIndexResult(feedIds, nextCursor, keys.size() - countHidden(category, hiddenFeedIds));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void put(Feed feed) {
+        if (feed.getStatus() != Status.active()) {
+            remove(feed.getId());
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            state.put(feed.getId(), feed.getCategory(), feed.getLikeCount());
+            touch(feed.getId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+        repairOnRollback(feed.getId());
+    }
+
+    public void remove(Long feedId) {
+        lock.writeLock().lock();
+        try {
+            state.remove(feedId);
+            touch(feedId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        repairOnRollback(feedId);
+    }
+
+    public void addLikeCount(Long feedId, int delta) {
+        lock.writeLock().lock();
+        try {
+            state.addLikeCount(feedId, delta);
+            touch(feedId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        repairOnRollback(feedId);
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            state = new FeedIndexState();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${feed.index.rebuild-delay-ms:600000}", initialDelayString = "${feed.index.rebuild-delay-ms:600000}")
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            touchedWhileRebuilding = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        FeedIndexState rebuiltState = new FeedIndexState();
+        try {
+            long lastId = 0L;
+            List<FeedIndexRow> rows;
+            do {
+                rows = feedRepository.findIndexRowsAfter(Status.active(), lastId, PageRequest.of(0, bootstrapChunkSize));
+                for (FeedIndexRow row : rows) {
+                    rebuiltState.put(row.getId(), row.getCategory(), row.getLikeCount());
+                    lastId = row.getId();
+                }
+            } while (rows.size() == bootstrapChunkSize);
+        } catch (RuntimeException e) {
+            log.error("[FeedIndex] 피드 인덱스 구축에 실패했습니다.", e);
+            lock.writeLock().lock();
+            try {
+                touchedWhileRebuilding = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (Long feedId : touchedWhileRebuilding) {
+                rebuiltState.copyFrom(state, feedId);
+            }
+            state = rebuiltState;
+            touchedWhileRebuilding = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("[FeedIndex] 피드 인덱스 구축 완료: {}건", rebuiltState.size());
+    }
+
+    private void refresh(Long feedId) {
+        Optional<FeedIndexRow> row = repairTransaction.execute(status -> feedRepository.findIndexRowById(feedId));
+        lock.writeLock().lock();
+        try {
+            if (row != null && row.isPresent() && row.get().getStatus() == Status.active()) {
+                state.put(feedId, row.get().getCategory(), row.get().getLikeCount());
+            } else {
+                state.remove(feedId);
+            }
+            touch(feedId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void repairOnRollback(Long feedId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    refresh(feedId);
+                }
+            }
+        });
+    }
+
+    private void touch(Long feedId) {
+        if (touchedWhileRebuilding != null) {
+            touchedWhileRebuilding.add(feedId);
+        }
+    }
+
+    private int skipVisible(SortedLongArray keys, int position, long offset, long[] hiddenFeedIds) {
+        long skipped = 0;
+        for (; position >= 0 && skipped < offset; position--) {
+            if (!isHidden(hiddenFeedIds, FeedIndexState.idOf(keys.get(position)))) {
+                skipped++;
+            }
+        }
+        return position;
+    }
+
+    private int countHidden(Category category, long[] hiddenFeedIds) {
+        int count = 0;
+        for (long feedId : hiddenFeedIds) {
+            if (state.contains(feedId, category)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private boolean hasVisible(SortedLongArray keys, int position, long[] hiddenFeedIds) {
+        for (; position >= 0; position--) {
+            if (!isHidden(hiddenFeedIds, FeedIndexState.idOf(keys.get(position)))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isHidden(long[] hiddenFeedIds, long feedId) {
+        return hiddenFeedIds.length != 0 && Arrays.binarySearch(hiddenFeedIds, feedId) >= 0;
+    }
+
+    private static long indexKey(FeedSort sort, FeedCursor cursor) {
+        if (cursor.getId() > FeedIndexState.ID_MASK) {
+            return Long.MAX_VALUE;
+        }
+        return sort == FeedSort.LIKE ? FeedIndexState.likeKey(cursor.getKey(), cursor.getId()) : cursor.getId();
+    }
+
+    private static FeedCursor cursorOf(FeedSort sort, long key) {
+        if (sort == FeedSort.LIKE) {
+            return FeedCursor.of(sort, FeedIndexState.likeCountOf(key), FeedIndexState.idOf(key));
+        }
+        return FeedCursor.of(sort, key, key);
+    }
+}
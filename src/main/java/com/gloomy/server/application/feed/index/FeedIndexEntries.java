@@ -0,0 +1,99 @@
+package com.gloomy.server.application.feed.index;
+
+/**
+ * 피드 ID별 카테고리와 좋아요 수를 담는 open addressing 해시 테이블.
+ * 피드 ID는 항상 양수이므로 0을 빈 슬롯으로 사용한다.
+ */
+class FeedIndexEntries {
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private byte[] categories = new byte[INITIAL_CAPACITY];
+    private int[] likeCounts = new int[INITIAL_CAPACITY];
+    private int mask = INITIAL_CAPACITY - 1;
+    private int size;
+
+    int find(long id) {
+        int slot = slotOf(id);
+        while (ids[slot] != 0) {
+            if (ids[slot] == id) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    void put(long id, int category, int likeCount) {
+        if ((size + 1) * 2 > ids.length) {
+            resize();
+        }
+        int slot = slotOf(id);
+        while (ids[slot] != 0 && ids[slot] != id) {
+            slot = (slot + 1) & mask;
+        }
+        if (ids[slot] == 0) {
+            size++;
+        }
+        ids[slot] = id;
+        categories[slot] = (byte) category;
+        likeCounts[slot] = likeCount;
+    }
+
+    void remove(long id) {
+        int hole = find(id);
+        if (hole < 0) {
+            return;
+        }
+        int next = (hole + 1) & mask;
+        while (ids[next] != 0) {
+            int home = slotOf(ids[next]);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                ids[hole] = ids[next];
+                categories[hole] = categories[next];
+                likeCounts[hole] = likeCounts[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        ids[hole] = 0;
+        size--;
+    }
+
+    int category(int slot) {
+        return categories[slot];
+    }
+
+    int likeCount(int slot) {
+        return likeCounts[slot];
+    }
+
+    void setLikeCount(int slot, int likeCount) {
+        likeCounts[slot] = likeCount;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void resize() {
+        long[] oldIds = ids;
+        byte[] oldCategories = categories;
+        int[] oldLikeCounts = likeCounts;
+        ids = new long[oldIds.length * 2];
+        categories = new byte[oldIds.length * 2];
+        likeCounts = new int[oldIds.length * 2];
+        mask = ids.length - 1;
+        size = 0;
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldIds[i] != 0) {
+                put(oldIds[i], oldCategories[i], oldLikeCounts[i]);
+            }
+        }
+    }
+
+    private int slotOf(long id) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
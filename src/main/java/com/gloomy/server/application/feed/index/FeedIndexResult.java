@@ -0,0 +1,19 @@
+package com.gloomy.server.application.feed.index;
+
+import com.gloomy.server.application.feed.FeedCursor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class FeedIndexResult {
+    private final List<Long> feedIds;
+    private final FeedCursor nextCursor;
+    private final long total;
+
+    FeedIndexResult(List<Long> feedIds, FeedCursor nextCursor, long total) {
+        this.feedIds = feedIds;
+        this.nextCursor = nextCursor;
+        this.total = total;
+    }
+}
@@ -0,0 +1,14 @@
+package com.gloomy.server.application.feed.index;
+
+import com.gloomy.server.domain.common.entity.Status;
+import com.gloomy.server.domain.feed.Category;
+
+public interface FeedIndexRow {
+    Long getId();
+
+    Status getStatus();
+
+    Category getCategory();
+
+    Integer getLikeCount();
+}
@@ -0,0 +1,107 @@
+package com.gloomy.server.application.feed.index;
+
+import com.gloomy.server.application.feed.sort.FeedSort;
+import com.gloomy.server.domain.feed.Category;
+
+/**
+ * 활성 피드의 정렬 키 집합. 카테고리별, 그리고 전체 피드에 대해 최신순과 인기순 키를 따로 유지한다.
+ * 최신순 키는 피드 ID이고, 인기순 키는 좋아요 수를 상위 비트에, 피드 ID를 하위 40비트에 담는다.
+ */
+class FeedIndexState {
+    static final int ID_BITS = 40;
+    static final long ID_MASK = (1L << ID_BITS) - 1;
+    static final long MAX_LIKE_COUNT = (1L << (Long.SIZE - 1 - ID_BITS)) - 1;
+
+    private static final Category[] CATEGORIES = Category.values();
+    private static final int ALL_CATEGORIES = CATEGORIES.length;
+
+    private final FeedIndexEntries entries = new FeedIndexEntries();
+    private final SortedLongArray[] dateKeys = new SortedLongArray[ALL_CATEGORIES + 1];
+    private final SortedLongArray[] likeKeys = new SortedLongArray[ALL_CATEGORIES + 1];
+
+    FeedIndexState() {
+        for (int i = 0; i <= ALL_CATEGORIES; i++) {
+            dateKeys[i] = new SortedLongArray();
+            likeKeys[i] = new SortedLongArray();
+        }
+    }
+
+    static long likeKey(long likeCount, long id) {
+        return (Math.min(Math.max(likeCount, 0), MAX_LIKE_COUNT) << ID_BITS) | id;
+    }
+
+    static long idOf(long key) {
+        return key & ID_MASK;
+    }
+
+    static long likeCountOf(long key) {
+        return key >>> ID_BITS;
+    }
+
+    void put(long id, Category category, int likeCount) {
+        remove(id);
+        entries.put(id, category.ordinal(), likeCount);
+        addKeys(id, category.ordinal(), likeCount);
+    }
+
+    void remove(long id) {
+        int slot = entries.find(id);
+        if (slot < 0) {
+            return;
+        }
+        removeKeys(id, entries.category(slot), entries.likeCount(slot));
+        entries.remove(id);
+    }
+
+    void addLikeCount(long id, int delta) {
+        int slot = entries.find(id);
+        if (slot < 0) {
+            return;
+        }
+        int category = entries.category(slot);
+        int likeCount = entries.likeCount(slot);
+        int updatedLikeCount = Math.max(0, likeCount + delta);
+        likeKeys[category].remove(likeKey(likeCount, id));
+        likeKeys[ALL_CATEGORIES].remove(likeKey(likeCount, id));
+        entries.setLikeCount(slot, updatedLikeCount);
+        likeKeys[category].add(likeKey(updatedLikeCount, id));
+        likeKeys[ALL_CATEGORIES].add(likeKey(updatedLikeCount, id));
+    }
+
+    void copyFrom(FeedIndexState other, long id) {
+        int slot = other.entries.find(id);
+        if (slot < 0) {
+            remove(id);
+            return;
+        }
+        put(id, CATEGORIES[other.entries.category(slot)], other.entries.likeCount(slot));
+    }
+
+    SortedLongArray keys(Category category, FeedSort sort) {
+        int index = category == Category.ALL ? ALL_CATEGORIES : category.ordinal();
+        return sort == FeedSort.LIKE ? likeKeys[index] : dateKeys[index];
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    boolean contains(long id, Category category) {
+        int slot = entries.find(id);
+        return slot >= 0 && (category == Category.ALL || entries.category(slot) == category.ordinal());
+    }
+
+    private void addKeys(long id, int category, int likeCount) {
+        dateKeys[category].add(id);
+        dateKeys[ALL_CATEGORIES].add(id);
+        likeKeys[category].add(likeKey(likeCount, id));
+        likeKeys[ALL_CATEGORIES].add(likeKey(likeCount, id));
+    }
+
+    private void removeKeys(long id, int category, int likeCount) {
+        dateKeys[category].remove(id);
+        dateKeys[ALL_CATEGORIES].remove(id);
+        likeKeys[category].remove(likeKey(likeCount, id));
+        likeKeys[ALL_CATEGORIES].remove(likeKey(likeCount, id));
+    }
+}
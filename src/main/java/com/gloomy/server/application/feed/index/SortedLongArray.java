@@ -0,0 +1,52 @@
+package com.gloomy.server.application.feed.index;
+
+import java.util.Arrays;
+
+/**
+ * 중복 없는 long 값을 오름차순으로 유지하는 배열.
+ */
+class SortedLongArray {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] values = new long[INITIAL_CAPACITY];
+    private int size;
+
+    void add(long value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index >= 0) {
+            return;
+        }
+        int insertion = -index - 1;
+        if (size == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        System.arraycopy(values, insertion, values, insertion + 1, size - insertion);
+        values[insertion] = value;
+        size++;
+    }
+
+    void remove(long value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+    }
+
+    /**
+     * key 이상인 첫 번째 값의 위치를 반환한다. 없으면 size를 반환한다.
+     */
+    int lowerBound(long key) {
+        int index = Arrays.binarySearch(values, 0, size, key);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    long get(int index) {
+        return values[index];
+    }
+
+    int size() {
+        return size;
+    }
+}
@@ -29,7 +29,8 @@ public class FeedLikeService {
     public FeedLike createFeedLike(Long userId, FeedLikeDTO.Request feedLikeDTO) {
         validateFeedLikeDTO(userId, feedLikeDTO);
         FeedLike feedLike = feedLikeRepository.save(makeFeedLike(userId, feedLikeDTO));
-        noticeService.createNotice(feedLike.getFeedId(), feedLike, Type.LIKE);
+        feedService.addLikeCount(feedLike.getFeedId(), 1);
+        noticeService.publishNotice(feedLike.getFeedId(), feedLike, Type.LIKE);
         return feedLike;
     }
 
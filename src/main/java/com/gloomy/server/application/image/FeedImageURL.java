@@ -0,0 +1,7 @@
+package com.gloomy.server.application.image;
+
+public interface FeedImageURL {
+    Long getFeedId();
+
+    String getImageUrl();
+}
@@ -4,8 +4,11 @@ import com.gloomy.server.domain.common.entity.Status;
 import com.gloomy.server.domain.feed.Feed;
 import com.gloomy.server.domain.image.Image;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -14,5 +17,11 @@ public interface ImageRepository extends JpaRepository<Image, Long> {
 
     List<Image> findAllByFeedIdAndStatus(Feed feedId, Status status);
 
+    List<Image> findAllByFeedIdInAndStatusOrderByIdAsc(Collection<Feed> feedIds, Status status);
+
+    @Query("select i.feedId.id as feedId, i.imageUrl.imageUrl as imageUrl from Image i" +
+            " where i.feedId.id in :feedIds and i.status = :status order by i.id")
+    List<FeedImageURL> findImageURLsByFeedIdIn(@Param("feedIds") Collection<Long> feedIds, @Param("status") Status status);
+
     void deleteAllByFeedId(Feed feedId);
 }
@@ -1,5 +1,7 @@
 package com.gloomy.server.application.image;
 
+import com.gloomy.server.application.core.response.ResourceVersions;
+import com.gloomy.server.application.feed.card.FeedCardCache;
 import com.gloomy.server.application.image.s3.S3Uploader;
 import com.gloomy.server.domain.common.entity.Status;
 import com.gloomy.server.domain.feed.Feed;
@@ -9,19 +11,27 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class ImageService {
     private final S3Uploader s3Uploader;
     private final ImageRepository imageRepository;
+    private final FeedCardCache feedCardCache;
+    private final ResourceVersions resourceVersions;
 
     @Value("${cloud.aws.s3.feedDir}")
     private String feedDir;
 
-    public ImageService(S3Uploader s3Uploader, ImageRepository imageRepository) {
+    public ImageService(S3Uploader s3Uploader, ImageRepository imageRepository, FeedCardCache feedCardCache, ResourceVersions resourceVersions) {
         this.s3Uploader = s3Uploader;
         this.imageRepository = imageRepository;
+        this.feedCardCache = feedCardCache;
+        this.resourceVersions = resourceVersions;
     }
 
     @Transactional
@@ -34,6 +44,7 @@ public class ImageService {
                 Image createdImage = uploadOne(feedId, multipartFile);
                 images.addImage(createdImage);
             }
+            touchFeed(feedId.getId());
         }
         return images;
     }
@@ -57,6 +68,30 @@ public class ImageService {
         return new Images(imageRepository.findAllByFeedIdAndStatus(feedId, Status.active()));
     }
 
+    @Transactional(readOnly = true)
+    public Map<Long, Images> findAllActiveImages(List<Feed> feeds) {
+        Map<Long, Images> result = new HashMap<>();
+        if (feeds.isEmpty()) {
+            return result;
+        }
+        for (Image image : imageRepository.findAllByFeedIdInAndStatusOrderByIdAsc(feeds, Status.active())) {
+            result.computeIfAbsent(image.getFeedId().getId(), feedId -> new Images()).addImage(image);
+        }
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, List<String>> findAllActiveImageURLs(Collection<Long> feedIds) {
+        Map<Long, List<String>> result = new HashMap<>();
+        if (feedIds.isEmpty()) {
+            return result;
+        }
+        for (FeedImageURL imageURL : imageRepository.findImageURLsByFeedIdIn(feedIds, Status.active())) {
+            result.computeIfAbsent(imageURL.getFeedId(), feedId -> new ArrayList<>()).add(imageURL.getImageUrl());
+        }
+        return result;
+    }
+
     @Transactional(readOnly = true)
     public Image findOneImage(Long imageId) {
         validateImageId(imageId);
@@ -76,6 +111,7 @@ public class ImageService {
     public void deleteImages(Feed feedId) throws IllegalArgumentException {
         validateFeedId(feedId);
         imageRepository.deleteAllByFeedId(feedId);
+        touchFeed(feedId.getId());
     }
 
     @Transactional
@@ -83,12 +119,21 @@ public class ImageService {
         validateImageId(imageId);
         Image foundImage = findOneImage(imageId);
         imageRepository.delete(foundImage);
+        touchFeed(foundImage.getFeedId().getId());
     }
 
     @Transactional
     public void deleteAll(String dir) {
         imageRepository.deleteAll();
         s3Uploader.deleteDir(dir);
+        feedCardCache.clear();
+        resourceVersions.touchAll();
+    }
+
+    private void touchFeed(Long feedId) {
+        feedCardCache.invalidate(feedId);
+        resourceVersions.touch(ResourceVersions.FEED, feedId);
+        resourceVersions.touch(ResourceVersions.FEEDS, ResourceVersions.ALL);
     }
 
     private void validateFeedId(Feed feedId) {
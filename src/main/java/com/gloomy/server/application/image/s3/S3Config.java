@@ -1,5 +1,6 @@
 package com.gloomy.server.application.image.s3;
 
+import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.services.s3.AmazonS3Client;
@@ -19,11 +20,26 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    @Value("${cloud.aws.s3.connection-timeout-ms:2000}")
+    private int connectionTimeoutMs;
+
+    @Value("${cloud.aws.s3.socket-timeout-ms:10000}")
+    private int socketTimeoutMs;
+
+    @Value("${cloud.aws.s3.client-execution-timeout-ms:30000}")
+    private int clientExecutionTimeoutMs;
+
     @Bean
     public AmazonS3Client amazonS3Client() {
         BasicAWSCredentials awsCredentials = new BasicAWSCredentials(accessKey, secretKey);
+        // SDK 기본값은 소켓 50초, 전체 실행 시간 무제한이라 S3가 느려지면 업로드 요청이 그만큼 붙잡힌다.
+        ClientConfiguration clientConfiguration = new ClientConfiguration()
+                .withConnectionTimeout(connectionTimeoutMs)
+                .withSocketTimeout(socketTimeoutMs)
+                .withClientExecutionTimeout(clientExecutionTimeoutMs);
         return (AmazonS3Client) AmazonS3ClientBuilder.standard()
                 .withRegion(region)
+                .withClientConfiguration(clientConfiguration)
                 .withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
                 .build();
     }
@@ -1,25 +1,53 @@
 package com.gloomy.server.application.image.s3;
 
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.*;
+import com.gloomy.server.application.core.exception.OutboundRejectedException;
+import com.gloomy.server.application.core.resilience.OutboundGuard;
+import com.gloomy.server.application.core.resilience.OutboundGuards;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.annotation.PreDestroy;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * S3 호출은 OutboundGuard(s3)를 거치며, 가드의 기본 타임아웃은 SDK의 clientExecutionTimeout과 같다.
+ * 업로드가 회로 차단, 동시 호출 제한, 일시적인 오류로 실패하면 파일을 로컬 대기열(spoolDir)에 옮겨 두고 미리 계산한 URL을 그대로 돌려준다.
+ * 대기열은 drainSpool이 오래된 것부터 다시 올린다. 백그라운드 재시도가 요청이 쓰는 회로를 열지 않도록 별도 가드(s3-spool)를 쓰고,
+ * spoolMaxAttempts번 실패한 파일은 dead 디렉터리로 옮겨 뒤의 파일을 막지 않게 한다. 시도 횟수는 파일 이름 끝(~n)에 적는다.
+ * 재시도는 파일마다 clientExecutionTimeout까지 걸릴 수 있으므로 공용 스케줄러가 아닌 전용 스레드에서 돈다.
+ * 다시 올라가기 전까지 해당 URL은 404를 돌려주며, 대기열은 서버 로컬 디스크에 있으므로 서버가 교체되면 함께 사라진다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class S3Uploader {
     private final AmazonS3Client amazonS3Client;
+    private final OutboundGuards outboundGuards;
+    private final ThreadPoolTaskExecutor spoolDrainExecutor = newSpoolDrainExecutor();
 
     @Value("${cloud.aws.s3.bucket}")
     public String bucket;
@@ -27,6 +55,15 @@ public class S3Uploader {
     @Value("${cloud.aws.s3.feedDir}")
     private String feedDir;
 
+    @Value("${cloud.aws.s3.spool-dir:${java.io.tmpdir}/s3-upload-spool}")
+    private String spoolDir;
+
+    @Value("${cloud.aws.s3.spool-max-attempts:5}")
+    private int spoolMaxAttempts;
+
+    @Value("${cloud.aws.s3.client-execution-timeout-ms:30000}")
+    private long clientExecutionTimeoutMs;
+
     public String upload(String dirName, MultipartFile multipartFile) {
         File uploadFile = convert(multipartFile)
                 .orElseThrow(() ->
@@ -35,23 +72,143 @@ public class S3Uploader {
     }
 
     public void delete(String key) {
-        amazonS3Client.deleteObject(this.bucket, key);
+        guard(OutboundGuards.S3).call(timeoutMillis -> {
+            amazonS3Client.deleteObject(new DeleteObjectRequest(this.bucket, key)
+                    .withSdkClientExecutionTimeout(toTimeout(timeoutMillis)));
+            return null;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        spoolDrainExecutor.shutdown();
+    }
+
+    @Scheduled(fixedDelayString = "${cloud.aws.s3.spool-drain-delay-ms:5000}",
+            initialDelayString = "${cloud.aws.s3.spool-drain-delay-ms:5000}")
+    public void scheduleDrainSpool() {
+        try {
+            spoolDrainExecutor.execute(this::drainSpool);
+        } catch (TaskRejectedException e) {
+            // 이전 재시도가 아직 돌고 있으면 이번 차례는 건너뛴다
+        }
+    }
+
+    /**
+     * 대기열에 쌓인 업로드를 오래된 것부터 다시 올린다. 실패한 파일은 시도 횟수를 올려 두고 다음 파일로 넘어가며,
+     * s3-spool 회로가 열리면 S3가 아직 회복되지 않은 것으로 보고 다음 차례로 미룬다.
+     */
+    public void drainSpool() {
+        File[] spooledFiles = Paths.get(spoolDir).toFile().listFiles(File::isFile);
+        if (spooledFiles == null || spooledFiles.length == 0) {
+            return;
+        }
+        Arrays.sort(spooledFiles, Comparator.comparingLong(File::lastModified));
+        int drainedCount = 0;
+        for (File spooledFile : spooledFiles) {
+            SpooledUpload spooledUpload = SpooledUpload.of(spooledFile);
+            try {
+                putS3(OutboundGuards.S3_SPOOL, spooledFile, spooledUpload.fileName);
+                drainedCount++;
+            } catch (OutboundRejectedException e) {
+                log.warn("[S3Uploader] 대기 중인 업로드 재시도를 미룹니다, 남은 {}건: {}", spooledFiles.length - drainedCount, e.getMessage());
+                return;
+            } catch (AmazonClientException e) {
+                if (isRetryable(e) && spooledUpload.attempts + 1 < spoolMaxAttempts) {
+                    log.warn("[S3Uploader] 대기 중인 업로드 재시도 실패 ({}회): {} ({})", spooledUpload.attempts + 1, spooledUpload.fileName, e.getMessage());
+                    retryLater(spooledFile, spooledUpload);
+                } else {
+                    log.error("[S3Uploader] 다시 올릴 수 없는 업로드를 dead 디렉터리로 옮깁니다: {} ({})", spooledUpload.fileName, e.getMessage());
+                    moveToDead(spooledFile);
+                }
+                continue;
+            }
+            removeNewFile(spooledFile);
+        }
+        log.info("[S3Uploader] 대기 중인 업로드 {}건 완료", drainedCount);
     }
 
     // s3로 파일 업로드
     private String upload(String dirName, File uploadFile) {
         // S3에 저장된 파일 이름
         String fileName = dirName + "/" + UUID.randomUUID() + uploadFile.getName();
-        String uploadImageUrl = putS3(uploadFile, fileName);
+        String uploadImageUrl = amazonS3Client.getUrl(bucket, fileName).toString();
+        try {
+            putS3(OutboundGuards.S3, uploadFile, fileName);
+        } catch (OutboundRejectedException | AmazonClientException e) {
+            if (!isRetryable(e)) {
+                removeNewFile(uploadFile);
+                throw e;
+            }
+            log.warn("[S3Uploader] 업로드를 대기열로 미룹니다: {} ({})", fileName, e.getMessage());
+            spool(uploadFile, fileName);
+        }
         removeNewFile(uploadFile);
         return uploadImageUrl;
     }
 
     // s3 업로드
-    private String putS3(File uploadFile, String fileName) {
-        amazonS3Client.putObject(new PutObjectRequest(bucket, fileName, uploadFile)
-                .withCannedAcl(CannedAccessControlList.PublicRead));
-        return amazonS3Client.getUrl(bucket, fileName).toString();
+    private void putS3(String guardName, File uploadFile, String fileName) {
+        guard(guardName).call(timeoutMillis ->
+                amazonS3Client.putObject(new PutObjectRequest(bucket, fileName, uploadFile)
+                        .withCannedAcl(CannedAccessControlList.PublicRead)
+                        .withSdkClientExecutionTimeout(toTimeout(timeoutMillis))));
+    }
+
+    // 대기열에 파일 보관 (파일 이름은 S3 키를 인코딩한 값)
+    private void spool(File uploadFile, String fileName) {
+        try {
+            Path spoolPath = Files.createDirectories(Paths.get(spoolDir));
+            Files.copy(uploadFile.toPath(), spoolPath.resolve(new SpooledUpload(fileName, 0).toFileName()),
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            removeNewFile(uploadFile);
+            throw new IllegalArgumentException("[S3Uploader] 업로드 대기열에 저장하지 못했습니다.", e);
+        }
+    }
+
+    private void retryLater(File spooledFile, SpooledUpload spooledUpload) {
+        File renamed = new File(spooledFile.getParentFile(), new SpooledUpload(spooledUpload.fileName, spooledUpload.attempts + 1).toFileName());
+        long lastModified = spooledFile.lastModified();
+        if (spooledFile.renameTo(renamed)) {
+            renamed.setLastModified(lastModified);
+        }
+    }
+
+    private void moveToDead(File spooledFile) {
+        try {
+            Path deadPath = Files.createDirectories(Paths.get(spoolDir, "dead"));
+            Files.move(spooledFile.toPath(), deadPath.resolve(spooledFile.getName()), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.error("[S3Uploader] dead 디렉터리로 옮기지 못했습니다: {}", spooledFile.getName());
+        }
+    }
+
+    private OutboundGuard guard(String guardName) {
+        return outboundGuards.get(guardName, clientExecutionTimeoutMs);
+    }
+
+    private static boolean isRetryable(RuntimeException e) {
+        if (e instanceof AmazonServiceException) {
+            AmazonServiceException serviceException = (AmazonServiceException) e;
+            return serviceException.getErrorType() != AmazonServiceException.ErrorType.Client
+                    || serviceException.getStatusCode() == 429;
+        }
+        return !(e instanceof AmazonClientException) || ((AmazonClientException) e).isRetryable();
+    }
+
+    private static ThreadPoolTaskExecutor newSpoolDrainExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("s3-spool-");
+        executor.initialize();
+        return executor;
+    }
+
+        private static int toTimeout(long timeoutMillis) {
+        return (int) Math.min(timeoutMillis, Integer.MAX_VALUE);
     }
 
     // 로컬에 저장된 이미지 삭제
@@ -92,7 +249,9 @@ public class S3Uploader {
     }
 
     public void deleteDir(String dirName) {
-        ObjectListing objectList = amazonS3Client.listObjects(this.bucket, dirName);
+        ObjectListing objectList = guard(OutboundGuards.S3).call(timeoutMillis ->
+                amazonS3Client.listObjects(new ListObjectsRequest().withBucketName(this.bucket).withPrefix(dirName)
+                        .withSdkClientExecutionTimeout(toTimeout(timeoutMillis))));
         List<S3ObjectSummary> objectSummaryList = objectList.getObjectSummaries();
         String[] keyList = new String[objectSummaryList.size()];
         if (keyList.length > 0) {
@@ -101,9 +260,43 @@ public class S3Uploader {
                 keyList[count++] = summary.getKey();
             }
             if (count > 0) {
-                amazonS3Client.deleteObjects(new DeleteObjectsRequest(this.bucket)
-                        .withKeys(keyList));
+                guard(OutboundGuards.S3).call(timeoutMillis ->
+                        amazonS3Client.deleteObjects(new DeleteObjectsRequest(this.bucket)
+                                .withKeys(keyList)
+                                .withSdkClientExecutionTimeout(toTimeout(timeoutMillis))));
             }
         }
     }
+
+    // 대기열 파일 이름: URL 인코딩한 S3 키 + "~" + 시도 횟수 (URLEncoder는 "~"를 인코딩하므로 구분자로 쓸 수 있다)
+    private static class SpooledUpload {
+        private static final char ATTEMPTS_SEPARATOR = '~';
+
+        private final String fileName;
+        private final int attempts;
+
+        private SpooledUpload(String fileName, int attempts) {
+            this.fileName = fileName;
+            this.attempts = attempts;
+        }
+
+        private static SpooledUpload of(File spooledFile) {
+            String name = spooledFile.getName();
+            int separator = name.lastIndexOf(ATTEMPTS_SEPARATOR);
+            if (separator < 0) {
+                return new SpooledUpload(URLDecoder.decode(name, StandardCharsets.UTF_8), 0);
+            }
+            int attempts;
+            try {
+                attempts = Integer.parseInt(name.substring(separator + 1));
+            } catch (NumberFormatException e) {
+                attempts = 0;
+            }
+            return new SpooledUpload(URLDecoder.decode(name.substring(0, separator), StandardCharsets.UTF_8), attempts);
+        }
+
+        private String toFileName() {
+            return URLEncoder.encode(fileName, StandardCharsets.UTF_8) + ATTEMPTS_SEPARATOR + attempts;
+        }
+    }
 }
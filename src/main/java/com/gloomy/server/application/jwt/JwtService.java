@@ -5,7 +5,6 @@ import com.gloomy.server.domain.jwt.JWTSerializer;
 import com.gloomy.server.domain.user.User;
 import com.gloomy.server.domain.user.UserService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,7 +33,7 @@ public class JwtService {
             throw new IllegalArgumentException(refreshTokenExpiredErrorMessage);
         // accessToken valid & accessToken expire
         Long userId=jwtDeserializer.getUserId(accessToken);
-        User user=userService.findUser(userId);
+        User user=userService.loadUser(userId);
         // DB에 저장했던 refreshToken이랑 일치
         if(!user.getRefreshToken().equals(request.refreshToken)) 
             throw new IllegalArgumentException(refreshTokenNotEqualsErrorMessage);
@@ -51,14 +50,10 @@ public class JwtService {
     }
 
     public Long getMyInfo(){
-        String token=getToken();
-        if(token.equals("")) return null;
-        return jwtDeserializer.jwtPayloadFromJWT(token).getUserId();
+        return userService.getMyInfo();
     }
 
     public String getToken(){
-        return SecurityContextHolder.getContext()
-                .getAuthentication()
-                .getCredentials().toString();
+        return userService.getToken();
     }
 }
@@ -0,0 +1,32 @@
+package com.gloomy.server.application.notice;
+
+import com.gloomy.server.domain.notice.NoticeCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface NoticeCounterRepository extends JpaRepository<NoticeCounter, Long> {
+    @Query("select c.unreadCount from NoticeCounter c where c.userId = :userId")
+    Optional<Integer> findUnreadCountByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("update NoticeCounter c set c.unreadCount = c.unreadCount + :count where c.userId = :userId")
+    int addUnreadCount(@Param("userId") Long userId, @Param("count") int count);
+
+    @Modifying
+    @Query("update NoticeCounter c set c.unreadCount = case when c.unreadCount > :count then (c.unreadCount - :count) else 0 end" +
+            " where c.userId = :userId")
+    int subtractUnreadCount(@Param("userId") Long userId, @Param("count") int count);
+
+    @Modifying
+    @Query("update NoticeCounter c set c.lastSequence = coalesce(c.lastSequence, 0) + :count where c.userId = :userId")
+    int addLastSequence(@Param("userId") Long userId, @Param("count") long count);
+
+    @Query("select c.lastSequence from NoticeCounter c where c.userId = :userId")
+    Optional<Long> findLastSequenceByUserId(@Param("userId") Long userId);
+}
@@ -16,6 +16,8 @@ public class NoticeDTO {
         private final Long likeId;
         private final String type;
         private final Boolean isRead;
+        private final Integer actorCount;
+        private final Long sequence;
         private final Integer commentCount;
         private final Integer likeCount;
         private final String title;
@@ -25,7 +27,7 @@ public class NoticeDTO {
         private final String deletedAt;
 
         @Builder
-        public Response(Long id, Long userId, Long feedId, Long commentId, Long replyId, Long likeId, String type, Boolean isRead, Integer commentCount, Integer likeCount, String title, String status, String createdAt, String updatedAt, String deletedAt) {
+        public Response(Long id, Long userId, Long feedId, Long commentId, Long replyId, Long likeId, String type, Boolean isRead, Integer actorCount, Long sequence, Integer commentCount, Integer likeCount, String title, String status, String createdAt, String updatedAt, String deletedAt) {
             this.id = id;
             this.userId = userId;
             this.feedId = feedId;
@@ -34,6 +36,8 @@ public class NoticeDTO {
             this.likeId = likeId;
             this.type = type;
             this.isRead = isRead;
+            this.actorCount = actorCount;
+            this.sequence = sequence;
             this.commentCount = commentCount;
             this.likeCount = likeCount;
             this.title = title;
@@ -54,6 +58,8 @@ public class NoticeDTO {
                         .likeId(null)
                         .type(notice.getType().toString())
                         .isRead(notice.getIsRead().getIsRead())
+                        .actorCount(notice.getActorCount())
+                        .sequence(notice.getSequence())
                         .likeCount(likeCount)
                         .commentCount(commentCount)
                         .title(notice.getFeedId().getTitle().getTitle())
@@ -73,6 +79,8 @@ public class NoticeDTO {
                         .likeId(null)
                         .type(notice.getType().toString())
                         .isRead(notice.getIsRead().getIsRead())
+                        .actorCount(notice.getActorCount())
+                        .sequence(notice.getSequence())
                         .likeCount(likeCount)
                         .commentCount(commentCount)
                         .title(notice.getFeedId().getTitle().getTitle())
@@ -91,6 +99,8 @@ public class NoticeDTO {
                     .likeId(notice.getFeedLikeId().getId())
                     .type(notice.getType().toString())
                     .isRead(notice.getIsRead().getIsRead())
+                    .actorCount(notice.getActorCount())
+                    .sequence(notice.getSequence())
                     .likeCount(likeCount)
                     .commentCount(commentCount)
                     .title(notice.getFeedId().getTitle().getTitle())
@@ -100,5 +110,36 @@ public class NoticeDTO {
                     .deletedAt(notice.getDeletedAt().getDeletedAt().toString())
                     .build();
         }
+
+        public static NoticeDTO.Response of(NoticeRow row) {
+            return Response.builder()
+                    .id(row.getId())
+                    .userId(row.getUserId())
+                    .feedId(row.getFeedId())
+                    .commentId(row.getType() == Type.COMMENT ? row.getCommentId() : null)
+                    .replyId(row.getType() == Type.REPLY ? row.getReplyId() : null)
+                    .likeId(row.getType() == Type.LIKE ? row.getLikeId() : null)
+                    .type(row.getType().toString())
+                    .isRead(row.getIsRead())
+                    .actorCount(row.getActorCount())
+                    .sequence(row.getSequence())
+                    .likeCount(row.getLikeCount())
+                    .commentCount(row.getCommentCount())
+                    .title(row.getTitle())
+                    .status(row.getStatus().toString())
+                    .createdAt(row.getCreatedAt().toString())
+                    .updatedAt(row.getUpdatedAt().toString())
+                    .deletedAt(row.getDeletedAt().toString())
+                    .build();
+        }
+    }
+
+    @Getter
+    public static class CountResponse {
+        private final Integer unreadCount;
+
+        public CountResponse(Integer unreadCount) {
+            this.unreadCount = unreadCount;
+        }
     }
 }
@@ -0,0 +1,22 @@
+package com.gloomy.server.application.notice;
+
+import com.gloomy.server.domain.notice.NoticeMergedTarget;
+import com.gloomy.server.domain.notice.Type;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NoticeMergedTargetRepository extends JpaRepository<NoticeMergedTarget, Long> {
+    @Query("select t.entityId from NoticeMergedTarget t where t.type = :type and t.entityId in :entityIds")
+    List<Long> findEntityIdsByTypeAndEntityIdIn(@Param("type") Type type, @Param("entityIds") Collection<Long> entityIds);
+
+    @Modifying
+    @Query("delete from NoticeMergedTarget t where t.noticeId in :noticeIds")
+    int deleteByNoticeIdIn(@Param("noticeIds") Collection<Long> noticeIds);
+}
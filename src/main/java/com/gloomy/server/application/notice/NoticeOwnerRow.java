@@ -0,0 +1,17 @@
+package com.gloomy.server.application.notice;
+
+import lombok.Getter;
+
+/**
+ * 알림을 지우기 전에 받는 회원과 읽음 여부만 읽어 오는 행. 읽지 않은 알림 카운터를 맞추는 데 쓴다.
+ */
+@Getter
+public class NoticeOwnerRow {
+    private final Long userId;
+    private final Boolean isRead;
+
+    public NoticeOwnerRow(Long userId, Boolean isRead) {
+        this.userId = userId;
+        this.isRead = isRead;
+    }
+}
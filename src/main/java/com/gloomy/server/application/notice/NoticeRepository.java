@@ -8,8 +8,14 @@ import com.gloomy.server.domain.user.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -22,9 +28,82 @@ public interface NoticeRepository extends JpaRepository<Notice, Long> {
 
     Optional<Notice> findByFeedLikeId(FeedLike feedLikeId);
 
-    Page<Notice> findAllByUserIdOrderByIdDesc(Pageable pageable, User userId);
+    Page<Notice> findAllByUserIdOrderBySequenceDescIdDesc(Pageable pageable, User userId);
+
+    @Query(value = "select new com.gloomy.server.application.notice.NoticeRow(n.id, n.userId.id, f.id, c.id, r.id, l.id, n.type," +
+            " n.isRead.isRead, coalesce(n.actorCount, 1), n.sequence, f.title.title, f.likeCount, f.commentCount, n.status," +
+            " n.createdAt.createdAt, n.updatedAt.updatedAt, n.deletedAt.deletedAt)" +
+            " from Notice n join n.feedId f left join n.commentId c left join n.replyId r left join n.feedLikeId l" +
+            " where n.userId.id = :userId order by n.sequence desc, n.id desc",
+            countQuery = "select count(n) from Notice n where n.userId.id = :userId")
+    Page<NoticeRow> findRowsByUserIdOrderBySequenceDesc(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select new com.gloomy.server.application.notice.NoticeRow(n.id, n.userId.id, f.id, c.id, r.id, l.id, n.type," +
+            " n.isRead.isRead, coalesce(n.actorCount, 1), n.sequence, f.title.title, f.likeCount, f.commentCount, n.status," +
+            " n.createdAt.createdAt, n.updatedAt.updatedAt, n.deletedAt.deletedAt)" +
+            " from Notice n join n.feedId f left join n.commentId c left join n.replyId r left join n.feedLikeId l" +
+            " where n.userId.id = :userId and n.sequence > :afterSequence order by n.sequence asc")
+    List<NoticeRow> findRowsByUserIdAndSequenceGreaterThanOrderBySequenceAsc(@Param("userId") Long userId,
+                                                                             @Param("afterSequence") Long afterSequence,
+                                                                             Pageable pageable);
+
+    @Query("select n.commentId.id from Notice n where n.commentId.id in :commentIds")
+    List<Long> findCommentIdsByCommentIdIn(@Param("commentIds") Collection<Long> commentIds);
+
+    @Query("select n.replyId.id from Notice n where n.replyId.id in :replyIds")
+    List<Long> findReplyIdsByReplyIdIn(@Param("replyIds") Collection<Long> replyIds);
+
+    @Query("select n.feedLikeId.id from Notice n where n.feedLikeId.id in :feedLikeIds")
+    List<Long> findFeedLikeIdsByFeedLikeIdIn(@Param("feedLikeIds") Collection<Long> feedLikeIds);
+
+    @Query("select n from Notice n where n.feedId.id in :feedIds and n.isRead.isRead = false" +
+            " and n.createdAt.createdAt >= :since order by n.id asc")
+    List<Notice> findUnreadByFeedIdInAndCreatedAtAfter(@Param("feedIds") Collection<Long> feedIds,
+                                                       @Param("since") LocalDateTime since);
+
+    @Query("select n.id from Notice n where n.id > :afterId and n.createdAt.createdAt < :cutoff order by n.id asc")
+    List<Long> findIdsByIdGreaterThanAndCreatedAtBefore(@Param("afterId") Long afterId, @Param("cutoff") LocalDateTime cutoff,
+                                                        Pageable pageable);
+
+    @Query("select n.userId.id from Notice n where n.userId is not null group by n.userId.id having count(n) > :maxCount")
+    List<Long> findUserIdsHavingNoticesMoreThan(@Param("maxCount") long maxCount, Pageable pageable);
+
+    @Query("select n.id from Notice n where n.userId.id = :userId order by n.id desc")
+    List<Long> findIdsByUserIdOrderByIdDesc(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select n.id from Notice n where n.userId.id = :userId and n.id <= :maxId order by n.id asc")
+    List<Long> findIdsByUserIdAndIdLessThanEqual(@Param("userId") Long userId, @Param("maxId") Long maxId, Pageable pageable);
+
+    @Query("select new com.gloomy.server.application.notice.NoticeOwnerRow(n.userId.id, n.isRead.isRead)" +
+            " from Notice n where n.id in :ids and n.userId is not null")
+    List<NoticeOwnerRow> findOwnersByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from Notice n where n.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 
     Optional<Notice> findFirstByUserId(User userId);
 
     Integer countAllByUserId(User userId);
+
+    @Query("select count(n) from Notice n where n.userId.id = :userId and n.isRead.isRead = false")
+    int countUnreadByUserId(@Param("userId") Long userId);
+
+    /**
+     * 목록에서 sequence 이하인 알림을 모두 읽음 처리한다. 순번이 없는 예전 알림은 목록 맨 아래에 있으므로 함께 읽음 처리한다.
+     */
+    @Modifying
+    @Query("update Notice n set n.isRead.isRead = true, n.updatedAt.updatedAt = :updatedAt" +
+            " where n.userId.id = :userId and (n.sequence <= :sequence or n.sequence is null) and n.isRead.isRead = false")
+    int readAllByUserIdAndSequenceLessThanEqual(@Param("userId") Long userId, @Param("sequence") Long sequence,
+                                                @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 순번이 없는 예전 알림 중 noticeId 이하인 알림을 읽음 처리한다. 예전 알림은 목록에서 ID 순서로 놓인다.
+     */
+    @Modifying
+    @Query("update Notice n set n.isRead.isRead = true, n.updatedAt.updatedAt = :updatedAt" +
+            " where n.userId.id = :userId and n.sequence is null and n.id <= :noticeId and n.isRead.isRead = false")
+    int readAllByUserIdAndIdLessThanEqualWithoutSequence(@Param("userId") Long userId, @Param("noticeId") Long noticeId,
+                                                         @Param("updatedAt") LocalDateTime updatedAt);
 }
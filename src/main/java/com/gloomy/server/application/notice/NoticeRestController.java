@@ -1,15 +1,18 @@
 package com.gloomy.server.application.notice;
 
-import com.gloomy.server.application.comment.CommentService;
-import com.gloomy.server.application.feedlike.FeedLikeService;
+import com.gloomy.server.application.core.response.ResourceVersions;
+import com.gloomy.server.application.notice.stream.NoticeStreamHub;
+import com.gloomy.server.application.security.CurrentUserId;
 import com.gloomy.server.domain.feed.Feed;
 import com.gloomy.server.domain.notice.Notice;
-import com.gloomy.server.domain.user.UserService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,42 +20,69 @@ import java.util.List;
 @RestController
 @RequestMapping("/notice")
 public class NoticeRestController {
-    private final UserService userService;
-    private final FeedLikeService feedLikeService;
-    private final CommentService commentService;
     private final NoticeService noticeService;
+    private final ResourceVersions resourceVersions;
+    private final NoticeStreamHub noticeStreamHub;
 
-    public NoticeRestController(UserService userService, FeedLikeService feedLikeService, CommentService commentService, NoticeService noticeService) {
-        this.userService = userService;
-        this.feedLikeService = feedLikeService;
-        this.commentService = commentService;
+    public NoticeRestController(NoticeService noticeService, ResourceVersions resourceVersions,
+                                NoticeStreamHub noticeStreamHub) {
         this.noticeService = noticeService;
+        this.resourceVersions = resourceVersions;
+        this.noticeStreamHub = noticeStreamHub;
     }
 
     @GetMapping(value = "")
-    public Page<NoticeDTO.Response> getAllNotices(@PageableDefault(size = 10) Pageable pageable) {
-        Long userId = userService.getMyInfo();
-        Page<Notice> allNotices = noticeService.getAllNotices(pageable, userId);
+    public Page<NoticeDTO.Response> getAllNotices(@PageableDefault(size = 10) Pageable pageable, WebRequest webRequest, @CurrentUserId Long userId) {
+        if (webRequest.checkNotModified(resourceVersions.etag(ResourceVersions.NOTICES, userId))) {
+            return null;
+        }
+        Page<NoticeRow> allNotices = noticeService.getAllNoticeRows(pageable, userId);
         return makeResult(allNotices);
     }
 
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotices(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId, @CurrentUserId Long userId) {
+        return noticeStreamHub.subscribe(userId, () -> {
+            List<NoticeDTO.Response> backlog = new ArrayList<>();
+            if (lastEventId != null) {
+                for (NoticeRow notice : noticeService.getNoticeRowsAfter(userId, lastEventId, noticeStreamHub.getReplayLimit())) {
+                    backlog.add(NoticeDTO.Response.of(notice));
+                }
+            }
+            return backlog;
+        });
+    }
+
     @PatchMapping(value = "/{noticeId}")
     public NoticeDTO.Response readNotice(@PathVariable Long noticeId) {
         return makeNoticeDTOResponse(noticeService.readNotice(noticeId));
     }
 
-    private Page<NoticeDTO.Response> makeResult(Page<Notice> allNotices) {
+    @GetMapping(value = "/unread-count")
+    public NoticeDTO.CountResponse countUnreadNotices(@CurrentUserId Long userId) {
+        return new NoticeDTO.CountResponse(noticeService.countUnreadNotices(userId));
+    }
+
+    @PostMapping(value = "/read-all")
+    public NoticeDTO.CountResponse readAllNotices(@CurrentUserId Long userId) {
+        return new NoticeDTO.CountResponse(noticeService.readAllNotices(userId, null));
+    }
+
+    @PostMapping(value = "/read-up-to/{noticeId}")
+    public NoticeDTO.CountResponse readNoticesUpTo(@PathVariable Long noticeId, @CurrentUserId Long userId) {
+        return new NoticeDTO.CountResponse(noticeService.readAllNotices(userId, noticeId));
+    }
+
+    private Page<NoticeDTO.Response> makeResult(Page<NoticeRow> allNotices) {
         List<NoticeDTO.Response> result = new ArrayList<>();
-        for (Notice notice : allNotices.getContent()) {
-            result.add(makeNoticeDTOResponse(notice));
+        for (NoticeRow notice : allNotices.getContent()) {
+            result.add(NoticeDTO.Response.of(notice));
         }
         return new PageImpl<>(result);
     }
 
     private NoticeDTO.Response makeNoticeDTOResponse(Notice notice) {
         Feed feed = notice.getFeedId();
-        Integer likeCount = feedLikeService.getFeedLikeCount(notice.getFeedId());
-        Integer commentCount = commentService.getFeedAllActiveCommentsCount(feed);
-        return NoticeDTO.Response.of(notice, likeCount, commentCount);
+        return NoticeDTO.Response.of(notice, feed.getLikeCount(), feed.getCommentCount());
     }
 }
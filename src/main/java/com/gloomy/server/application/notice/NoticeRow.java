@@ -0,0 +1,53 @@
+package com.gloomy.server.application.notice;
+
+import com.gloomy.server.domain.common.entity.Status;
+import com.gloomy.server.domain.notice.Type;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 목록 응답에 필요한 컬럼을 피드 제목, 좋아요 수, 댓글 수와 함께 한 번에 읽어 온 읽기 전용 행.
+ */
+@Getter
+public class NoticeRow {
+    private final Long id;
+    private final Long userId;
+    private final Long feedId;
+    private final Long commentId;
+    private final Long replyId;
+    private final Long likeId;
+    private final Type type;
+    private final Boolean isRead;
+    private final Integer actorCount;
+    private final Long sequence;
+    private final String title;
+    private final Integer likeCount;
+    private final Integer commentCount;
+    private final Status status;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final LocalDateTime deletedAt;
+
+    public NoticeRow(Long id, Long userId, Long feedId, Long commentId, Long replyId, Long likeId, Type type, Boolean isRead,
+                     Integer actorCount, Long sequence, String title, Integer likeCount, Integer commentCount, Status status,
+                     LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime deletedAt) {
+        this.id = id;
+        this.userId = userId;
+        this.feedId = feedId;
+        this.commentId = commentId;
+        this.replyId = replyId;
+        this.likeId = likeId;
+        this.type = type;
+        this.isRead = isRead;
+        this.actorCount = actorCount;
+        this.sequence = sequence;
+        this.title = title;
+        this.likeCount = likeCount;
+        this.commentCount = commentCount;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.deletedAt = deletedAt;
+    }
+}
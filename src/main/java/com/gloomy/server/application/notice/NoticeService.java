@@ -1,64 +1,274 @@
 package com.gloomy.server.application.notice;
 
+import com.gloomy.server.application.core.response.ResourceVersions;
+import com.gloomy.server.application.notice.outbox.NoticeEventRepository;
+import com.gloomy.server.application.notice.stream.NoticeStreamHub;
 import com.gloomy.server.domain.comment.Comment;
 import com.gloomy.server.domain.common.entity.BaseEntity;
+import com.gloomy.server.domain.common.firebase.FcmService;
+import com.gloomy.server.domain.common.firebase.PushMessage;
 import com.gloomy.server.domain.feed.Feed;
 import com.gloomy.server.domain.feedlike.FeedLike;
 import com.gloomy.server.domain.notice.Notice;
+import com.gloomy.server.domain.notice.NoticeCounter;
+import com.gloomy.server.domain.notice.NoticeEvent;
+import com.gloomy.server.domain.notice.NoticeMergedTarget;
 import com.gloomy.server.domain.notice.Type;
 import com.gloomy.server.domain.reply.Reply;
 import com.gloomy.server.domain.user.User;
 import com.gloomy.server.domain.user.UserService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class NoticeService {
     private final UserService userService;
     private final NoticeRepository noticeRepository;
+    private final NoticeCounterRepository noticeCounterRepository;
+    private final NoticeEventRepository noticeEventRepository;
+    private final NoticeMergedTargetRepository noticeMergedTargetRepository;
+    private final ResourceVersions resourceVersions;
+    private final FcmService fcmService;
+    private final NoticeStreamHub noticeStreamHub;
+    private final boolean coalesceEnabled;
+    private final long coalesceWindowMinutes;
 
-    public NoticeService(UserService userService, NoticeRepository noticeRepository) {
+    public NoticeService(UserService userService, NoticeRepository noticeRepository, NoticeCounterRepository noticeCounterRepository,
+                         NoticeEventRepository noticeEventRepository, NoticeMergedTargetRepository noticeMergedTargetRepository,
+                         ResourceVersions resourceVersions, FcmService fcmService, NoticeStreamHub noticeStreamHub,
+                         @Value("${notice.coalesce.enabled:true}") boolean coalesceEnabled,
+                         @Value("${notice.coalesce.window-minutes:60}") long coalesceWindowMinutes) {
         this.userService = userService;
         this.noticeRepository = noticeRepository;
+        this.noticeCounterRepository = noticeCounterRepository;
+        this.noticeEventRepository = noticeEventRepository;
+        this.noticeMergedTargetRepository = noticeMergedTargetRepository;
+        this.resourceVersions = resourceVersions;
+        this.fcmService = fcmService;
+        this.noticeStreamHub = noticeStreamHub;
+        this.coalesceEnabled = coalesceEnabled;
+        this.coalesceWindowMinutes = coalesceWindowMinutes;
     }
 
-    public Notice createNotice(Feed feedId, BaseEntity entityId, Type entityType) {
+    /**
+     * 알림을 바로 만들지 않고 호출한 쓰기 트랜잭션 안에서 outbox에 사건만 남긴다.
+     * 실제 Notice는 NoticeDispatcher가 dispatchNoticeEvents로 모아서 만든다.
+     */
+    @Transactional
+    public NoticeEvent publishNotice(Feed feedId, BaseEntity entityId, Type entityType) {
         validateIdAndType(feedId, entityId, entityType);
-        return createEntityNotice(feedId, entityId, entityType);
+        return noticeEventRepository.save(NoticeEvent.of(feedId, entityId, entityType));
+    }
+
+    /**
+     * outbox의 사건을 오래된 순서로 batchSize개까지 Notice로 옮기고 outbox에서 지운다.
+     * 가져온 사건 행은 트랜잭션이 끝날 때까지 잠그고 다른 서버가 잠근 행은 건너뛰므로, 여러 서버가 동시에 처리해도 같은 사건을 두 번 옮기지 않는다.
+     * 같은 댓글, 대댓글, 좋아요의 알림이 이미 있으면 건너뛰므로 같은 사건을 다시 처리해도 알림이 중복되지 않는다.
+     * 그 사이 원본이 지워진 사건은 알림 없이 버린다.
+     * <p>
+     * 합치기가 켜져 있으면 같은 피드, 같은 종류의 읽지 않은 알림이 window 안에 이미 있을 때 따로 알림을 만들지 않고
+     * 그 알림의 참여 수를 올리고 가장 최근 대상을 가리키게 한다. 알림 ID는 그대로 두고 새 순번을 주므로,
+     * 순번 순서를 따르는 목록과 스트림 재전송에서 최근 알림으로 보인다. 더는 가리키지 않는 대상은 NoticeMergedTarget에 남겨
+     * 같은 사건이 다시 들어와도 건너뛴다.
+     */
+    @Transactional
+    public int dispatchNoticeEvents(int batchSize) {
+        List<NoticeEvent> events = noticeEventRepository.findAllByOrderByIdAsc(PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+        NoticeEventTargets targets = new NoticeEventTargets(events);
+        Map<String, Notice> openNotices = findOpenNotices(targets.feedIds());
+        List<Notice> createdNotices = new ArrayList<>();
+        List<Notice> changedNotices = new ArrayList<>();
+        List<Notice> mergedNotices = new ArrayList<>();
+        List<Long> mergedEntityIds = new ArrayList<>();
+        List<Long> eventIds = new ArrayList<>();
+        for (NoticeEvent event : events) {
+            eventIds.add(event.getId());
+            Notice notice = targets.makeNotice(event);
+            if (notice == null) {
+                continue;
+            }
+            Notice openNotice = openNotices.get(coalesceKey(notice));
+            if (openNotice == null) {
+                createdNotices.add(notice);
+                changedNotices.add(notice);
+                if (coalesceEnabled) {
+                    openNotices.put(coalesceKey(notice), notice);
+                }
+                continue;
+            }
+            mergedNotices.add(openNotice);
+            mergedEntityIds.add(openNotice.getTargetId());
+            openNotice.coalesce(notice);
+            changedNotices.removeIf(changedNotice -> changedNotice == openNotice);
+            changedNotices.add(openNotice);
+        }
+        noticeRepository.saveAll(createdNotices);
+        saveMergedTargets(mergedNotices, mergedEntityIds);
+        noticeEventRepository.deleteByIdIn(eventIds);
+        // 합쳐진 알림은 이미 읽지 않은 알림이므로 읽지 않은 수는 새로 만든 알림만큼만 올린다
+        addUnreadCounts(createdNotices);
+        assignSequences(changedNotices);
+        for (Notice notice : changedNotices) {
+            touchNotices(notice);
+        }
+        publishNoticesAfterCommit(changedNotices);
+        return events.size();
+    }
+
+    private void saveMergedTargets(List<Notice> mergedNotices, List<Long> mergedEntityIds) {
+        List<NoticeMergedTarget> mergedTargets = new ArrayList<>();
+        for (int i = 0; i < mergedNotices.size(); i++) {
+            Notice notice = mergedNotices.get(i);
+            mergedTargets.add(new NoticeMergedTarget(notice.getId(), notice.getType(), mergedEntityIds.get(i)));
+        }
+        noticeMergedTargetRepository.saveAll(mergedTargets);
     }
 
-    private Notice createEntityNotice(Feed feedId, BaseEntity entityId, Type entityType) {
-        if (entityType == Type.COMMENT) {
-            return createCommentNotice(feedId, (Comment) entityId, entityType);
+    /**
+     * 만들어지거나 합쳐진 알림에 처리한 순서대로 회원별 새 순번을 준다. 회원의 카운터 행을 올리며 잠그므로
+     * 같은 회원의 알림을 처리하는 다른 트랜잭션은 커밋할 때까지 기다리고, 더 큰 순번이 먼저 커밋되지 않는다.
+     */
+    private void assignSequences(List<Notice> notices) {
+        Map<Long, List<Notice>> userNotices = new LinkedHashMap<>();
+        for (Notice notice : notices) {
+            if (notice.getUserId() != null) {
+                userNotices.computeIfAbsent(notice.getUserId().getId(), key -> new ArrayList<>()).add(notice);
+            }
+        }
+        for (Map.Entry<Long, List<Notice>> entry : userNotices.entrySet()) {
+            Long userId = entry.getKey();
+            int count = entry.getValue().size();
+            if (noticeCounterRepository.addLastSequence(userId, count) == 0) {
+                noticeCounterRepository.saveAndFlush(new NoticeCounter(userId, noticeRepository.countUnreadByUserId(userId)));
+                noticeCounterRepository.addLastSequence(userId, count);
+            }
+            long sequence = noticeCounterRepository.findLastSequenceByUserId(userId).orElse((long) count) - count;
+            for (Notice notice : entry.getValue()) {
+                notice.assignSequence(++sequence);
+            }
         }
-        if (entityType == Type.REPLY) {
-            return createReplyNotice(feedId, (Reply) entityId, entityType);
+    }
+
+    private Map<String, Notice> findOpenNotices(Set<Long> feedIds) {
+        Map<String, Notice> openNotices = new HashMap<>();
+        if (!coalesceEnabled || feedIds.isEmpty()) {
+            return openNotices;
+        }
+        LocalDateTime since = LocalDateTime.now().minusMinutes(coalesceWindowMinutes);
+        for (Notice notice : noticeRepository.findUnreadByFeedIdInAndCreatedAtAfter(feedIds, since)) {
+            openNotices.put(coalesceKey(notice), notice);
+        }
+        return openNotices;
+    }
+
+    private String coalesceKey(Notice notice) {
+        return notice.getFeedId().getId() + ":" + notice.getType();
+    }
+
+    /**
+     * 알림이 커밋된 뒤에 받는 사람에게 푸시를 보내고 열려 있는 알림 스트림에 흘려 보낸다. 트랜잭션이 롤백되면 보내지 않는다.
+     * 스트림에 보낼 응답은 피드를 읽을 수 있는 트랜잭션 안에서 미리 만들어 둔다.
+     */
+    private void publishNoticesAfterCommit(List<Notice> notices) {
+        List<Notice> userNotices = new ArrayList<>();
+        List<NoticeDTO.Response> responses = new ArrayList<>();
+        for (Notice notice : notices) {
+            if (notice.getUserId() != null) {
+                Feed feed = notice.getFeedId();
+                userNotices.add(notice);
+                responses.add(NoticeDTO.Response.of(notice, feed.getLikeCount(), feed.getCommentCount()));
+            }
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publishNotices(userNotices, responses);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publishNotices(userNotices, responses);
+            }
+        });
+    }
+
+    private void publishNotices(List<Notice> notices, List<NoticeDTO.Response> responses) {
+        for (int i = 0; i < notices.size(); i++) {
+            Notice notice = notices.get(i);
+            Long userId = notice.getUserId().getId();
+            fcmService.sendPushMessage(userId, makePushMessage(notice.getType(), notice.getActorCount()));
+            noticeStreamHub.publish(userId, responses.get(i));
         }
-        return createFeedLikeNotice(feedId, (FeedLike) entityId, entityType);
     }
 
-    private Notice createCommentNotice(Feed feedId, Comment commentId, Type entityType) {
-        Notice commentNotice = Notice.of(feedId, commentId, entityType);
-        return noticeRepository.save(commentNotice);
+    private PushMessage makePushMessage(Type type, int actorCount) {
+        if (actorCount > 1) {
+            return makeCoalescedPushMessage(type, actorCount);
+        }
+        if (type == Type.COMMENT) {
+            return new PushMessage("새 댓글", "내 글에 새 댓글이 달렸어요.");
+        }
+        if (type == Type.REPLY) {
+            return new PushMessage("새 대댓글", "내 글에 새 대댓글이 달렸어요.");
+        }
+        return new PushMessage("새 공감", "내 글이 공감을 받았어요.");
     }
 
-    private Notice createReplyNotice(Feed feedId, Reply replyId, Type entityType) {
-        Notice replyNotice = Notice.of(feedId, replyId, entityType);
-        return noticeRepository.save(replyNotice);
+    private PushMessage makeCoalescedPushMessage(Type type, int actorCount) {
+        if (type == Type.COMMENT) {
+            return new PushMessage("새 댓글", "내 글에 새 댓글이 " + actorCount + "개 달렸어요.");
+        }
+        if (type == Type.REPLY) {
+            return new PushMessage("새 대댓글", "내 글에 새 대댓글이 " + actorCount + "개 달렸어요.");
+        }
+        return new PushMessage("새 공감", actorCount + "명이 내 글에 공감했어요.");
     }
 
-    private Notice createFeedLikeNotice(Feed feedId, FeedLike feedLikeId, Type entityType) {
-        Notice feedLikeNotice = Notice.of(feedId, feedLikeId, entityType);
-        return noticeRepository.save(feedLikeNotice);
+    @Transactional(readOnly = true)
+    public LocalDateTime findOldestNoticeEventCreatedAt() {
+        return noticeEventRepository.findOldestCreatedAt();
     }
 
     @Transactional(readOnly = true)
     public Page<Notice> getAllNotices(Pageable pageable, Long userId) {
         validatePageAndUserId(pageable, userId);
         User user = userService.findUser(userId);
-        return noticeRepository.findAllByUserIdOrderByIdDesc(pageable, user);
+        return noticeRepository.findAllByUserIdOrderBySequenceDescIdDesc(pageable, user);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<NoticeRow> getAllNoticeRows(Pageable pageable, Long userId) {
+        validatePageAndUserId(pageable, userId);
+        User user = userService.findUser(userId);
+        return noticeRepository.findRowsByUserIdOrderBySequenceDesc(user.getId(), pageable);
+    }
+
+    /**
+     * 스트림에 다시 연결한 회원이 놓친 알림. 마지막으로 받은 순번(afterSequence) 다음 알림을 순번 순서로 size개까지 돌려준다.
+     * 그 사이 합쳐진 알림도 새 순번을 받으므로 다시 전달된다.
+     */
+    @Transactional(readOnly = true)
+    public List<NoticeRow> getNoticeRowsAfter(Long userId, Long afterSequence, int size) {
+        validateId(userId, "userId가 유효하지 않습니다.");
+        validateId(afterSequence, "알림 순번이 유효하지 않습니다.");
+        return noticeRepository.findRowsByUserIdAndSequenceGreaterThanOrderBySequenceAsc(userId, afterSequence, PageRequest.of(0, size));
     }
 
     @Transactional(readOnly = true)
@@ -76,12 +286,60 @@ public class NoticeService {
         return noticeRepository.countAllByUserId(user);
     }
 
+    /**
+     * 읽지 않은 알림 수. 카운터가 있으면 그 값을 그대로 돌려주고, 아직 알림을 받은 적 없어 카운터가 없으면 알림 테이블에서 센다.
+     */
+    @Transactional(readOnly = true)
+    public int countUnreadNotices(Long userId) {
+        validateId(userId, "userId가 유효하지 않습니다.");
+        return noticeCounterRepository.findUnreadCountByUserId(userId)
+                .orElseGet(() -> noticeRepository.countUnreadByUserId(userId));
+    }
+
     @Transactional
     public Notice readNotice(Long noticeId) {
         validateId(noticeId, "userId가 유효하지 않습니다.");
         Notice foundNotice = findOneNotice(noticeId);
+        boolean wasUnread = !foundNotice.getIsRead().getIsRead();
         foundNotice.read();
-        return noticeRepository.save(foundNotice);
+        Notice readNotice = noticeRepository.save(foundNotice);
+        if (wasUnread && readNotice.getUserId() != null) {
+            noticeCounterRepository.subtractUnreadCount(readNotice.getUserId().getId(), 1);
+        }
+        touchNotices(readNotice);
+        return readNotice;
+    }
+
+    /**
+     * 회원의 알림 목록에서 noticeId 알림과 그 아래에 있는 읽지 않은 알림을 UPDATE 한 번으로 모두 읽음 처리하고 남은 읽지 않은 알림 수를 돌려준다.
+     * 목록은 순번 순서이므로 noticeId 알림의 순번 이하를 읽음 처리한다. noticeId가 null이면 모든 알림을 읽음 처리한다.
+     */
+    @Transactional
+    public int readAllNotices(Long userId, Long noticeId) {
+        validateId(userId, "userId가 유효하지 않습니다.");
+        int readCount;
+        if (noticeId == null) {
+            readCount = noticeRepository.readAllByUserIdAndSequenceLessThanEqual(userId, Long.MAX_VALUE, LocalDateTime.now());
+        } else {
+            readCount = readNoticesUpTo(userId, noticeId);
+        }
+        if (readCount > 0) {
+            noticeCounterRepository.subtractUnreadCount(userId, readCount);
+            resourceVersions.touch(ResourceVersions.NOTICES, userId);
+        }
+        return countUnreadNotices(userId);
+    }
+
+    private int readNoticesUpTo(Long userId, Long noticeId) {
+        validateId(noticeId, "알림 ID가 유효하지 않습니다.");
+        Notice notice = findOneNotice(noticeId);
+        if (notice.getUserId() == null || !userId.equals(notice.getUserId().getId())) {
+            throw new IllegalArgumentException("[NoticeService] 알림 ID가 존재하지 않습니다.");
+        }
+        if (notice.getSequence() == null) {
+            return noticeRepository.readAllByUserIdAndIdLessThanEqualWithoutSequence(userId, noticeId, LocalDateTime.now());
+        }
+        return noticeRepository.readAllByUserIdAndSequenceLessThanEqual(userId, notice.getSequence(), LocalDateTime.now());
     }
 
     @Transactional(readOnly = true)
@@ -113,9 +371,152 @@ public class NoticeService {
         });
     }
 
+    /**
+     * afterId 다음부터 cutoff 이전에 만들어진 알림 ID를 오래된 순서로 size개까지 찾는다.
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findExpiredNoticeIds(LocalDateTime cutoff, Long afterId, int size) {
+        return noticeRepository.findIdsByIdGreaterThanAndCreatedAtBefore(afterId, cutoff, PageRequest.of(0, size));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findUserIdsOverNoticeLimit(int maxCount, int size) {
+        return noticeRepository.findUserIdsHavingNoticesMoreThan(maxCount, PageRequest.of(0, size));
+    }
+
+    /**
+     * 회원의 최신 알림 maxCount개를 남길 때 지워야 하는 알림 중 가장 큰 ID. 지울 알림이 없으면 null.
+     */
+    @Transactional(readOnly = true)
+    public Long findLastOverflowNoticeId(Long userId, int maxCount) {
+        List<Long> ids = noticeRepository.findIdsByUserIdOrderByIdDesc(userId, PageRequest.of(maxCount, 1));
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findUserNoticeIdsUpTo(Long userId, Long maxId, int size) {
+        return noticeRepository.findIdsByUserIdAndIdLessThanEqual(userId, maxId, PageRequest.of(0, size));
+    }
+
+    /**
+     * 알림을 ID로 한 번에 지우고, 지운 읽지 않은 알림 수만큼 받는 회원의 카운터를 내린다.
+     */
+    @Transactional
+    public int deleteNotices(List<Long> noticeIds) {
+        if (noticeIds.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Integer> unreadCounts = new HashMap<>();
+        for (NoticeOwnerRow owner : noticeRepository.findOwnersByIdIn(noticeIds)) {
+            unreadCounts.merge(owner.getUserId(), owner.getIsRead() ? 0 : 1, Integer::sum);
+        }
+        noticeMergedTargetRepository.deleteByNoticeIdIn(noticeIds);
+        int deletedCount = noticeRepository.deleteByIdIn(noticeIds);
+        for (Map.Entry<Long, Integer> unreadCount : unreadCounts.entrySet()) {
+            if (unreadCount.getValue() > 0) {
+                noticeCounterRepository.subtractUnreadCount(unreadCount.getKey(), unreadCount.getValue());
+            }
+            resourceVersions.touch(ResourceVersions.NOTICES, unreadCount.getKey());
+        }
+        return deletedCount;
+    }
+
     @Transactional
     public void deleteAll() {
+        noticeEventRepository.deleteAllInBatch();
+        noticeCounterRepository.deleteAllInBatch();
+        noticeMergedTargetRepository.deleteAllInBatch();
         noticeRepository.deleteAll();
+        resourceVersions.touchAll();
+    }
+
+    /**
+     * 새 알림 수만큼 받는 회원의 카운터를 올린다. 카운터가 아직 없으면 방금 저장한 알림까지 포함해 다시 세어 만든다.
+     */
+    private void addUnreadCounts(List<Notice> notices) {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (Notice notice : notices) {
+            if (notice.getUserId() != null) {
+                counts.merge(notice.getUserId().getId(), 1, Integer::sum);
+            }
+        }
+        for (Map.Entry<Long, Integer> count : counts.entrySet()) {
+            if (noticeCounterRepository.addUnreadCount(count.getKey(), count.getValue()) == 0) {
+                noticeCounterRepository.save(new NoticeCounter(count.getKey(), noticeRepository.countUnreadByUserId(count.getKey())));
+            }
+        }
+    }
+
+    private void touchNotices(Notice notice) {
+        if (notice.getUserId() != null) {
+            resourceVersions.touch(ResourceVersions.NOTICES, notice.getUserId().getId());
+        }
+    }
+
+    private class NoticeEventTargets {
+        private final Map<Long, Feed> feeds = new HashMap<>();
+        private final Map<Long, BaseEntity> comments = new HashMap<>();
+        private final Map<Long, BaseEntity> replies = new HashMap<>();
+        private final Map<Long, BaseEntity> feedLikes = new HashMap<>();
+        private final Set<Long> noticedCommentIds = new HashSet<>();
+        private final Set<Long> noticedReplyIds = new HashSet<>();
+        private final Set<Long> noticedFeedLikeIds = new HashSet<>();
+
+        private NoticeEventTargets(List<NoticeEvent> events) {
+            Set<Long> feedIds = new HashSet<>();
+            Set<Long> commentIds = new HashSet<>();
+            Set<Long> replyIds = new HashSet<>();
+            Set<Long> feedLikeIds = new HashSet<>();
+            for (NoticeEvent event : events) {
+                feedIds.add(event.getFeedId());
+                byType(event.getType(), commentIds, replyIds, feedLikeIds).add(event.getEntityId());
+            }
+            noticeEventRepository.findFeedsByIdIn(feedIds).forEach(feed -> feeds.put(feed.getId(), feed));
+            if (!commentIds.isEmpty()) {
+                noticeEventRepository.findCommentsByIdIn(commentIds).forEach(comment -> comments.put(comment.getId(), comment));
+                noticedCommentIds.addAll(noticeRepository.findCommentIdsByCommentIdIn(commentIds));
+                noticedCommentIds.addAll(noticeMergedTargetRepository.findEntityIdsByTypeAndEntityIdIn(Type.COMMENT, commentIds));
+            }
+            if (!replyIds.isEmpty()) {
+                noticeEventRepository.findRepliesByIdIn(replyIds).forEach(reply -> replies.put(reply.getId(), reply));
+                noticedReplyIds.addAll(noticeRepository.findReplyIdsByReplyIdIn(replyIds));
+                noticedReplyIds.addAll(noticeMergedTargetRepository.findEntityIdsByTypeAndEntityIdIn(Type.REPLY, replyIds));
+            }
+            if (!feedLikeIds.isEmpty()) {
+                noticeEventRepository.findFeedLikesByIdIn(feedLikeIds).forEach(feedLike -> feedLikes.put(feedLike.getId(), feedLike));
+                noticedFeedLikeIds.addAll(noticeRepository.findFeedLikeIdsByFeedLikeIdIn(feedLikeIds));
+                noticedFeedLikeIds.addAll(noticeMergedTargetRepository.findEntityIdsByTypeAndEntityIdIn(Type.LIKE, feedLikeIds));
+            }
+        }
+
+        private Set<Long> feedIds() {
+            return feeds.keySet();
+        }
+
+        private Notice makeNotice(NoticeEvent event) {
+            Feed feed = feeds.get(event.getFeedId());
+            BaseEntity entity = byType(event.getType(), comments, replies, feedLikes).get(event.getEntityId());
+            if (feed == null || entity == null || !byType(event.getType(), noticedCommentIds, noticedReplyIds, noticedFeedLikeIds).add(entity.getId())) {
+                return null;
+            }
+            if (event.getType() == Type.COMMENT) {
+                return Notice.of(feed, (Comment) entity, event.getType());
+            }
+            if (event.getType() == Type.REPLY) {
+                return Notice.of(feed, (Reply) entity, event.getType());
+            }
+            return Notice.of(feed, (FeedLike) entity, event.getType());
+        }
+
+        private <T> T byType(Type type, T comment, T reply, T feedLike) {
+            if (type == Type.COMMENT) {
+                return comment;
+            }
+            if (type == Type.REPLY) {
+                return reply;
+            }
+            return feedLike;
+        }
     }
 
     private void validateIdAndType(Feed feedId, BaseEntity entity, Type entityType) {
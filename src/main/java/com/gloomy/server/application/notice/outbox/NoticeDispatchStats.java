@@ -0,0 +1,12 @@
+package com.gloomy.server.application.notice.outbox;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class NoticeDispatchStats {
+    private final long dispatchedCount;
+    private final long failureCount;
+    private final long lagMillis;
+}
@@ -0,0 +1,96 @@
+package com.gloomy.server.application.notice.outbox;
+
+import com.gloomy.server.application.notice.NoticeService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox에 쌓인 알림 사건을 주기적으로 꺼내 Notice로 옮긴다.
+ * 묶음마다 별도 트랜잭션으로 처리하고, 실패한 묶음은 outbox에 그대로 남아 다음 주기에 다시 처리된다.
+ * lag은 아직 처리되지 않은 가장 오래된 사건이 쌓인 뒤 지난 시간이다.
+ * 한 주기에 maxBatches 묶음까지 처리하느라 길어질 수 있으므로 공용 스케줄러가 아닌 전용 스레드에서 돈다.
+ */
+@Slf4j
+@Component
+public class NoticeDispatcher {
+    private final NoticeService noticeService;
+    private final ThreadPoolTaskExecutor executor;
+    private final AtomicLong dispatchedCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    @Value("${notice.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${notice.outbox.max-batches:50}")
+    private int maxBatches;
+
+    public NoticeDispatcher(NoticeService noticeService) {
+        this.noticeService = noticeService;
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(1);
+        this.executor.setMaxPoolSize(1);
+        this.executor.setQueueCapacity(0);
+        this.executor.setThreadNamePrefix("notice-dispatcher-");
+        this.executor.initialize();
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+    }
+
+    @Scheduled(fixedDelayString = "${notice.outbox.dispatch-delay-ms:500}")
+    public void scheduleDispatch() {
+        try {
+            executor.execute(this::dispatch);
+        } catch (TaskRejectedException e) {
+            // 이전 주기가 아직 처리 중이면 이번 주기는 건너뛴다
+        }
+    }
+
+    public void dispatch() {
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                int count = noticeService.dispatchNoticeEvents(batchSize);
+                dispatchedCount.addAndGet(count);
+                if (count < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            failureCount.incrementAndGet();
+            log.warn("[NoticeDispatcher] 알림 사건 처리 실패, 다음 주기에 다시 처리합니다.", e);
+        }
+        lagMillis.set(findLagMillis());
+    }
+
+    public NoticeDispatchStats stats() {
+        return new NoticeDispatchStats(dispatchedCount.get(), failureCount.get(), lagMillis.get());
+    }
+
+    @Scheduled(fixedDelayString = "${notice.outbox.stats-log-delay-ms:600000}",
+            initialDelayString = "${notice.outbox.stats-log-delay-ms:600000}")
+    public void logStats() {
+        NoticeDispatchStats stats = stats();
+        log.info("[NoticeDispatcher] dispatched={}, failure={}, lagMillis={}",
+                stats.getDispatchedCount(), stats.getFailureCount(), stats.getLagMillis());
+    }
+
+    private long findLagMillis() {
+        LocalDateTime oldestCreatedAt = noticeService.findOldestNoticeEventCreatedAt();
+        if (oldestCreatedAt == null) {
+            return 0;
+        }
+        return Math.max(0, Duration.between(oldestCreatedAt, LocalDateTime.now()).toMillis());
+    }
+}
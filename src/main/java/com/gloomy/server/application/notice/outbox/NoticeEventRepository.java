@@ -0,0 +1,51 @@
+package com.gloomy.server.application.notice.outbox;
+
+import com.gloomy.server.domain.comment.Comment;
+import com.gloomy.server.domain.feed.Feed;
+import com.gloomy.server.domain.feedlike.FeedLike;
+import com.gloomy.server.domain.notice.NoticeEvent;
+import com.gloomy.server.domain.reply.Reply;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NoticeEventRepository extends JpaRepository<NoticeEvent, Long> {
+    /**
+     * 처리할 사건을 오래된 순서로 가져오며 트랜잭션이 끝날 때까지 잠근다.
+     * 잠금 대기 시간 -2는 SKIP LOCKED로, 다른 서버가 처리 중인 사건은 기다리지 않고 건너뛴다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    List<NoticeEvent> findAllByOrderByIdAsc(Pageable pageable);
+
+    @Query("select min(e.createdAt) from NoticeEvent e")
+    LocalDateTime findOldestCreatedAt();
+
+    @Query("select f from Feed f where f.id in :feedIds")
+    List<Feed> findFeedsByIdIn(@Param("feedIds") Collection<Long> feedIds);
+
+    @Query("select c from Comment c where c.id in :commentIds")
+    List<Comment> findCommentsByIdIn(@Param("commentIds") Collection<Long> commentIds);
+
+    @Query("select r from Reply r where r.id in :replyIds")
+    List<Reply> findRepliesByIdIn(@Param("replyIds") Collection<Long> replyIds);
+
+    @Query("select l from FeedLike l where l.id in :feedLikeIds")
+    List<FeedLike> findFeedLikesByIdIn(@Param("feedLikeIds") Collection<Long> feedLikeIds);
+
+    @Modifying
+    @Query("delete from NoticeEvent e where e.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
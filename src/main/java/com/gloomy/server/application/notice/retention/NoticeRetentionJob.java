@@ -0,0 +1,192 @@
+package com.gloomy.server.application.notice.retention;
+
+import com.gloomy.server.application.notice.NoticeService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 보관 기간이 지난 알림과 회원별 보관 개수를 넘는 오래된 알림을 지운다.
+ * 한 번에 chunkSize개의 연속된 ID 묶음만 각자의 짧은 트랜잭션으로 지우고, 묶음 사이에 chunkPauseMillis만큼 쉬어
+ * 긴 락이나 한꺼번에 몰리는 binlog 없이 조금씩 지운다. 한 번 실행에 maxChunks 묶음까지만 지우고 나머지는 다음 실행으로 넘긴다.
+ * 보관 개수를 넘은 회원 목록은 알림 테이블 전체를 집계해야 하므로 실행마다 한 번만 구한다.
+ * 회원 한 명에 적어도 한 묶음이 들므로 남은 묶음 수만큼만 가져오고, 나머지 회원은 다음 실행에서 다시 집계한다.
+ * 기본 실행 시각은 FeedCountReconciler(04:30)와 겹치지 않게 03:30이다.
+ * 묶음 사이에 쉬는 동안 공용 스케줄러 스레드를 잡고 있지 않도록, cron은 실행을 전용 스레드에 넘기기만 한다.
+ * maxAgeDays나 maxPerUser가 0 이하이면 해당 정책은 쓰지 않는다.
+ */
+@Slf4j
+@Component
+public class NoticeRetentionJob {
+    private final NoticeService noticeService;
+    private final ThreadPoolTaskExecutor executor;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong runCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong deletedCount = new AtomicLong();
+    private final AtomicLong chunkCount = new AtomicLong();
+    private final AtomicLong lastRunDeletedCount = new AtomicLong();
+    private final AtomicLong lastRunMillis = new AtomicLong();
+    private final AtomicLong lastDeletedId = new AtomicLong();
+
+    private final long maxAgeDays;
+    private final int maxPerUser;
+    private final int chunkSize;
+    private final long chunkPauseMillis;
+    private final int maxChunks;
+
+    public NoticeRetentionJob(NoticeService noticeService,
+                              @Value("${notice.retention.max-age-days:90}") long maxAgeDays,
+                              @Value("${notice.retention.max-per-user:500}") int maxPerUser,
+                              @Value("${notice.retention.chunk-size:500}") int chunkSize,
+                              @Value("${notice.retention.chunk-pause-ms:200}") long chunkPauseMillis,
+                              @Value("${notice.retention.max-chunks:2000}") int maxChunks) {
+        this.noticeService = noticeService;
+        this.maxAgeDays = maxAgeDays;
+        this.maxPerUser = maxPerUser;
+        this.chunkSize = chunkSize;
+        this.chunkPauseMillis = chunkPauseMillis;
+        this.maxChunks = maxChunks;
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(1);
+        this.executor.setMaxPoolSize(1);
+        this.executor.setQueueCapacity(0);
+        this.executor.setThreadNamePrefix("notice-retention-");
+        this.executor.initialize();
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+    }
+
+    @Scheduled(cron = "${notice.retention.cron:0 30 3 * * *}")
+    public void schedule() {
+        try {
+            executor.execute(this::run);
+        } catch (TaskRejectedException e) {
+            log.info("[NoticeRetentionJob] 이전 알림 정리가 아직 실행 중이라 이번 실행은 건너뜁니다.");
+        }
+    }
+
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        long deletedBefore = deletedCount.get();
+        ChunkBudget budget = new ChunkBudget(maxChunks);
+        try {
+            deleteExpiredNotices(budget);
+            deleteOverflowNotices(budget);
+        } catch (RuntimeException e) {
+            failureCount.incrementAndGet();
+            log.warn("[NoticeRetentionJob] 알림 정리 실패, 다음 실행에 이어서 정리합니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            runCount.incrementAndGet();
+            lastRunDeletedCount.set(deletedCount.get() - deletedBefore);
+            lastRunMillis.set(System.currentTimeMillis() - startedAt);
+            running.set(false);
+            logStats();
+        }
+    }
+
+    public NoticeRetentionStats stats() {
+        return new NoticeRetentionStats(running.get(), runCount.get(), failureCount.get(), deletedCount.get(), chunkCount.get(),
+                lastRunDeletedCount.get(), lastRunMillis.get(), lastDeletedId.get());
+    }
+
+    public void logStats() {
+        NoticeRetentionStats stats = stats();
+        log.info("[NoticeRetentionJob] run={}, failure={}, deleted={}, chunk={}, lastRunDeleted={}, lastRunMillis={}, lastDeletedId={}",
+                stats.getRunCount(), stats.getFailureCount(), stats.getDeletedCount(), stats.getChunkCount(),
+                stats.getLastRunDeletedCount(), stats.getLastRunMillis(), stats.getLastDeletedId());
+    }
+
+    private void deleteExpiredNotices(ChunkBudget budget) throws InterruptedException {
+        if (maxAgeDays <= 0) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(maxAgeDays);
+        Long afterId = 0L;
+        while (budget.hasNext()) {
+            List<Long> ids = noticeService.findExpiredNoticeIds(cutoff, afterId, chunkSize);
+            if (ids.isEmpty()) {
+                return;
+            }
+            deleteChunk(ids, budget);
+            afterId = ids.get(ids.size() - 1);
+        }
+    }
+
+    private void deleteOverflowNotices(ChunkBudget budget) throws InterruptedException {
+        if (maxPerUser <= 0) {
+            return;
+        }
+        if (!budget.hasNext()) {
+            return;
+        }
+        List<Long> userIds = noticeService.findUserIdsOverNoticeLimit(maxPerUser, budget.remaining());
+        for (Long userId : userIds) {
+            if (!budget.hasNext()) {
+                return;
+            }
+            deleteOverflowNotices(userId, budget);
+        }
+    }
+
+    private void deleteOverflowNotices(Long userId, ChunkBudget budget) throws InterruptedException {
+        Long lastOverflowId = noticeService.findLastOverflowNoticeId(userId, maxPerUser);
+        if (lastOverflowId == null) {
+            return;
+        }
+        while (budget.hasNext()) {
+            List<Long> ids = noticeService.findUserNoticeIdsUpTo(userId, lastOverflowId, chunkSize);
+            if (ids.isEmpty()) {
+                return;
+            }
+            deleteChunk(ids, budget);
+        }
+    }
+
+    private void deleteChunk(List<Long> ids, ChunkBudget budget) throws InterruptedException {
+        deletedCount.addAndGet(noticeService.deleteNotices(ids));
+        chunkCount.incrementAndGet();
+        lastDeletedId.set(ids.get(ids.size() - 1));
+        budget.use();
+        if (chunkPauseMillis > 0) {
+            Thread.sleep(chunkPauseMillis);
+        }
+    }
+
+    private static class ChunkBudget {
+        private int remaining;
+
+        private ChunkBudget(int remaining) {
+            this.remaining = remaining;
+        }
+
+        private boolean hasNext() {
+            return remaining > 0;
+        }
+
+        private int remaining() {
+            return remaining;
+        }
+
+        private void use() {
+            remaining--;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.gloomy.server.application.notice.retention;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class NoticeRetentionStats {
+    private final boolean running;
+    private final long runCount;
+    private final long failureCount;
+    private final long deletedCount;
+    private final long chunkCount;
+    private final long lastRunDeletedCount;
+    private final long lastRunMillis;
+    private final long lastDeletedId;
+}
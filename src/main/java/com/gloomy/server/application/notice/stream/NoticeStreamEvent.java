@@ -0,0 +1,41 @@
+package com.gloomy.server.application.notice.stream;
+
+import com.gloomy.server.application.notice.NoticeDTO;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 구독 버퍼에 쌓아 두는 SSE 한 건. SseEventBuilder는 보낼 때마다 새로 만들어야 하므로 내용만 들고 있다.
+ * 이벤트 ID는 알림 순번이므로 클라이언트가 돌려주는 Last-Event-ID로 그 뒤에 만들어지거나 합쳐진 알림을 다시 보낼 수 있다.
+ */
+@Getter
+class NoticeStreamEvent {
+    private static final String NOTICE = "notice";
+
+    private final NoticeDTO.Response notice;
+    private final String comment;
+
+    private NoticeStreamEvent(NoticeDTO.Response notice, String comment) {
+        this.notice = notice;
+        this.comment = comment;
+    }
+
+    static NoticeStreamEvent notice(NoticeDTO.Response notice) {
+        return new NoticeStreamEvent(notice, null);
+    }
+
+    static NoticeStreamEvent comment(String comment) {
+        return new NoticeStreamEvent(null, comment);
+    }
+
+    SseEmitter.SseEventBuilder toSseEvent() {
+        if (notice == null) {
+            return SseEmitter.event().comment(comment);
+        }
+        return SseEmitter.event()
+                .id(String.valueOf(notice.getSequence()))
+                .name(NOTICE)
+                .data(notice, MediaType.APPLICATION_JSON);
+    }
+}
@@ -0,0 +1,258 @@
+package com.gloomy.server.application.notice.stream;
+
+import com.gloomy.server.application.notice.NoticeDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 회원별 알림 SSE 연결을 들고 있다가 새 알림을 그 회원의 연결에 나눠 준다.
+ * 연결은 비동기 요청으로 열어 두기만 하고 스레드를 잡지 않으며, 실제 쓰기는 sender 스레드가 맡는다.
+ * sender는 평소 senderThreads개로 돌고, 소켓 쓰기가 막힌 연결이 스레드를 잡고 있으면 maxSenderThreads개까지 늘려
+ * 막힌 연결 몇 개가 다른 연결의 쓰기를 세우지 않게 한다. 막힌 쓰기 자체는 톰캣의 쓰기 타임아웃(connection-timeout)에서 끝난다.
+ * 연결마다 bufferSize개까지만 보낼 이벤트를 쌓아 두고, 버퍼가 차면 그 연결을 닫는다.
+ * <p>
+ * SseEmitter의 send와 complete는 같은 모니터를 잡으므로, 닫기는 닫힘 표시만 하고 complete는 그 연결의 쓰기를 맡은 sender가
+ * 마지막에 부른다. 알림을 만든 스레드나 heartbeat 스레드가 느린 소켓의 쓰기를 기다리는 일은 없다.
+ * 닫힌 클라이언트는 Last-Event-ID로 다시 연결해 놓친 알림을 받는다. 연결을 먼저 등록한 뒤 놓친 알림을 불러오므로
+ * 그 사이 만들어진 알림도 빠지지 않고, 놓친 알림에 이미 들어 있는 순번은 한 번만 보낸다.
+ */
+@Slf4j
+@Component
+public class NoticeStreamHub {
+    private static final String CONNECTED = "connected";
+    private static final String HEARTBEAT = "heartbeat";
+
+    private final Map<Long, Set<NoticeSubscription>> subscriptions = new ConcurrentHashMap<>();
+    private final Executor sender;
+    private final ExecutorService ownedSender;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final AtomicLong publishedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    @Autowired
+    public NoticeStreamHub(@Value("${notice.stream.buffer-size:32}") int bufferSize,
+                           @Value("${notice.stream.timeout-ms:1800000}") long timeoutMillis,
+                           @Value("${notice.stream.sender-threads:2}") int senderThreads,
+                           @Value("${notice.stream.max-sender-threads:64}") int maxSenderThreads) {
+        this(bufferSize, timeoutMillis, new ThreadPoolExecutor(senderThreads, Math.max(senderThreads, maxSenderThreads),
+                60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("notice-stream-" + thread.getId());
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    NoticeStreamHub(int bufferSize, long timeoutMillis, Executor sender) {
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+        this.sender = sender;
+        this.ownedSender = sender instanceof ExecutorService ? (ExecutorService) sender : null;
+    }
+
+    /**
+     * 새 연결을 열고, 끊긴 동안 놓친 알림(backlog)을 먼저 보낸다. backlog는 bufferSize개를 넘지 않아야 한다.
+     * 연결을 등록한 다음 backlogLoader를 부르고, 그동안 들어온 새 알림은 붙잡아 두었다가 backlog 뒤에 보낸다.
+     */
+    public SseEmitter subscribe(Long userId, Supplier<List<NoticeDTO.Response>> backlogLoader) {
+        if (userId == null || userId <= 0) {
+            throw new IllegalArgumentException("[NoticeStreamHub] userId가 유효하지 않습니다.");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        NoticeSubscription subscription = new NoticeSubscription(userId, emitter, bufferSize);
+        emitter.onCompletion(() -> remove(subscription));
+        emitter.onTimeout(() -> close(subscription));
+        emitter.onError(throwable -> remove(subscription));
+        subscriptions.computeIfAbsent(userId, key -> ConcurrentHashMap.newKeySet()).add(subscription);
+        connectionCount.incrementAndGet();
+        enqueue(subscription, NoticeStreamEvent.comment(CONNECTED));
+        List<NoticeDTO.Response> backlog;
+        try {
+            backlog = backlogLoader.get();
+        } catch (RuntimeException e) {
+            close(subscription);
+            throw e;
+        }
+        replay(subscription, backlog);
+        return emitter;
+    }
+
+    public void publish(Long userId, NoticeDTO.Response notice) {
+        Set<NoticeSubscription> userSubscriptions = subscriptions.get(userId);
+        if (userSubscriptions == null) {
+            return;
+        }
+        publishedCount.incrementAndGet();
+        for (NoticeSubscription subscription : userSubscriptions) {
+            NoticeStreamEvent event = NoticeStreamEvent.notice(notice);
+            if (!subscription.hold(event)) {
+                enqueue(subscription, event);
+            }
+        }
+    }
+
+    /**
+     * 프록시나 로드밸런서가 유휴 연결을 끊지 않도록 모든 연결에 주석 한 줄을 보낸다.
+     * 지난 heartbeat 때부터 버퍼를 비우지 못한 연결은 느린 소비자로 보고 닫는다.
+     */
+    @Scheduled(fixedDelayString = "${notice.stream.heartbeat-ms:20000}")
+    public void heartbeat() {
+        for (Set<NoticeSubscription> userSubscriptions : subscriptions.values()) {
+            for (NoticeSubscription subscription : userSubscriptions) {
+                if (subscription.checkStalled()) {
+                    drop(subscription);
+                    continue;
+                }
+                enqueue(subscription, NoticeStreamEvent.comment(HEARTBEAT));
+            }
+        }
+    }
+
+    public int getReplayLimit() {
+        return bufferSize - 1;
+    }
+
+    public NoticeStreamStats stats() {
+        return new NoticeStreamStats(connectionCount.get(), publishedCount.get(), droppedCount.get());
+    }
+
+    @Scheduled(fixedDelayString = "${notice.stream.stats-log-delay-ms:600000}",
+            initialDelayString = "${notice.stream.stats-log-delay-ms:600000}")
+    public void logStats() {
+        NoticeStreamStats stats = stats();
+        log.info("[NoticeStreamHub] connection={}, published={}, dropped={}",
+                stats.getConnectionCount(), stats.getPublishedCount(), stats.getDroppedCount());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Set<NoticeSubscription> userSubscriptions : subscriptions.values()) {
+            for (NoticeSubscription subscription : userSubscriptions) {
+                if (remove(subscription) && subscription.markCompleted()) {
+                    subscription.getEmitter().complete();
+                }
+            }
+        }
+        if (ownedSender != null) {
+            ownedSender.shutdownNow();
+        }
+    }
+
+    /**
+     * backlog를 보낸 뒤 불러오는 동안 붙잡아 둔 알림 중 backlog의 마지막 순번보다 뒤인 것만 이어서 보낸다.
+     */
+    private void replay(NoticeSubscription subscription, List<NoticeDTO.Response> backlog) {
+        synchronized (subscription) {
+            long lastSequence = 0;
+            for (NoticeDTO.Response notice : backlog) {
+                enqueue(subscription, NoticeStreamEvent.notice(notice));
+                lastSequence = Math.max(lastSequence, notice.getSequence());
+            }
+            for (NoticeStreamEvent event : subscription.releaseHeld()) {
+                Long sequence = event.getNotice().getSequence();
+                if (sequence == null || sequence > lastSequence) {
+                    enqueue(subscription, event);
+                }
+            }
+            if (subscription.isHeldOverflow()) {
+                drop(subscription);
+            }
+        }
+    }
+
+    private void enqueue(NoticeSubscription subscription, NoticeStreamEvent event) {
+        if (subscription.isClosed()) {
+            return;
+        }
+        if (!subscription.offer(event)) {
+            drop(subscription);
+            return;
+        }
+        scheduleDrain(subscription);
+    }
+
+    private void scheduleDrain(NoticeSubscription subscription) {
+        if (!subscription.startDrain()) {
+            return;
+        }
+        try {
+            sender.execute(() -> drain(subscription));
+        } catch (RejectedExecutionException e) {
+            // sender가 모두 막혀 있으면 complete를 맡길 곳이 없다. 연결은 SseEmitter 타임아웃으로 정리된다.
+            subscription.finishDrain();
+            remove(subscription);
+        }
+    }
+
+    private void drain(NoticeSubscription subscription) {
+        try {
+            NoticeStreamEvent event;
+            while (!subscription.isClosed() && (event = subscription.poll()) != null) {
+                subscription.getEmitter().send(event.toSseEvent());
+                subscription.markSent();
+            }
+            if (subscription.isClosed() && subscription.markCompleted()) {
+                subscription.getEmitter().complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            subscription.markCompleted();
+            remove(subscription);
+            return;
+        } finally {
+            subscription.finishDrain();
+        }
+        if (subscription.isClosed() ? !subscription.isCompleted() : !subscription.isBufferEmpty()) {
+            scheduleDrain(subscription);
+        }
+    }
+
+    private void drop(NoticeSubscription subscription) {
+        if (!subscription.isClosed()) {
+            droppedCount.incrementAndGet();
+        }
+        close(subscription);
+    }
+
+    /**
+     * 닫힘 표시만 하고 complete는 sender에 맡긴다. 쓰기가 진행 중이면 그 쓰기를 마친 sender가 이어서 부른다.
+     */
+    private void close(NoticeSubscription subscription) {
+        if (remove(subscription)) {
+            scheduleDrain(subscription);
+        }
+    }
+
+    private boolean remove(NoticeSubscription subscription) {
+        if (!subscription.close()) {
+            return false;
+        }
+        subscriptions.computeIfPresent(subscription.getUserId(), (userId, userSubscriptions) -> {
+            userSubscriptions.remove(subscription);
+            return userSubscriptions.isEmpty() ? null : userSubscriptions;
+        });
+        connectionCount.decrementAndGet();
+        return true;
+    }
+}
@@ -0,0 +1,12 @@
+package com.gloomy.server.application.notice.stream;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class NoticeStreamStats {
+    private final int connectionCount;
+    private final long publishedCount;
+    private final long droppedCount;
+}
@@ -0,0 +1,128 @@
+package com.gloomy.server.application.notice.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 연결 하나의 SseEmitter와 아직 보내지 못한 이벤트를 담는 고정 크기 버퍼.
+ * 놓친 알림을 불러오는 동안에는 새 알림을 버퍼 대신 heldEvents에 붙잡아 두었다가, 놓친 알림 뒤에 이어서 보낸다.
+ */
+class NoticeSubscription {
+    private final Long userId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<NoticeStreamEvent> buffer;
+    private final int bufferSize;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicBoolean completed = new AtomicBoolean();
+    private final AtomicLong sentCount = new AtomicLong();
+    private boolean pendingAtLastCheck;
+    private long sentCountAtLastCheck;
+    private List<NoticeStreamEvent> heldEvents = new ArrayList<>();
+    private boolean heldOverflow;
+
+    NoticeSubscription(Long userId, SseEmitter emitter, int bufferSize) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.bufferSize = bufferSize;
+    }
+
+    Long getUserId() {
+        return userId;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    boolean offer(NoticeStreamEvent event) {
+        return buffer.offer(event);
+    }
+
+    NoticeStreamEvent poll() {
+        return buffer.poll();
+    }
+
+    boolean isBufferEmpty() {
+        return buffer.isEmpty();
+    }
+
+    /**
+     * 놓친 알림을 불러오는 중이면 알림을 붙잡아 두고 true를 돌려준다. 버퍼 크기를 넘는 알림은 버리고 넘쳤다고 표시한다.
+     */
+    synchronized boolean hold(NoticeStreamEvent event) {
+        if (heldEvents == null) {
+            return false;
+        }
+        if (heldEvents.size() < bufferSize) {
+            heldEvents.add(event);
+        } else {
+            heldOverflow = true;
+        }
+        return true;
+    }
+
+    /**
+     * 붙잡아 둔 알림을 돌려주고 이후 알림은 바로 버퍼로 보내게 한다. 이 구독으로 잠근 채 불러야 사이에 들어온 알림이 앞지르지 않는다.
+     */
+    List<NoticeStreamEvent> releaseHeld() {
+        List<NoticeStreamEvent> held = heldEvents;
+        heldEvents = null;
+        return held;
+    }
+
+    boolean isHeldOverflow() {
+        return heldOverflow;
+    }
+
+    void markSent() {
+        sentCount.incrementAndGet();
+    }
+
+    /**
+     * 버퍼에 남은 이벤트가 있는지 기록하고, 직전 확인 때부터 계속 남아 있었으면서 그 사이 하나도 보내지 못했는지 돌려준다.
+     * 이벤트가 쌓여 있어도 조금씩 나가고 있으면 느린 소비자로 보지 않는다. heartbeat 스레드 하나에서만 부른다.
+     */
+    boolean checkStalled() {
+        boolean pending = !buffer.isEmpty();
+        long sent = sentCount.get();
+        boolean stalled = pendingAtLastCheck && pending && sent == sentCountAtLastCheck;
+        pendingAtLastCheck = pending;
+        sentCountAtLastCheck = sent;
+        return stalled;
+    }
+
+    boolean startDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void finishDrain() {
+        draining.set(false);
+    }
+
+    boolean close() {
+        return closed.compareAndSet(false, true);
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * emitter.complete()를 부를 차례인지 돌려준다. 한 번만 true다.
+     */
+    boolean markCompleted() {
+        return completed.compareAndSet(false, true);
+    }
+
+    boolean isCompleted() {
+        return completed.get();
+    }
+}
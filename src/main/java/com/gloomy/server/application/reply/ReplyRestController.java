@@ -1,8 +1,8 @@
 package com.gloomy.server.application.reply;
 
 import com.gloomy.server.application.core.response.RequestContext;
+import com.gloomy.server.application.security.CurrentUserId;
 import com.gloomy.server.domain.reply.Reply;
-import com.gloomy.server.domain.user.UserService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -16,20 +16,17 @@ import java.util.List;
 @RestController
 @RequestMapping("/reply")
 public class ReplyRestController {
-    private final UserService userService;
     private final ReplyService replyService;
     private final RequestContext requestContext;
 
-    public ReplyRestController(UserService userService, ReplyService replyService, RequestContext requestContext) {
-        this.userService = userService;
+    public ReplyRestController(ReplyService replyService, RequestContext requestContext) {
         this.replyService = replyService;
         this.requestContext = requestContext;
     }
 
     @PostMapping(value = "")
-    public ReplyDTO.Response createReply(@Validated @RequestBody ReplyDTO.Request replyDTO) {
+    public ReplyDTO.Response createReply(@Validated @RequestBody ReplyDTO.Request replyDTO, @CurrentUserId Long userId) {
         requestContext.setRequestBody(replyDTO);
-        Long userId = userService.getMyInfo();
         Reply createdReply = replyService.createReply(userId, replyDTO);
         return makeReplyDTOResponse(createdReply);
     }
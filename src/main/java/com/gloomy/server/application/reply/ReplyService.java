@@ -1,6 +1,7 @@
 package com.gloomy.server.application.reply;
 
 import com.gloomy.server.application.comment.CommentService;
+import com.gloomy.server.application.feed.FeedService;
 import com.gloomy.server.application.notice.NoticeService;
 import com.gloomy.server.domain.comment.Comment;
 import com.gloomy.server.domain.common.entity.Status;
@@ -21,12 +22,14 @@ import java.util.List;
 public class ReplyService {
     private final UserService userService;
     private final CommentService commentService;
+    private final FeedService feedService;
     private final NoticeService noticeService;
     private final ReplyRepository replyRepository;
 
-    public ReplyService(UserService userService, CommentService commentService, NoticeService noticeService, ReplyRepository replyRepository) {
+    public ReplyService(UserService userService, CommentService commentService, FeedService feedService, NoticeService noticeService, ReplyRepository replyRepository) {
         this.userService = userService;
         this.commentService = commentService;
+        this.feedService = feedService;
         this.noticeService = noticeService;
         this.replyRepository = replyRepository;
     }
@@ -35,7 +38,8 @@ public class ReplyService {
     public Reply createReply(Long userId, ReplyDTO.Request replyDTO) {
         validateReplyDTO(userId, replyDTO);
         Reply reply = replyRepository.save(makeReply(userId, replyDTO));
-        noticeService.createNotice(reply.getCommentId().getFeedId(), reply, Type.REPLY);
+        feedService.addReplyCount(reply.getCommentId().getFeedId(), 1);
+        noticeService.publishNotice(reply.getCommentId().getFeedId(), reply, Type.REPLY);
         return reply;
     }
 
@@ -143,6 +147,9 @@ public class ReplyService {
     @Transactional
     public Reply deleteReply(Long replyId) {
         Reply foundReply = findReply(replyId);
+        if (foundReply.getStatus() == Status.active()) {
+            feedService.addReplyCount(foundReply.getCommentId().getFeedId(), -1);
+        }
         foundReply.delete();
         return replyRepository.save(foundReply);
     }
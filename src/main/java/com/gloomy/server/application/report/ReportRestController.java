@@ -1,9 +1,8 @@
 package com.gloomy.server.application.report;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.gloomy.server.application.jwt.JwtService;
+import com.gloomy.server.application.security.CurrentUserId;
 import com.gloomy.server.domain.report.ReportService;
-import com.gloomy.server.domain.user.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -12,13 +11,10 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class ReportRestController {
 
-    private final UserService userService;
     private final ReportService reportService;
-    private final JwtService jwtService;
 
     @PostMapping("/report/feed")
-    public void reportFeed(@Validated @RequestBody ReportDTO.Request request) throws JsonProcessingException {
-        Long userId=jwtService.getMyInfo();
+    public void reportFeed(@Validated @RequestBody ReportDTO.Request request, @CurrentUserId Long userId) throws JsonProcessingException {
         reportService.saveReport(request,userId);
     }
 
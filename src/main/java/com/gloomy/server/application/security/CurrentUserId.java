@@ -0,0 +1,14 @@
+package com.gloomy.server.application.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 인증된 회원의 ID를 컨트롤러 파라미터로 받는다. 토큰 없이 들어온 요청이면 null이다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUserId {
+}
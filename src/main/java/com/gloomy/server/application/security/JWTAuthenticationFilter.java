@@ -1,8 +1,6 @@
 package com.gloomy.server.application.security;
 
-import com.gloomy.server.domain.logout.Logout;
-import com.gloomy.server.domain.logout.LogoutRepository;
-import com.gloomy.server.domain.logout.LogoutService;
+import com.gloomy.server.domain.logout.RevokedTokens;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
@@ -14,7 +12,6 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Optional;
 
 import static com.gloomy.server.application.core.ErrorMessage.isLogoutToken;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
@@ -24,7 +21,7 @@ import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 class JWTAuthenticationFilter extends OncePerRequestFilter {
 
 //    private final RedisService redisService;
-    private final LogoutService logoutService;
+    private final RevokedTokens revokedTokens;
 
 
     @Override
@@ -35,8 +32,7 @@ class JWTAuthenticationFilter extends OncePerRequestFilter {
             if (s != null) {
                 String token = s.substring("Bearer ".length());
 
-                logoutService.getToken(token);
-//                checkLogout(token); // 로그아웃 체크
+                checkLogout(token); // 로그아웃 체크
                 jwt=new JWT(token);
             }
 
@@ -46,11 +42,9 @@ class JWTAuthenticationFilter extends OncePerRequestFilter {
     }
     
     private void checkLogout(String token){
-//        String isLogout=redisService.getValue(token);
-//        if (!ObjectUtils.isEmpty(isLogout)) { // 블랙리스트에 없을 경우
-//            throw new IllegalArgumentException(isLogoutToken);
-//        }
-
+        if (revokedTokens.isRevoked(token)) { // 메모리에서만 확인하고 DB는 조회하지 않는다
+            throw new IllegalArgumentException(isLogoutToken);
+        }
     }
     
 
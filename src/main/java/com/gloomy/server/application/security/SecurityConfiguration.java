@@ -1,8 +1,7 @@
 package com.gloomy.server.application.security;
 
 import com.gloomy.server.domain.jwt.JWTDeserializer;
-import com.gloomy.server.domain.logout.LogoutRepository;
-import com.gloomy.server.domain.logout.LogoutService;
+import com.gloomy.server.domain.logout.RevokedTokens;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.ConstructorBinding;
@@ -17,6 +16,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.List;
@@ -26,7 +26,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SecurityConfiguration extends WebSecurityConfigurerAdapter implements WebMvcConfigurer {
 
-    private final LogoutService logoutService;
+    private final RevokedTokens revokedTokens;
     private final SecurityConfigurationProperties properties;
     private final JWTDeserializer jwtDeserializer;
 
@@ -37,7 +37,7 @@ public class SecurityConfiguration extends WebSecurityConfigurerAdapter implemen
         http.cors();
         http.logout().disable();
         http.addFilterBefore(new JwtExceptionFilter(),UsernamePasswordAuthenticationFilter.class)
-                .addFilterBefore(new JWTAuthenticationFilter(logoutService), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JWTAuthenticationFilter(revokedTokens), UsernamePasswordAuthenticationFilter.class);
         http.authorizeRequests()
                 .anyRequest().permitAll()
                 .and()
@@ -59,6 +59,11 @@ public class SecurityConfiguration extends WebSecurityConfigurerAdapter implemen
     }
 
 
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new CurrentUserIdArgumentResolver());
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
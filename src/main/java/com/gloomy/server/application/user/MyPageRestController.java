@@ -2,16 +2,13 @@ package com.gloomy.server.application.user;
 
 
 import com.gloomy.server.application.comment.CommentDTO;
+import com.gloomy.server.application.comment.CommentRow;
 import com.gloomy.server.application.comment.CommentService;
+import com.gloomy.server.application.core.response.CursorSlice;
+import com.gloomy.server.application.feed.FeedCardAssembler;
 import com.gloomy.server.application.feed.FeedDTO;
 import com.gloomy.server.application.feed.FeedService;
-import com.gloomy.server.application.feedlike.FeedLikeService;
-import com.gloomy.server.application.image.ImageService;
-import com.gloomy.server.application.image.Images;
-import com.gloomy.server.application.jwt.JwtService;
-import com.gloomy.server.domain.comment.Comment;
-import com.gloomy.server.domain.feed.Feed;
-import com.gloomy.server.domain.user.UserService;
+import com.gloomy.server.application.security.CurrentUserId;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -20,6 +17,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.ArrayList;
@@ -30,57 +28,43 @@ import java.util.List;
 @RequiredArgsConstructor
 public class MyPageRestController {
 
-    private final UserService userService;
     private final CommentService commentService;
-    private final JwtService jwtService;
     private final FeedService feedService;
-    private final ImageService imageService;
-    private final FeedLikeService feedLikeService;
+    private final FeedCardAssembler feedCardAssembler;
 
 
     @GetMapping(value ="/comment")
-    public Page<CommentDTO.Response> findUserComments(@PageableDefault(size=10)Pageable pageable){
-        Long userId=jwtService.getMyInfo();
-        Page<Comment> comments=commentService.getCommentByIdAndActive(pageable,userId);
+    public Page<CommentDTO.Response> findUserComments(@PageableDefault(size=10)Pageable pageable, @CurrentUserId Long userId){
+        Page<CommentRow> comments=commentService.getCommentRowsByIdAndActive(pageable,userId);
         return makeCommentPage(comments);
     }
 
     @GetMapping("/feed")
-    public Page<FeedDTO.Response> getUserFeeds(@PageableDefault(size = 10) Pageable pageable) {
-        Long userId = jwtService.getMyInfo();
-        Page<Feed> userFeeds = feedService.findUserFeeds(pageable, userId);
-        return makeResult(userFeeds);
+    public Page<FeedDTO.Response> getUserFeeds(@PageableDefault(size = 10) Pageable pageable, @CurrentUserId Long userId) {
+        Page<Long> userFeedIds = feedService.findUserFeedIds(pageable, userId);
+        return feedCardAssembler.makeFeedPage(userFeedIds);
     }
 
-    private Page<FeedDTO.Response> makeResult(Page<Feed> allFeeds) {
-        List<FeedDTO.Response> result = new ArrayList<>();
-        for (Feed feed : allFeeds.getContent()) {
-            result.add(makeFeedDTOResponse(feed));
-        }
-        return new PageImpl<>(result);
-    }
-
-    private FeedDTO.Response makeFeedDTOResponse(Feed feed) {
-        Images activeImages = imageService.findAllActiveImages(feed);
-        Integer likeCount = feedLikeService.getFeedLikeCount(feed);
-        List<Comment> allComments = commentService.findAllComments(feed.getId());
-        return FeedDTO.Response.of(feed, activeImages, likeCount, allComments.size());
+    @GetMapping(value = "/feed", params = "cursor")
+    public CursorSlice<FeedDTO.Response> getUserFeeds(@RequestParam String cursor, @PageableDefault(size = 10) Pageable pageable, @CurrentUserId Long userId) {
+        CursorSlice<Long> userFeedIds = feedService.findUserFeedIds(cursor, pageable, userId);
+        return feedCardAssembler.makeFeedSlice(userFeedIds);
     }
 
-    private Page<CommentDTO.Response> makeCommentPage(Page<Comment> comments){
+    private Page<CommentDTO.Response> makeCommentPage(Page<CommentRow> comments){
         List<CommentDTO.Response> commentDTOList = new ArrayList<>();
-        for (Comment comment : comments.getContent()) {
+        for (CommentRow comment : comments.getContent()) {
             commentDTOList.add(makeComment(comment));
         }
         return new PageImpl<>(commentDTOList);
     }
 
-    private CommentDTO.Response makeComment(Comment comment){
+    private CommentDTO.Response makeComment(CommentRow comment){
         return CommentDTO.Response.builder()
                 .id(comment.getId())
-                .content(comment.getContent().getContent())
-                .feedId(comment.getFeedId().getId())
-                .userId(comment.getUserId().getId())
+                .content(comment.getContent())
+                .feedId(comment.getFeedId())
+                .userId(comment.getUserId())
                 .build();
     }
 }
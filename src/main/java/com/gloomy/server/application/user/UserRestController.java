@@ -1,7 +1,7 @@
 package com.gloomy.server.application.user;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.gloomy.server.application.jwt.JwtService;
+import com.gloomy.server.application.security.CurrentUserId;
 import com.gloomy.server.domain.user.login.LoginService;
 import com.gloomy.server.domain.jwt.JWTSerializer;
 import com.gloomy.server.domain.user.User;
@@ -13,6 +13,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import static com.gloomy.server.application.user.UserDTO.*;
 
@@ -22,19 +23,20 @@ public class UserRestController {
     private final LoginService loginService;
     private final UserService userService;
     private final JWTSerializer jwtSerializer;
-    private final JwtService jwtService;
 
 
     @PostMapping(value = "/kakao/signUp")
-    public Response kakaoLogin(@Validated @RequestBody CodeRequest request) {
-        User user=loginService.login(request);
-        return Response.fromUserAndToken(user, jwtSerializer.jwtFromUser(user), user.getRefreshToken());
+    public Mono<Response> kakaoLogin(@Validated @RequestBody CodeRequest request) {
+        return loginService.login(request).map(this::makeLoginResponse);
     }
 
     @GetMapping(value = "/kakao/signUp")
-    public Response kakaoLogin(@RequestParam String code) {
+    public Mono<Response> kakaoLogin(@RequestParam String code) {
         CodeRequest request=new CodeRequest(code);
-        User user=loginService.login(request);
+        return loginService.login(request).map(this::makeLoginResponse);
+    }
+
+    private Response makeLoginResponse(User user) {
         return Response.fromUserAndToken(user, jwtSerializer.jwtFromUser(user), user.getRefreshToken());
     }
 
@@ -61,16 +63,14 @@ public class UserRestController {
     }
 
     @GetMapping(value ="/user/detail")
-    public UpdateUserDTO.Response userDetail(){
+    public UpdateUserDTO.Response userDetail(@CurrentUserId Long userId){
         System.out.println(SecurityContextHolder.getContext().getAuthentication().getClass());
-        Long userId=jwtService.getMyInfo();
         User findUser = userService.findUser(userId);
         return makeUpdateUserDTO(findUser);
     }
 
     @PutMapping(value = "/user/inactive")
-    public void inactiveUser(){
-        Long userId=jwtService.getMyInfo();
+    public void inactiveUser(@CurrentUserId Long userId){
         userService.inactiveUser(userId);
     }
 
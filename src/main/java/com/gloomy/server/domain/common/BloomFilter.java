@@ -0,0 +1,77 @@
+package com.gloomy.server.domain.common;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * SHA-256 다이제스트를 원소로 받는 블룸 필터. 다이제스트가 이미 고르게 퍼져 있으므로 앞의 16바이트를
+ * 두 개의 해시로 나눠 쓰고, 나머지 해시는 둘을 조합해 만든다.
+ * 비트는 CAS로 켜므로 put과 mightContain 모두 락 없이 호출해도 되지만, 확인 후 추가처럼 둘을 묶어야 하는 쪽은
+ * 호출하는 쪽에서 락을 잡아야 한다.
+ */
+public class BloomFilter {
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(BloomFilter::newDigest);
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        int insertions = Math.max(expectedInsertions, 1);
+        long optimalBits = (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (optimalBits + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = (int) Math.max(1, Math.round((double) bitCount / insertions * Math.log(2)));
+    }
+
+    public void put(byte[] digest) {
+        long hash1 = readLong(digest, 0);
+        long hash2 = readLong(digest, 8);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitCount);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+            } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(byte[] digest) {
+        long hash1 = readLong(digest, 0);
+        long hash2 = readLong(digest, 8);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static byte[] sha256(String value) {
+        MessageDigest messageDigest = SHA256.get();
+        messageDigest.reset();
+        return messageDigest.digest(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long result = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            result = (result << 8) | (bytes[i] & 0xFF);
+        }
+        return result;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
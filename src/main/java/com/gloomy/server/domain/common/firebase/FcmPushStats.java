@@ -0,0 +1,17 @@
+package com.gloomy.server.domain.common.firebase;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class FcmPushStats {
+    private final int queueSize;
+    private final int remainingCapacity;
+    private final long enqueuedCount;
+    private final long rejectedCount;
+    private final long sentCount;
+    private final long failedCount;
+    private final long retriedCount;
+    private final long prunedCount;
+}
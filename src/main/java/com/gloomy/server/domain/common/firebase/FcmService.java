@@ -1,54 +1,203 @@
 package com.gloomy.server.domain.common.firebase;
 
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.WebpushConfig;
-import com.google.firebase.messaging.WebpushNotification;
-import lombok.RequiredArgsConstructor;
+import com.gloomy.server.domain.notice.fcm.FcmTokenService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.ExecutionException;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
-@RequiredArgsConstructor
+/**
+ * 푸시 요청을 크기가 정해진 큐에 담고, 워커 스레드가 모아서 보낸다.
+ * 워커는 큐에서 요청을 한꺼번에 꺼내 사용자들의 토큰을 한 번에 조회하고, 같은 메시지끼리 최대 500개 토큰씩 멀티캐스트로 보낸다.
+ * <p>
+ * 일시적인 실패는 backoffMillis부터 두 배씩 기다리며 maxAttempts번까지 다시 보내고, 등록 해제된 토큰은 지운다.
+ * 큐가 가득 차면 요청을 버리고 rejectedCount를 올린다.
+ */
+@Slf4j
 @Service
-public class FcmService{
-//
-//    private final RedisService redisService;
-//
-//    public void sendPushMessage(Long receiverId) throws ExecutionException, InterruptedException {
-//
-//        if(!redisService.hasKey(String.valueOf(receiverId))) return;
-//
-//        String token= redisService.getValue(String.valueOf(receiverId));
-//        Message message = Message.builder()
-//                .setToken(token)
-//                .setWebpushConfig(WebpushConfig.builder().putHeader("ttl", "300")
-//                        .setNotification(new WebpushNotification("title",
-//                                "message"))
-//                        .build())
-//                .build();
-//
-//        String response=send(message);
-//        System.out.println("Sent message : "+response);
-//    }
-//
-//    public String send(Message message) throws ExecutionException, InterruptedException {
-//        return FirebaseMessaging.getInstance().sendAsync(message).get();
-//    }
-//
-//    public void saveToken(Long id, String token){
-//        redisService.setKey(String.valueOf(id),token);
-//    }
-//
-//    public void deleteToken(Long id){
-//        redisService.deleteKey(String.valueOf(id));
-//    }
-//
-//    private boolean hasKey(Long id){
-//        return redisService.hasKey(String.valueOf(id));
-//    }
-//
-//    private String getToken(Long id){
-//        return redisService.getValue(String.valueOf(id));
-//    }
+public class FcmService {
+    private final FcmTokenService fcmTokenService;
+    private final PushSender pushSender;
+    private final BlockingQueue<PushJob> queue;
+    private final int workerCount;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final List<Thread> workers = new ArrayList<>();
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong retriedCount = new AtomicLong();
+    private final AtomicLong prunedCount = new AtomicLong();
+    private volatile boolean running;
+
+    public FcmService(FcmTokenService fcmTokenService, PushSender pushSender,
+                      @Value("${push.queue-capacity:10000}") int queueCapacity,
+                      @Value("${push.workers:2}") int workerCount,
+                      @Value("${push.max-attempts:3}") int maxAttempts,
+                      @Value("${push.backoff-ms:200}") long backoffMillis) {
+        this.fcmTokenService = fcmTokenService;
+        this.pushSender = pushSender;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workerCount = workerCount;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+    }
+
+    public boolean sendPushMessage(Long receiverId, PushMessage message) {
+        if (receiverId == null || message == null) {
+            return false;
+        }
+        if (!queue.offer(new PushJob(receiverId, message))) {
+            rejectedCount.incrementAndGet();
+            return false;
+        }
+        enqueuedCount.incrementAndGet();
+        return true;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::work, "fcm-push-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+    }
+
+    /**
+     * 큐에 남은 요청을 호출한 스레드에서 모두 보낸다. 워커 없이 돌리는 테스트에서 쓴다.
+     */
+    public int drainQueue() throws InterruptedException {
+        int drainedCount = 0;
+        List<PushJob> jobs = new ArrayList<>();
+        while (queue.drainTo(jobs, PushSender.MAX_TOKENS) > 0) {
+            drainedCount += jobs.size();
+            dispatch(jobs);
+            jobs.clear();
+        }
+        return drainedCount;
+    }
+
+    public FcmPushStats stats() {
+        return new FcmPushStats(queue.size(), queue.remainingCapacity(), enqueuedCount.get(), rejectedCount.get(),
+                sentCount.get(), failedCount.get(), retriedCount.get(), prunedCount.get());
+    }
+
+    @Scheduled(fixedDelayString = "${push.stats-log-delay-ms:600000}",
+            initialDelayString = "${push.stats-log-delay-ms:600000}")
+    public void logStats() {
+        FcmPushStats stats = stats();
+        log.info("[FcmService] queue={}/{}, enqueued={}, rejected={}, sent={}, failed={}, retried={}, pruned={}",
+                stats.getQueueSize(), stats.getQueueSize() + stats.getRemainingCapacity(), stats.getEnqueuedCount(),
+                stats.getRejectedCount(), stats.getSentCount(), stats.getFailedCount(), stats.getRetriedCount(), stats.getPrunedCount());
+    }
+
+    private void work() {
+        List<PushJob> jobs = new ArrayList<>();
+        while (running) {
+            try {
+                PushJob first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                jobs.add(first);
+                queue.drainTo(jobs, PushSender.MAX_TOKENS - 1);
+                dispatch(jobs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                failedCount.addAndGet(jobs.size());
+                log.warn("[FcmService] 푸시 전송 실패", e);
+            } finally {
+                jobs.clear();
+            }
+        }
+    }
+
+    private void dispatch(List<PushJob> jobs) throws InterruptedException {
+        Set<Long> receiverIds = new HashSet<>();
+        for (PushJob job : jobs) {
+            receiverIds.add(job.receiverId);
+        }
+        Map<Long, List<String>> tokens = fcmTokenService.findFcmTokens(receiverIds);
+        Map<PushMessage, List<String>> tokensByMessage = new LinkedHashMap<>();
+        for (PushJob job : jobs) {
+            tokensByMessage.computeIfAbsent(job.message, message -> new ArrayList<>())
+                    .addAll(tokens.getOrDefault(job.receiverId, Collections.emptyList()));
+        }
+        for (Map.Entry<PushMessage, List<String>> entry : tokensByMessage.entrySet()) {
+            List<String> messageTokens = entry.getValue();
+            for (int from = 0; from < messageTokens.size(); from += PushSender.MAX_TOKENS) {
+                List<String> chunk = messageTokens.subList(from, Math.min(from + PushSender.MAX_TOKENS, messageTokens.size()));
+                sendWithRetry(entry.getKey(), new ArrayList<>(chunk));
+            }
+        }
+    }
+
+    private void sendWithRetry(PushMessage message, List<String> tokens) throws InterruptedException {
+        List<String> pendingTokens = tokens;
+        List<String> unregisteredTokens = new ArrayList<>();
+        for (int attempt = 1; !pendingTokens.isEmpty(); attempt++) {
+            List<PushOutcome> outcomes = pushSender.send(message, pendingTokens);
+            List<String> retryTokens = new ArrayList<>();
+            for (int i = 0; i < pendingTokens.size(); i++) {
+                PushOutcome outcome = i < outcomes.size() ? outcomes.get(i) : PushOutcome.RETRY;
+                if (outcome == PushOutcome.SUCCESS) {
+                    sentCount.incrementAndGet();
+                } else if (outcome == PushOutcome.UNREGISTERED) {
+                    unregisteredTokens.add(pendingTokens.get(i));
+                } else if (outcome == PushOutcome.RETRY) {
+                    retryTokens.add(pendingTokens.get(i));
+                } else {
+                    failedCount.incrementAndGet();
+                }
+            }
+            if (!retryTokens.isEmpty() && attempt >= maxAttempts) {
+                failedCount.addAndGet(retryTokens.size());
+                break;
+            }
+            if (!retryTokens.isEmpty()) {
+                retriedCount.addAndGet(retryTokens.size());
+                Thread.sleep(backoffMillis << (attempt - 1));
+            }
+            pendingTokens = retryTokens;
+        }
+        if (!unregisteredTokens.isEmpty()) {
+            prunedCount.addAndGet(fcmTokenService.deleteFcmTokens(unregisteredTokens));
+        }
+    }
+
+    private static class PushJob {
+        private final Long receiverId;
+        private final PushMessage message;
+
+        private PushJob(Long receiverId, PushMessage message) {
+            this.receiverId = receiverId;
+            this.message = message;
+        }
+    }
 }
@@ -0,0 +1,98 @@
+package com.gloomy.server.domain.common.firebase;
+
+import com.gloomy.server.application.core.exception.OutboundRejectedException;
+import com.gloomy.server.application.core.resilience.OutboundGuard;
+import com.gloomy.server.application.core.resilience.OutboundGuards;
+import com.google.api.core.ApiFuture;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "push.sender", havingValue = "firebase", matchIfMissing = true)
+public class FirebasePushSender implements PushSender {
+    private final OutboundGuard guard;
+
+    public FirebasePushSender(OutboundGuards outboundGuards) {
+        this.guard = outboundGuards.get(OutboundGuards.FIREBASE);
+    }
+
+    @Override
+    public List<PushOutcome> send(PushMessage message, List<String> tokens) {
+        MulticastMessage multicastMessage = MulticastMessage.builder()
+                .setNotification(Notification.builder()
+                        .setTitle(message.getTitle())
+                        .setBody(message.getBody())
+                        .build())
+                .addAllTokens(tokens)
+                .build();
+        try {
+            BatchResponse batchResponse = guard.call(timeoutMillis ->
+                    await(FirebaseMessaging.getInstance().sendMulticastAsync(multicastMessage), timeoutMillis));
+            List<PushOutcome> result = new ArrayList<>();
+            for (SendResponse response : batchResponse.getResponses()) {
+                result.add(response.isSuccessful() ? PushOutcome.SUCCESS : outcomeOf(response.getException()));
+            }
+            return result;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof FirebaseMessagingException) {
+                FirebaseMessagingException cause = (FirebaseMessagingException) e.getCause();
+                log.warn("[FirebasePushSender] 멀티캐스트 전송 실패: {}", cause.getMessagingErrorCode());
+                return Collections.nCopies(tokens.size(), outcomeOf(cause));
+            }
+            log.warn("[FirebasePushSender] 멀티캐스트 전송 실패: {}", e.getCause().toString());
+            return Collections.nCopies(tokens.size(), PushOutcome.RETRY);
+        } catch (OutboundRejectedException e) {
+            log.warn(e.getMessage());
+            return Collections.nCopies(tokens.size(), PushOutcome.RETRY);
+        } catch (IllegalStateException e) {
+            log.warn("[FirebasePushSender] FirebaseApp이 초기화되지 않았습니다.");
+            return Collections.nCopies(tokens.size(), PushOutcome.FAILED);
+        }
+    }
+
+    /**
+     * 전송 결과를 timeoutMillis까지만 기다린다. 실패 원인은 CompletionException에 담아 OutboundGuard가 결과를 기록하게 한다.
+     */
+    private static BatchResponse await(ApiFuture<BatchResponse> future, long timeoutMillis) {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new CompletionException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    private PushOutcome outcomeOf(FirebaseMessagingException exception) {
+        MessagingErrorCode errorCode = exception.getMessagingErrorCode();
+        if (errorCode == MessagingErrorCode.UNREGISTERED) {
+            return PushOutcome.UNREGISTERED;
+        }
+        if (errorCode == null || errorCode == MessagingErrorCode.UNAVAILABLE || errorCode == MessagingErrorCode.INTERNAL
+                || errorCode == MessagingErrorCode.QUOTA_EXCEEDED) {
+            return PushOutcome.RETRY;
+        }
+        return PushOutcome.FAILED;
+    }
+}
@@ -0,0 +1,95 @@
+package com.gloomy.server.domain.common.firebase;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Firebase 대신 프로세스 안에서 전송을 흉내 내는 PushSender. 테스트와 부하 테스트에서 쓴다.
+ * 등록 해제된 토큰과 일시적으로 실패할 토큰을 지정할 수 있고, latencyMillis만큼 전송마다 기다린다.
+ */
+@Component
+@ConditionalOnProperty(name = "push.sender", havingValue = "local")
+public class LocalPushSender implements PushSender {
+    private final long latencyMillis;
+    private final Set<String> unregisteredTokens = ConcurrentHashMap.newKeySet();
+    private final Map<String, Integer> remainingFailures = new ConcurrentHashMap<>();
+    private final List<Sent> sent = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicLong sendCount = new AtomicLong();
+
+    public LocalPushSender(@Value("${push.local.latency-ms:0}") long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public List<PushOutcome> send(PushMessage message, List<String> tokens) {
+        sendCount.incrementAndGet();
+        sleep();
+        List<PushOutcome> result = new ArrayList<>();
+        for (String token : tokens) {
+            result.add(outcomeOf(message, token));
+        }
+        return result;
+    }
+
+    public void unregister(String token) {
+        unregisteredTokens.add(token);
+    }
+
+    public void failTemporarily(String token, int times) {
+        remainingFailures.put(token, times);
+    }
+
+    public List<Sent> getSent() {
+        synchronized (sent) {
+            return new ArrayList<>(sent);
+        }
+    }
+
+    public long getSendCount() {
+        return sendCount.get();
+    }
+
+    private PushOutcome outcomeOf(PushMessage message, String token) {
+        if (unregisteredTokens.contains(token)) {
+            return PushOutcome.UNREGISTERED;
+        }
+        Integer failures = remainingFailures.computeIfPresent(token, (key, count) -> count > 0 ? count - 1 : null);
+        if (failures != null) {
+            return PushOutcome.RETRY;
+        }
+        sent.add(new Sent(message, token));
+        return PushOutcome.SUCCESS;
+    }
+
+    private void sleep() {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Getter
+    public static class Sent {
+        private final PushMessage message;
+        private final String token;
+
+        private Sent(PushMessage message, String token) {
+            this.message = message;
+            this.token = token;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.gloomy.server.domain.common.firebase;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+@EqualsAndHashCode
+@ToString
+@Getter
+@AllArgsConstructor
+public class PushMessage {
+    private final String title;
+    private final String body;
+}
@@ -0,0 +1,8 @@
+package com.gloomy.server.domain.common.firebase;
+
+public enum PushOutcome {
+    SUCCESS,
+    RETRY,
+    UNREGISTERED,
+    FAILED
+}
@@ -0,0 +1,13 @@
+package com.gloomy.server.domain.common.firebase;
+
+import java.util.List;
+
+/**
+ * 같은 메시지를 여러 FCM 토큰에 한 번에 보낸다.
+ * 돌려주는 결과는 tokens와 같은 순서, 같은 길이여야 한다.
+ */
+public interface PushSender {
+    int MAX_TOKENS = 500;
+
+    List<PushOutcome> send(PushMessage message, List<String> tokens);
+}
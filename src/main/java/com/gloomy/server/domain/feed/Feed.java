@@ -13,6 +13,10 @@ import java.time.LocalDateTime;
 @EqualsAndHashCode(callSuper = false)
 @Getter
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_feed_status_like_count", columnList = "status, like_count, id"),
+        @Index(name = "idx_feed_status_category_like_count", columnList = "status, category, like_count, id")
+})
 public class Feed extends BaseEntity {
     @Embedded
     private Ip ip;
@@ -34,6 +38,19 @@ public class Feed extends BaseEntity {
     @Embedded
     private Content content;
 
+    // 카운터는 FeedRepository의 원자적 update 쿼리로만 변경한다.
+    @EqualsAndHashCode.Exclude
+    @Column(name = "like_count", nullable = false, updatable = false)
+    private Integer likeCount;
+
+    @EqualsAndHashCode.Exclude
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    private Integer commentCount;
+
+    @EqualsAndHashCode.Exclude
+    @Column(name = "reply_count", nullable = false, updatable = false)
+    private Integer replyCount;
+
     protected Feed() {
     }
 
@@ -45,6 +62,9 @@ public class Feed extends BaseEntity {
         this.category = category;
         this.title = title;
         this.content = content;
+        this.likeCount = 0;
+        this.commentCount = 0;
+        this.replyCount = 0;
         this.status = status;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
@@ -136,4 +156,16 @@ public class Feed extends BaseEntity {
     public void report() {
         this.status = Status.invisible();
     }
+
+    public void addLikeCount(int delta) {
+        this.likeCount = Math.max(0, likeCount + delta);
+    }
+
+    public void addCommentCount(int delta) {
+        this.commentCount = Math.max(0, commentCount + delta);
+    }
+
+    public void addReplyCount(int delta) {
+        this.replyCount = Math.max(0, replyCount + delta);
+    }
 }
\ No newline at end of file
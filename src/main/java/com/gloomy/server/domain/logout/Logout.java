@@ -12,6 +12,10 @@ import static javax.persistence.GenerationType.IDENTITY;
 @Entity
 @ToString
 @NoArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_logout_token_hash", columnList = "token_hash"),
+        @Index(name = "idx_logout_expires_at", columnList = "expires_at")
+})
 public class Logout {
 
     @Id
@@ -21,11 +25,35 @@ public class Logout {
 
     private String logoutToken;
 
+    @Column(name = "token_hash", length = 43)
+    private String tokenHash;
+
+    @Column(name = "expires_at")
+    private Long expiresAt;
+
     public Logout(String logoutToken) {
         this.logoutToken = logoutToken;
     }
 
+    public Logout(String tokenHash, long expiresAt) {
+        this.tokenHash = tokenHash;
+        this.expiresAt = expiresAt;
+    }
+
     public static Logout of( String logoutToken){
         return new Logout(logoutToken);
     }
+
+    public static Logout of(String tokenHash, long expiresAt) {
+        return new Logout(tokenHash, expiresAt);
+    }
+
+    /**
+     * 토큰 원문만 저장하던 행을 해시와 만료 시각으로 바꾼다.
+     */
+    public void hashToken(String tokenHash, long expiresAt) {
+        this.tokenHash = tokenHash;
+        this.expiresAt = expiresAt;
+        this.logoutToken = null;
+    }
 }
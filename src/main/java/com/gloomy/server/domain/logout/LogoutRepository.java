@@ -1,11 +1,25 @@
 package com.gloomy.server.domain.logout;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.util.List;
 
 public interface LogoutRepository extends JpaRepository<Logout,Long> {
 
     Logout save(Logout logout);
-    Optional<Logout> findByLogoutToken(String logoutToken);
+
+    @Query("select l.id as id, l.tokenHash as tokenHash, l.expiresAt as expiresAt from Logout l" +
+            " where l.id > :id and l.tokenHash is not null and l.expiresAt > :now order by l.id")
+    List<RevokedTokenRow> findRevokedTokenRowsAfter(@Param("id") Long id, @Param("now") Long now, Pageable pageable);
+
+    @Query("select l from Logout l where l.tokenHash is null")
+    List<Logout> findUnhashed(Pageable pageable);
+
+    @Modifying
+    @Query("delete from Logout l where l.expiresAt <= :now")
+    int deleteExpired(@Param("now") Long now);
 }
@@ -1,29 +1,102 @@
 package com.gloomy.server.domain.logout;
 
-import lombok.RequiredArgsConstructor;
+import com.gloomy.server.domain.jwt.JWTDeserializer;
+import com.gloomy.server.domain.jwt.JWTPayload;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.List;
 
-import static com.gloomy.server.application.core.ErrorMessage.isLogoutToken;
+import static java.time.Instant.now;
 
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
 public class LogoutService {
 
     private final LogoutRepository logoutRepository;
+    private final RevokedTokens revokedTokens;
+    private final JWTDeserializer jwtDeserializer;
+    private final int chunkSize;
+    private final int syncOverlap;
 
-    public Optional<Logout> getToken(String logoutToken){
+    public LogoutService(LogoutRepository logoutRepository, RevokedTokens revokedTokens, JWTDeserializer jwtDeserializer,
+                         @Value("${logout.revoked-tokens.chunk-size:1000}") int chunkSize,
+                         @Value("${logout.revoked-tokens.sync-overlap:100}") int syncOverlap) {
+        this.logoutRepository = logoutRepository;
+        this.revokedTokens = revokedTokens;
+        this.jwtDeserializer = jwtDeserializer;
+        this.chunkSize = chunkSize;
+        this.syncOverlap = syncOverlap;
+    }
 
-        Optional<Logout> logoutOptional=logoutRepository.findByLogoutToken(logoutToken);
-        if(logoutOptional.isPresent()) throw new IllegalArgumentException(isLogoutToken);
+    /**
+     * 토큰 원문 대신 해시와 만료 시각만 저장하고, 같은 요청 안에서 바로 RevokedTokens에 반영한다.
+     */
+    @Transactional
+    public Logout logout(String token) {
+        JWTPayload jwtPayload = jwtDeserializer.jwtPayloadFromJWT(token);
+        Logout logout = logoutRepository.save(Logout.of(RevokedTokens.hash(token), jwtPayload.getExpiredTime()));
+        revokedTokens.revoke(logout.getTokenHash(), logout.getExpiresAt());
+        return logout;
+    }
 
-        return logoutOptional;
+    /**
+     * 마지막으로 읽은 ID 이후의 로그아웃 토큰을 RevokedTokens로 읽어 온다. 처음 호출하면 전체를 읽는다.
+     * ID는 커밋 순서대로 보이지 않을 수 있으므로 syncOverlap개 앞에서부터 다시 읽는다.
+     */
+    public int syncRevokedTokens() {
+        long lastId = Math.max(0L, revokedTokens.getLastSyncedId() - syncOverlap);
+        long now = now().getEpochSecond();
+        int loadedCount = 0;
+        List<RevokedTokenRow> rows;
+        do {
+            rows = logoutRepository.findRevokedTokenRowsAfter(lastId, now, PageRequest.of(0, chunkSize));
+            revokedTokens.addAll(rows);
+            loadedCount += rows.size();
+            if (!rows.isEmpty()) {
+                lastId = rows.get(rows.size() - 1).getId();
+            }
+        } while (rows.size() == chunkSize);
+        return loadedCount;
     }
 
+    /**
+     * 토큰 원문만 저장되어 있던 행을 해시와 만료 시각으로 바꾼다. 이미 만료되었거나 유효하지 않은 토큰은 지운다.
+     */
+    @Transactional
+    public int hashLegacyTokens() {
+        int hashedCount = 0;
+        List<Logout> logouts;
+        do {
+            logouts = logoutRepository.findUnhashed(PageRequest.of(0, chunkSize));
+            for (Logout logout : logouts) {
+                try {
+                    JWTPayload jwtPayload = jwtDeserializer.jwtPayloadFromJWT(logout.getLogoutToken());
+                    logout.hashToken(RevokedTokens.hash(logout.getLogoutToken()), jwtPayload.getExpiredTime());
+                    hashedCount++;
+                } catch (RuntimeException e) {
+                    logoutRepository.delete(logout);
+                }
+            }
+            logoutRepository.flush();
+        } while (logouts.size() == chunkSize);
+        return hashedCount;
+    }
 
+    @Transactional
+    public int deleteExpiredTokens() {
+        long now = now().getEpochSecond();
+        int deletedCount = logoutRepository.deleteExpired(now);
+        revokedTokens.compact(now);
+        return deletedCount;
+    }
 
+    @Transactional
+    public void deleteAll() {
+        logoutRepository.deleteAll();
+        revokedTokens.clear();
+    }
 }
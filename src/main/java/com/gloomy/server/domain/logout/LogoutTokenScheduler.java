@@ -0,0 +1,42 @@
+package com.gloomy.server.domain.logout;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그아웃 토큰을 RevokedTokens로 읽어 오고, 만료된 토큰을 지운다.
+ * 첫 적재는 웹 서버가 요청을 받기 전에 끝나야 하므로 ApplicationReadyEvent가 아니라 싱글톤 생성 직후에 한다.
+ */
+@Slf4j
+@Component
+public class LogoutTokenScheduler implements SmartInitializingSingleton {
+    private final LogoutService logoutService;
+
+    public LogoutTokenScheduler(LogoutService logoutService) {
+        this.logoutService = logoutService;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        int hashedCount = logoutService.hashLegacyTokens();
+        int loadedCount = logoutService.syncRevokedTokens();
+        log.info("[LogoutTokenScheduler] 로그아웃 토큰 적재 완료: {}건 (원문 토큰 해시 변환 {}건)", loadedCount, hashedCount);
+    }
+
+    /**
+     * 다른 서버에서 로그아웃한 토큰을 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${logout.revoked-tokens.sync-delay-ms:5000}",
+            initialDelayString = "${logout.revoked-tokens.sync-delay-ms:5000}")
+    public void sync() {
+        logoutService.syncRevokedTokens();
+    }
+
+    @Scheduled(cron = "${logout.revoked-tokens.expire-cron:0 0 5 * * *}")
+    public void expire() {
+        int deletedCount = logoutService.deleteExpiredTokens();
+        log.info("[LogoutTokenScheduler] 만료된 로그아웃 토큰 삭제 완료: {}건", deletedCount);
+    }
+}
@@ -0,0 +1,9 @@
+package com.gloomy.server.domain.logout;
+
+public interface RevokedTokenRow {
+    Long getId();
+
+    String getTokenHash();
+
+    Long getExpiresAt();
+}
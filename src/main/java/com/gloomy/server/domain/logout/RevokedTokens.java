@@ -0,0 +1,118 @@
+package com.gloomy.server.domain.logout;
+
+import com.gloomy.server.domain.common.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.time.Instant.now;
+
+/**
+ * 로그아웃한 토큰의 SHA-256 해시와 만료 시각(epoch 초)을 메모리에 들고 있는 집합.
+ * 요청마다 호출되는 isRevoked는 블룸 필터에서 걸러지면 해시 계산 외에는 아무 일도 하지 않고,
+ * 필터를 통과한 드문 경우에만 해시 문자열을 만들어 집합을 확인한다.
+ * <p>
+ * 블룸 필터에서는 원소를 뺄 수 없으므로 compact가 만료된 토큰을 집합에서 지운 뒤 필터를 다시 만든다.
+ */
+@Component
+public class RevokedTokens {
+    private static final Base64.Encoder BASE64URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64URL_DECODER = Base64.getUrlDecoder();
+
+    private final int expectedTokens;
+    private final double falsePositiveRate;
+    private final Map<String, Long> expiresAtByHash = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloomFilter;
+    private long lastSyncedId;
+
+    public RevokedTokens(@Value("${logout.revoked-tokens.expected-size:100000}") int expectedTokens,
+                         @Value("${logout.revoked-tokens.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.expectedTokens = expectedTokens;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new BloomFilter(expectedTokens, falsePositiveRate);
+    }
+
+    public boolean isRevoked(String token) {
+        byte[] digest = digest(token);
+        if (!bloomFilter.mightContain(digest)) {
+            return false;
+        }
+        Long expiresAt = expiresAtByHash.get(BASE64URL_ENCODER.encodeToString(digest));
+        return expiresAt != null && expiresAt >= now().getEpochSecond();
+    }
+
+    public static String hash(String token) {
+        return BASE64URL_ENCODER.encodeToString(digest(token));
+    }
+
+    /**
+     * 로그아웃한 토큰을 바로 반영한다. 트랜잭션이 롤백되면 다시 뺀다.
+     */
+    public void revoke(String tokenHash, long expiresAt) {
+        addNow(tokenHash, expiresAt);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    expiresAtByHash.remove(tokenHash, expiresAt);
+                }
+            }
+        });
+    }
+
+    /**
+     * DB에서 읽어 온 행을 더하고, 다음 동기화를 시작할 ID를 기억한다.
+     */
+    public synchronized void addAll(Collection<RevokedTokenRow> rows) {
+        for (RevokedTokenRow row : rows) {
+            addNow(row.getTokenHash(), row.getExpiresAt());
+            lastSyncedId = Math.max(lastSyncedId, row.getId());
+        }
+    }
+
+    public synchronized long getLastSyncedId() {
+        return lastSyncedId;
+    }
+
+    /**
+     * now 이전에 만료된 토큰을 지우고 남은 토큰으로 블룸 필터를 다시 만든다. 지운 토큰 수를 돌려준다.
+     */
+    public synchronized int compact(long now) {
+        int sizeBefore = expiresAtByHash.size();
+        expiresAtByHash.values().removeIf(expiresAt -> expiresAt < now);
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedTokens, expiresAtByHash.size() * 2), falsePositiveRate);
+        for (String tokenHash : expiresAtByHash.keySet()) {
+            rebuilt.put(BASE64URL_DECODER.decode(tokenHash));
+        }
+        bloomFilter = rebuilt;
+        return sizeBefore - expiresAtByHash.size();
+    }
+
+    public int size() {
+        return expiresAtByHash.size();
+    }
+
+    public synchronized void clear() {
+        expiresAtByHash.clear();
+        bloomFilter = new BloomFilter(expectedTokens, falsePositiveRate);
+        lastSyncedId = 0;
+    }
+
+    private synchronized void addNow(String tokenHash, long expiresAt) {
+        expiresAtByHash.merge(tokenHash, expiresAt, Math::max);
+        bloomFilter.put(BASE64URL_DECODER.decode(tokenHash));
+    }
+
+    private static byte[] digest(String token) {
+        return BloomFilter.sha256(token);
+    }
+}
@@ -12,9 +12,14 @@ import lombok.Getter;
 
 import javax.persistence.*;
 
+/**
+ * sequence는 회원별로 알림이 만들어지거나 새 알림이 합쳐질 때마다 커지는 순번이다.
+ * 합쳐진 알림은 ID가 그대로이므로 목록, 스트림 재전송, 일괄 읽음은 ID가 아닌 sequence 순서를 따른다.
+ */
 @EqualsAndHashCode(callSuper = false)
 @Getter
 @Entity
+@Table(indexes = @Index(name = "idx_notice_user_sequence", columnList = "user_id, sequence_no"))
 public class Notice extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
@@ -43,6 +48,12 @@ public class Notice extends BaseEntity {
     @Embedded
     private IsRead isRead;
 
+    @Column(name = "actor_count")
+    private Integer actorCount;
+
+    @Column(name = "sequence_no")
+    private Long sequence;
+
     protected Notice() {
     }
 
@@ -55,6 +66,7 @@ public class Notice extends BaseEntity {
         this.feedLikeId = feedLikeId;
         this.type = type;
         this.isRead = isRead;
+        this.actorCount = 1;
         this.status = status;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
@@ -112,4 +124,37 @@ public class Notice extends BaseEntity {
     public void read() {
         this.isRead.read();
     }
+
+    public Integer getActorCount() {
+        return actorCount == null ? 1 : actorCount;
+    }
+
+    /**
+     * 같은 피드, 같은 종류의 새 알림을 이 알림에 합친다. 참여 수를 더하고 가장 최근의 댓글, 대댓글, 좋아요를 가리키게 하며
+     * 수정 시각을 올린다. 새 순번은 저장할 때 assignSequence로 받는다.
+     */
+    public void coalesce(Notice notice) {
+        this.commentId = notice.commentId;
+        this.replyId = notice.replyId;
+        this.feedLikeId = notice.feedLikeId;
+        this.actorCount = getActorCount() + notice.getActorCount();
+        this.updatedAt = new UpdatedAt();
+    }
+
+    public void assignSequence(Long sequence) {
+        this.sequence = sequence;
+    }
+
+    /**
+     * 지금 가리키는 댓글, 대댓글, 좋아요의 ID.
+     */
+    public Long getTargetId() {
+        if (type == Type.COMMENT) {
+            return commentId.getId();
+        }
+        if (type == Type.REPLY) {
+            return replyId.getId();
+        }
+        return feedLikeId.getId();
+    }
 }
@@ -0,0 +1,36 @@
+package com.gloomy.server.domain.notice;
+
+import lombok.Getter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * 회원별 읽지 않은 알림 수. 알림이 만들어지거나 읽힐 때 갱신해서 배지 조회가 알림 테이블을 세지 않게 한다.
+ * lastSequence는 그 회원에게 마지막으로 준 알림 순번이다. 순번을 받는 트랜잭션이 이 행을 잠그므로 한 회원의 순번은 커밋 순서대로 커진다.
+ */
+@Getter
+@Entity
+@Table(name = "notice_counter")
+public class NoticeCounter {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "unread_count", nullable = false)
+    private Integer unreadCount;
+
+    @Column(name = "last_sequence")
+    private Long lastSequence;
+
+    protected NoticeCounter() {
+    }
+
+    public NoticeCounter(Long userId, Integer unreadCount) {
+        this.userId = userId;
+        this.unreadCount = unreadCount;
+        this.lastSequence = 0L;
+    }
+}
@@ -0,0 +1,55 @@
+package com.gloomy.server.domain.notice;
+
+import com.gloomy.server.domain.common.entity.BaseEntity;
+import com.gloomy.server.domain.feed.Feed;
+import lombok.Builder;
+import lombok.Getter;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 알림으로 만들 사건(댓글, 대댓글, 좋아요)을 쓰기 트랜잭션 안에서 남겨 두는 outbox 행.
+ * 외래 키 없이 ID만 담아 쓰기 비용을 줄이고, NoticeDispatcher가 모아서 Notice로 옮긴다.
+ */
+@Getter
+@Entity
+@Table(name = "notice_event")
+public class NoticeEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "feed_id", nullable = false)
+    private Long feedId;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Type type;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    protected NoticeEvent() {
+    }
+
+    @Builder
+    public NoticeEvent(Long feedId, Long entityId, Type type, LocalDateTime createdAt) {
+        this.feedId = feedId;
+        this.entityId = entityId;
+        this.type = type;
+        this.createdAt = createdAt;
+    }
+
+    public static NoticeEvent of(Feed feedId, BaseEntity entityId, Type type) {
+        return builder()
+                .feedId(feedId.getId())
+                .entityId(entityId.getId())
+                .type(type)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.gloomy.server.domain.notice;
+
+import lombok.Getter;
+
+import javax.persistence.*;
+
+/**
+ * 합치기로 알림이 더는 가리키지 않게 된 댓글, 대댓글, 좋아요. 알림은 가장 최근 대상만 가리키므로,
+ * 같은 사건이 다시 들어왔을 때 이미 알림에 반영된 대상인지 이 행으로 가려 참여 수를 두 번 올리지 않는다.
+ */
+@Getter
+@Entity
+@Table(name = "notice_merged_target",
+        uniqueConstraints = @UniqueConstraint(name = "uk_notice_merged_target", columnNames = {"type", "entity_id"}),
+        indexes = @Index(name = "idx_notice_merged_target_notice", columnList = "notice_id"))
+public class NoticeMergedTarget {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "notice_id", nullable = false)
+    private Long noticeId;
+
+    @Column(name = "type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Type type;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    protected NoticeMergedTarget() {
+    }
+
+    public NoticeMergedTarget(Long noticeId, Type type, Long entityId) {
+        this.noticeId = noticeId;
+        this.type = type;
+        this.entityId = entityId;
+    }
+}
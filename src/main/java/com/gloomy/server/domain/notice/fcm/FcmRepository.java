@@ -2,10 +2,31 @@ package com.gloomy.server.domain.notice.fcm;
 
 import com.gloomy.server.domain.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface FcmRepository extends JpaRepository<FcmToken, Long> {
 
     FcmToken save(FcmToken fcmToken);
+
+    Optional<FcmToken> findFirstByUserIdAndFcmToken(User userId, String fcmToken);
+
+    @Query("select t.userId.id as userId, t.fcmToken as fcmToken from FcmToken t where t.userId.id in :userIds")
+    List<FcmTokenRow> findTokenRowsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("delete from FcmToken t where t.fcmToken in :fcmTokens")
+    int deleteAllByFcmTokenIn(@Param("fcmTokens") Collection<String> fcmTokens);
+
+    @Modifying
+    @Query("delete from FcmToken t where t.lastSeenAt < :lastSeenAt or t.lastSeenAt is null")
+    int deleteAllByLastSeenAtBefore(@Param("lastSeenAt") LocalDateTime lastSeenAt);
 }
@@ -5,10 +5,12 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 
 @EqualsAndHashCode(callSuper = false)
 @Getter
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "fcmToken"}))
 public class FcmToken {
 
     @Id
@@ -21,13 +23,24 @@ public class FcmToken {
 
     private String fcmToken;
 
+    @Column(name = "last_seen_at")
+    private LocalDateTime lastSeenAt;
+
+    protected FcmToken() {
+    }
+
     private FcmToken(User userId, String fcmToken){
         this.userId=userId;
         this.fcmToken=fcmToken;
+        this.lastSeenAt=LocalDateTime.now();
     }
 
     public static FcmToken of(User userId,String fcmToken){
         return new FcmToken(userId,fcmToken);
     }
 
+    public void seen(){
+        this.lastSeenAt=LocalDateTime.now();
+    }
+
 }
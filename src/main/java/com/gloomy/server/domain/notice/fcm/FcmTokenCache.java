@@ -0,0 +1,135 @@
+package com.gloomy.server.domain.notice.fcm;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 회원별 FCM 토큰 목록. 푸시를 보낼 때 DB를 거치지 않도록 최근에 사용한 회원부터 최대 maxUsers명까지 보관한다.
+ * 캐시에 없는 회원들은 한 번의 IN 조회로 함께 읽고, 토큰이 없는 회원도 빈 목록으로 보관한다.
+ */
+@Component
+public class FcmTokenCache {
+    private final FcmRepository fcmRepository;
+    private final Map<Long, List<String>> tokens;
+
+    public FcmTokenCache(FcmRepository fcmRepository, @Value("${fcm.token-cache.max-users:10000}") int maxUsers) {
+        this.fcmRepository = fcmRepository;
+        this.tokens = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, List<String>> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    public Map<Long, List<String>> getTokens(Collection<Long> userIds) {
+        Map<Long, List<String>> result = new HashMap<>();
+        List<Long> missingUserIds = new ArrayList<>();
+        synchronized (tokens) {
+            for (Long userId : userIds) {
+                List<String> cached = tokens.get(userId);
+                if (cached == null) {
+                    missingUserIds.add(userId);
+                } else if (!cached.isEmpty()) {
+                    result.put(userId, cached);
+                }
+            }
+        }
+        if (missingUserIds.isEmpty()) {
+            return result;
+        }
+        Map<Long, Set<String>> loaded = new HashMap<>();
+        for (Long userId : missingUserIds) {
+            loaded.put(userId, new LinkedHashSet<>());
+        }
+        for (FcmTokenRow row : fcmRepository.findTokenRowsByUserIdIn(missingUserIds)) {
+            if (row.getFcmToken() != null) {
+                loaded.get(row.getUserId()).add(row.getFcmToken());
+            }
+        }
+        synchronized (tokens) {
+            for (Map.Entry<Long, Set<String>> entry : loaded.entrySet()) {
+                List<String> cached = tokens.putIfAbsent(entry.getKey(), List.copyOf(entry.getValue()));
+                List<String> userTokens = cached == null ? tokens.get(entry.getKey()) : cached;
+                if (!userTokens.isEmpty()) {
+                    result.put(entry.getKey(), userTokens);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 저장한 토큰을 바로 반영한다.
+     * 트랜잭션이 롤백되면 해당 회원의 목록을 버리고, 커밋되면 그 사이 DB에서 다시 읽힌 목록에도 한 번 더 반영한다.
+     */
+    public void add(Long userId, String fcmToken) {
+        addNow(userId, fcmToken);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    addNow(userId, fcmToken);
+                    return;
+                }
+                invalidate(userId);
+            }
+        });
+    }
+
+    /**
+     * 지운 토큰을 모든 회원의 목록에서 뺀다. 토큰을 지우는 일은 드물어서 캐시 전체를 훑는다.
+     */
+    public void remove(Collection<String> fcmTokens) {
+        Set<String> removedTokens = Set.copyOf(fcmTokens);
+        synchronized (tokens) {
+            for (Map.Entry<Long, List<String>> entry : tokens.entrySet()) {
+                if (Collections.disjoint(entry.getValue(), removedTokens)) {
+                    continue;
+                }
+                List<String> updated = new ArrayList<>(entry.getValue());
+                updated.removeAll(removedTokens);
+                entry.setValue(List.copyOf(updated));
+            }
+        }
+    }
+
+    public void invalidate(Long userId) {
+        synchronized (tokens) {
+            tokens.remove(userId);
+        }
+    }
+
+    public void clear() {
+        synchronized (tokens) {
+            tokens.clear();
+        }
+    }
+
+    private void addNow(Long userId, String fcmToken) {
+        synchronized (tokens) {
+            List<String> cached = tokens.get(userId);
+            if (cached == null || cached.contains(fcmToken)) {
+                return;
+            }
+            List<String> updated = new ArrayList<>(cached);
+            updated.add(fcmToken);
+            tokens.put(userId, List.copyOf(updated));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.gloomy.server.domain.notice.fcm;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * ttlDays 동안 앱에서 다시 등록되지 않은 FCM 토큰을 지운다.
+ */
+@Slf4j
+@Component
+public class FcmTokenExpirer {
+    private final FcmTokenService fcmTokenService;
+
+    @Value("${fcm.token.ttl-days:60}")
+    private long ttlDays;
+
+    public FcmTokenExpirer(FcmTokenService fcmTokenService) {
+        this.fcmTokenService = fcmTokenService;
+    }
+
+    @Scheduled(cron = "${fcm.token.expire-cron:0 0 5 * * *}")
+    public void expire() {
+        int deletedCount = fcmTokenService.deleteStaleFcmTokens(LocalDateTime.now().minusDays(ttlDays));
+        log.info("[FcmTokenExpirer] 오래된 FCM 토큰 삭제 완료: {}건", deletedCount);
+    }
+}
@@ -0,0 +1,7 @@
+package com.gloomy.server.domain.notice.fcm;
+
+public interface FcmTokenRow {
+    Long getUserId();
+
+    String getFcmToken();
+}
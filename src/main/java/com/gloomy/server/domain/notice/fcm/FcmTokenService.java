@@ -6,7 +6,16 @@ import com.gloomy.server.domain.user.UserRepository;
 import com.gloomy.server.domain.user.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 
 @RequiredArgsConstructor
@@ -16,11 +25,63 @@ public class FcmTokenService {
 
     private final FcmRepository fcmRepository;
     private final UserService userService;
+    private final FcmTokenCache fcmTokenCache;
 
+    /**
+     * (회원, 토큰) 당 한 행만 유지한다. 이미 있는 토큰이면 마지막 확인 시각만 갱신한다.
+     */
     public FcmToken saveFcmToken(FcmDto.Request fcmTokenDto){
+        if(fcmTokenDto.getFcmToken()==null || fcmTokenDto.getFcmToken().isBlank()){
+            throw new IllegalArgumentException("[FcmTokenService] fcmToken이 유효하지 않습니다.");
+        }
         User user=userService.findUser(fcmTokenDto.getUserId());
-        FcmToken fcmToken=FcmToken.of(user,fcmTokenDto.getFcmToken());
-        return fcmRepository.save(fcmToken);
+        Optional<FcmToken> foundToken=fcmRepository.findFirstByUserIdAndFcmToken(user,fcmTokenDto.getFcmToken());
+        if(foundToken.isPresent()){
+            foundToken.get().seen();
+            return foundToken.get();
+        }
+        FcmToken savedToken=fcmRepository.save(FcmToken.of(user,fcmTokenDto.getFcmToken()));
+        fcmTokenCache.add(user.getId(),savedToken.getFcmToken());
+        return savedToken;
+    }
+
+    /**
+     * 여러 회원의 토큰을 한 번에 찾는다. 캐시에 있는 회원은 DB를 거치지 않는다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Map<Long, List<String>> findFcmTokens(Collection<Long> userIds){
+        return fcmTokenCache.getTokens(userIds);
+    }
+
+    public int deleteFcmTokens(Collection<String> fcmTokens){
+        if(fcmTokens.isEmpty()){
+            return 0;
+        }
+        int deletedCount=fcmRepository.deleteAllByFcmTokenIn(fcmTokens);
+        removeFromCacheAfterCommit(fcmTokens);
+        return deletedCount;
+    }
+
+    /**
+     * lastSeenAt 이전에 마지막으로 확인된 토큰과, 확인 시각이 기록되기 전에 저장된 토큰을 지운다.
+     */
+    public int deleteStaleFcmTokens(LocalDateTime lastSeenAt){
+        int deletedCount=fcmRepository.deleteAllByLastSeenAtBefore(lastSeenAt);
+        fcmTokenCache.clear();
+        return deletedCount;
+    }
+
+    private void removeFromCacheAfterCommit(Collection<String> fcmTokens){
+        if(!TransactionSynchronizationManager.isSynchronizationActive()){
+            fcmTokenCache.remove(fcmTokens);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                fcmTokenCache.remove(fcmTokens);
+            }
+        });
     }
 
 }
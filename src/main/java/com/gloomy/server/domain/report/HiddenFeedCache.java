@@ -0,0 +1,150 @@
+package com.gloomy.server.domain.report;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 회원이 신고해서 목록에서 숨겨야 하는 피드 ID 집합.
+ * 회원별로 오름차순 long 배열을 ttlSeconds 동안 보관하고, 최근에 사용한 회원부터 최대 maxUsers명까지만 유지한다.
+ * <p>
+ * 신고하거나 무효화하면 해당 회원의 버전을 올린다. DB에서 읽기 전에 받아 둔 버전이 그 사이 바뀌었다면
+ * 읽은 집합을 캐시에 넣지 않으므로, 조회 도중 커밋된 신고가 빠진 집합이 남지 않는다.
+ */
+@Component
+public class HiddenFeedCache {
+    private static final int VERSION_STRIPES = 1024;
+
+    private final ReportRepository reportRepository;
+    private final long ttlMillis;
+    private final Map<Long, Entry> hiddenFeedIds;
+    private final long[] versions = new long[VERSION_STRIPES];
+
+    public HiddenFeedCache(ReportRepository reportRepository,
+                           @Value("${report.hidden-feed-cache.max-users:10000}") int maxUsers,
+                           @Value("${report.hidden-feed-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.reportRepository = reportRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.hiddenFeedIds = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    public long[] getHiddenFeedIds(Long userId) {
+        long version;
+        synchronized (hiddenFeedIds) {
+            long[] cached = cachedFeedIds(userId);
+            if (cached != null) {
+                return cached;
+            }
+            version = versions[stripeOf(userId)];
+        }
+        long[] loaded = reportRepository.findFeedIdsByUserId(userId).stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+        synchronized (hiddenFeedIds) {
+            if (versions[stripeOf(userId)] != version) {
+                return loaded;
+            }
+            long[] cached = cachedFeedIds(userId);
+            if (cached != null) {
+                return cached;
+            }
+            hiddenFeedIds.put(userId, new Entry(loaded, System.currentTimeMillis() + ttlMillis));
+            return loaded;
+        }
+    }
+
+    /**
+     * 신고한 피드를 바로 숨김 집합에 반영한다.
+     * 트랜잭션이 롤백되면 해당 회원의 집합을 버리고, 커밋되면 버전을 한 번 더 올려 그 사이 시작된 조회가 커밋 전 집합을 넣지 못하게 한다.
+     */
+    public void hide(Long userId, Long feedId) {
+        add(userId, feedId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    add(userId, feedId);
+                    return;
+                }
+                invalidate(userId);
+            }
+        });
+    }
+
+    public void invalidate(Long userId) {
+        synchronized (hiddenFeedIds) {
+            versions[stripeOf(userId)]++;
+            hiddenFeedIds.remove(userId);
+        }
+    }
+
+    public void clear() {
+        synchronized (hiddenFeedIds) {
+            for (int i = 0; i < versions.length; i++) {
+                versions[i]++;
+            }
+            hiddenFeedIds.clear();
+        }
+    }
+
+    private void add(Long userId, Long feedId) {
+        synchronized (hiddenFeedIds) {
+            versions[stripeOf(userId)]++;
+            long[] cached = cachedFeedIds(userId);
+            if (cached == null) {
+                return;
+            }
+            int index = Arrays.binarySearch(cached, feedId);
+            if (index >= 0) {
+                return;
+            }
+            int insertion = -index - 1;
+            long[] updated = new long[cached.length + 1];
+            System.arraycopy(cached, 0, updated, 0, insertion);
+            updated[insertion] = feedId;
+            System.arraycopy(cached, insertion, updated, insertion + 1, cached.length - insertion);
+            hiddenFeedIds.put(userId, new Entry(updated, hiddenFeedIds.get(userId).expiresAt));
+        }
+    }
+
+    private long[] cachedFeedIds(Long userId) {
+        Entry entry = hiddenFeedIds.get(userId);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            hiddenFeedIds.remove(userId);
+            return null;
+        }
+        return entry.feedIds;
+    }
+
+    private static int stripeOf(Long userId) {
+        return userId == null ? 0 : Long.hashCode(userId) & (VERSION_STRIPES - 1);
+    }
+
+    private static class Entry {
+        private final long[] feedIds;
+        private final long expiresAt;
+
+        private Entry(long[] feedIds, long expiresAt) {
+            this.feedIds = feedIds;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -2,7 +2,9 @@ package com.gloomy.server.domain.report;
 
 import com.gloomy.server.domain.feed.Feed;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,5 +14,8 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
     Report save(Report report);
     Optional<Report> findById(Long id);
     List<Report> findByFeedId(Feed feedId);
+
+    @Query("select r.feedId.id from Report r where r.userId.id = :userId")
+    List<Long> findFeedIdsByUserId(@Param("userId") Long userId);
     void deleteAll();
 }
\ No newline at end of file
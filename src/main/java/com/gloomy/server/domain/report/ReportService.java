@@ -1,6 +1,6 @@
 package com.gloomy.server.domain.report;
 
-import com.gloomy.server.application.feed.FeedRepository;
+import com.gloomy.server.application.core.response.ResourceVersions;
 import com.gloomy.server.application.feed.FeedService;
 import com.gloomy.server.application.report.ReportDTO;
 import com.gloomy.server.domain.feed.Feed;
@@ -23,7 +23,8 @@ public class ReportService {
     private final ReportRepository reportRepository;
     private final UserService userService;
     private final FeedService feedService;
-    private final FeedRepository feedRepository;
+    private final HiddenFeedCache hiddenFeedCache;
+    private final ResourceVersions resourceVersions;
 
 
     public Report saveReport(ReportDTO.Request request, Long userId){
@@ -32,13 +33,15 @@ public class ReportService {
         List<Report> reportList=reportRepository.findByFeedId(reportedFeed);
 
         if(reportList.size()>=4){
-            reportedFeed.report();
-            feedRepository.save(reportedFeed);
+            feedService.reportFeed(reportedFeed);
         }
 
         Report report=Report.of(reportedFeed,reportUser,ReportCategory.valueOf(request.getReportCategory()));
 
-        return reportRepository.save(report);
+        Report savedReport = reportRepository.save(report);
+        hiddenFeedCache.hide(reportUser.getId(), reportedFeed.getId());
+        resourceVersions.touch(ResourceVersions.HIDDEN_FEEDS, reportUser.getId());
+        return savedReport;
     }
     @Transactional(readOnly = true,isolation = Isolation.READ_COMMITTED)
     public Optional<Report> findReportById(Long reportId){
@@ -47,5 +50,6 @@ public class ReportService {
 
     public void deleteAll(){
         reportRepository.deleteAll();
+        hiddenFeedCache.clear();
     }
 }
\ No newline at end of file
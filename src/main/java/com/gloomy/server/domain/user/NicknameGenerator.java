@@ -0,0 +1,206 @@
+package com.gloomy.server.domain.user;
+
+import com.gloomy.server.application.core.resilience.OutboundGuard;
+import com.gloomy.server.application.core.resilience.OutboundGuards;
+import com.gloomy.server.domain.common.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 형용사, 명사 사전(resources/nickname)을 조합해 서버 안에서 닉네임을 만든다.
+ * 이미 쓰인 이름은 블룸 필터로 걸러 낸다. 블룸 필터는 없는 이름을 있다고 잘못 볼 수는 있어도 있는 이름을 놓치지는 않으므로,
+ * 오판은 후보 하나를 버리는 것으로 끝나고, 이 서버 안에서는 같은 이름을 두 번 내주지 않는다.
+ * 다른 서버가 미리 만들어 둔 이름은 DB에 저장되기 전까지 알 수 없으므로 서버 사이의 중복은 users.name 유일 제약이 막고,
+ * 가입 쪽(LoginService)이 새 이름으로 다시 시도한다.
+ * <p>
+ * 가입 요청이 생성 비용을 치르지 않도록 poolSize개를 미리 만들어 두고 백그라운드에서 채운다.
+ * 다른 서버에서 가입한 회원의 이름은 채우기 전에 DB에서 읽어 필터에 더한다.
+ * 조합이 바닥나면 remoteFallback이 켜진 경우에만 외부 닉네임 서비스를 비동기로 불러 풀을 채운다.
+ */
+@Slf4j
+@Component
+public class NicknameGenerator implements SmartInitializingSingleton {
+    private static final String ADJECTIVES_PATH = "nickname/adjectives.txt";
+    private static final String NOUNS_PATH = "nickname/nouns.txt";
+    private static final String REMOTE_URI = "https://nickname.hwanmoo.kr/?format=text";
+    private static final int MAX_ATTEMPTS = 16;
+    private static final int MAX_SUFFIX = 10000;
+
+    private final UserRepository userRepository;
+    private final WebClient webClient;
+    private final OutboundGuard remoteGuard;
+    private final List<String> adjectives;
+    private final List<String> nouns;
+    private final BlockingQueue<String> pool;
+    private final int poolSize;
+    private final BloomFilter usedNames;
+    private final int chunkSize;
+    private final int syncOverlap;
+    private final boolean remoteFallback;
+    private long lastSyncedId;
+
+    public NicknameGenerator(UserRepository userRepository, WebClient webClient, OutboundGuards outboundGuards,
+                             @Value("${user.nickname.pool-size:1000}") int poolSize,
+                             @Value("${user.nickname.expected-size:1000000}") int expectedNames,
+                             @Value("${user.nickname.false-positive-rate:0.001}") double falsePositiveRate,
+                             @Value("${user.nickname.chunk-size:1000}") int chunkSize,
+                             @Value("${user.nickname.sync-overlap:100}") int syncOverlap,
+                             @Value("${user.nickname.remote-fallback:false}") boolean remoteFallback) {
+        this.userRepository = userRepository;
+        this.webClient = webClient;
+        this.remoteGuard = outboundGuards.get(OutboundGuards.NICKNAME);
+        this.adjectives = readWords(ADJECTIVES_PATH);
+        this.nouns = readWords(NOUNS_PATH);
+        this.poolSize = poolSize;
+        this.pool = new ArrayBlockingQueue<>(Math.max(poolSize, 1));
+        this.usedNames = new BloomFilter(expectedNames, falsePositiveRate);
+        this.chunkSize = chunkSize;
+        this.syncOverlap = syncOverlap;
+        this.remoteFallback = remoteFallback;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        int loadedCount = syncNames();
+        refill();
+        log.info("[NicknameGenerator] 사용 중인 닉네임 적재 완료: {}건, 미리 만든 닉네임 {}개", loadedCount, pool.size());
+    }
+
+    /**
+     * 아직 쓰이지 않은 닉네임 하나를 돌려준다. 돌려준 이름은 바로 사용 중으로 표시된다.
+     */
+    public String next() {
+        String nickname = pool.poll();
+        if (nickname == null) {
+            nickname = generate();
+        }
+        if (nickname == null) {
+            fetchRemote();
+            throw new IllegalArgumentException("[NicknameGenerator] 사용할 수 있는 닉네임이 없습니다.");
+        }
+        return nickname;
+    }
+
+    @Scheduled(fixedDelayString = "${user.nickname.refill-delay-ms:1000}",
+            initialDelayString = "${user.nickname.refill-delay-ms:1000}")
+    public void refill() {
+        syncNames();
+        while (pool.size() < poolSize) {
+            String nickname = generate();
+            if (nickname == null) {
+                fetchRemote();
+                return;
+            }
+            pool.offer(nickname);
+        }
+    }
+
+    /**
+     * 마지막으로 읽은 회원 ID 이후의 닉네임을 필터에 더한다. 처음 호출하면 전체를 읽는다.
+     * ID는 커밋 순서대로 보이지 않을 수 있으므로 syncOverlap개 앞에서부터 다시 읽는다.
+     */
+    public int syncNames() {
+        long lastId = Math.max(0L, getLastSyncedId() - syncOverlap);
+        int loadedCount = 0;
+        List<NicknameRow> rows;
+        do {
+            rows = userRepository.findNicknameRowsAfter(lastId, PageRequest.of(0, chunkSize));
+            addAll(rows);
+            loadedCount += rows.size();
+            if (!rows.isEmpty()) {
+                lastId = rows.get(rows.size() - 1).getId();
+            }
+        } while (rows.size() == chunkSize);
+        return loadedCount;
+    }
+
+    public int poolSize() {
+        return pool.size();
+    }
+
+    /**
+     * 형용사와 명사를 무작위로 고르고, 이미 쓰인 조합이면 숫자를 붙여 다시 시도한다. 모두 실패하면 null.
+     */
+    String generate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            String nickname = adjectives.get(random.nextInt(adjectives.size())) + " " + nouns.get(random.nextInt(nouns.size()));
+            if (attempt > 0) {
+                nickname += random.nextInt(1, MAX_SUFFIX);
+            }
+            if (reserve(nickname)) {
+                return nickname;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 쓰이지 않은 이름이면 사용 중으로 표시하고 true를 돌려준다.
+     */
+    synchronized boolean reserve(String nickname) {
+        byte[] digest = BloomFilter.sha256(nickname);
+        if (usedNames.mightContain(digest)) {
+            return false;
+        }
+        usedNames.put(digest);
+        return true;
+    }
+
+    private synchronized void addAll(List<NicknameRow> rows) {
+        for (NicknameRow row : rows) {
+            usedNames.put(BloomFilter.sha256(row.getName()));
+            lastSyncedId = Math.max(lastSyncedId, row.getId());
+        }
+    }
+
+    private synchronized long getLastSyncedId() {
+        return lastSyncedId;
+    }
+
+    private void fetchRemote() {
+        if (!remoteFallback) {
+            return;
+        }
+        remoteGuard.guard(webClient.get()
+                        .uri(REMOTE_URI)
+                        .retrieve()
+                        .bodyToMono(String.class))
+                .map(String::trim)
+                .filter(nickname -> !nickname.isEmpty() && reserve(nickname))
+                .subscribe(pool::offer, e -> log.warn("[NicknameGenerator] 외부 닉네임 서비스 호출 실패: {}", e.getMessage()));
+    }
+
+    private static List<String> readWords(String path) {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ClassPathResource(path).getInputStream(), StandardCharsets.UTF_8))) {
+            List<String> words = reader.lines()
+                    .map(String::trim)
+                    .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                    .collect(Collectors.toList());
+            if (words.isEmpty()) {
+                throw new IllegalArgumentException("[NicknameGenerator] 닉네임 사전이 비어 있습니다: " + path);
+            }
+            return words;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
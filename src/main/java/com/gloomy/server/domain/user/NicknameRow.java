@@ -0,0 +1,7 @@
+package com.gloomy.server.domain.user;
+
+public interface NicknameRow {
+    Long getId();
+
+    String getName();
+}
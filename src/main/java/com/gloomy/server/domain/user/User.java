@@ -14,7 +14,9 @@ import static javax.persistence.GenerationType.IDENTITY;
 
 @Getter
 @ToString
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_users_name", columnNames = "name")
+})
 @Entity
 @NoArgsConstructor
 public class User {
@@ -80,6 +82,16 @@ public class User {
 
     public String getName(){ return this.profile.getName();}
 
+    /**
+     * 캐시에 보관하거나 캐시에서 꺼낼 때 쓰는 사본. 영속성 컨텍스트 사이에 같은 인스턴스를 공유하지 않기 위함이다.
+     */
+    User copy() {
+        User copy = new User(email, profile == null ? null : Profile.from(profile.getName()), type, kakaoToken, refreshToken);
+        copy.id = id;
+        copy.joinStatus = joinStatus;
+        return copy;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,164 @@
+package com.gloomy.server.domain.user;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.Status;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManager;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 활성 회원을 ID로 찾는 2단계 캐시.
+ * 1단계는 현재 영속성 컨텍스트로, OSIV가 켜져 있으면 요청 하나가 같은 컨텍스트를 쓰므로 요청 단위 메모가 된다.
+ * 2단계는 최근에 읽은 회원의 사본을 ttlSeconds 동안 maxSize명까지 보관하는 프로세스 전역 캐시로,
+ * 꺼낼 때마다 새 사본을 만들어 조회 쿼리 없이 현재 세션에 붙인다. 피드처럼 회원을 cascade로 참조하는 엔티티를 저장해도 안전하다.
+ * <p>
+ * 회원이 바뀌면 invalidate로 해당 회원의 버전을 올린다. 조회 전에 받아 둔 버전이 그 사이 바뀌었다면 put은 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+public class UserCache {
+    private static final int VERSION_STRIPES = 1024;
+
+    private final EntityManager entityManager;
+    private final long ttlMillis;
+    private final Map<Long, Entry> entries;
+    private final long[] versions = new long[VERSION_STRIPES];
+    private long hitCount;
+    private long missCount;
+
+    public UserCache(EntityManager entityManager,
+                     @Value("${user.cache.max-size:10000}") int maxSize,
+                     @Value("${user.cache.ttl-seconds:30}") long ttlSeconds) {
+        this.entityManager = entityManager;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 현재 영속성 컨텍스트나 전역 캐시에 있는 회원. 없으면 null을 돌려주고, 호출한 쪽이 DB에서 읽어 put한다.
+     * 트랜잭션 밖에서는 붙일 세션이 없으므로 항상 null이다.
+     */
+    public User get(Long userId) {
+        if (userId == null || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return null;
+        }
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        User managed = managedUser(session, userId);
+        if (managed != null) {
+            return managed;
+        }
+        User cached = cachedCopy(userId);
+        if (cached == null) {
+            return null;
+        }
+        session.buildLockRequest(LockOptions.NONE).lock(cached);
+        return cached;
+    }
+
+    /**
+     * put에 넘길 버전. 회원을 DB에서 읽기 전에 받아 두어야 한다.
+     */
+    public synchronized long version(Long userId) {
+        return versions[stripeOf(userId)];
+    }
+
+    public synchronized void put(Long userId, long version, User user) {
+        if (versions[stripeOf(userId)] != version) {
+            return;
+        }
+        entries.put(userId, new Entry(user.copy(), System.currentTimeMillis() + ttlMillis));
+    }
+
+    /**
+     * 회원을 바로 버리고, 현재 트랜잭션이 끝난 뒤에 한 번 더 버린다.
+     */
+    public void invalidate(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        invalidateNow(userId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                invalidateNow(userId);
+            }
+        });
+    }
+
+    public synchronized void clear() {
+        for (int i = 0; i < versions.length; i++) {
+            versions[i]++;
+        }
+        entries.clear();
+    }
+
+    @Scheduled(fixedDelayString = "${user.cache.stats-log-delay-ms:600000}",
+            initialDelayString = "${user.cache.stats-log-delay-ms:600000}")
+    public synchronized void logStats() {
+        long requestCount = hitCount + missCount;
+        log.info("[UserCache] size={}, hitRate={}, hit={}, miss={}", entries.size(),
+                String.format("%.3f", requestCount == 0 ? 0.0 : (double) hitCount / requestCount), hitCount, missCount);
+    }
+
+    private User managedUser(SessionImplementor session, Long userId) {
+        Object entity = session.getPersistenceContext().getEntity(
+                session.generateEntityKey(userId, session.getFactory().getMetamodel().entityPersister(User.class)));
+        if (entity == null) {
+            return null;
+        }
+        EntityEntry entry = session.getPersistenceContext().getEntry(entity);
+        if (entry == null || entry.getStatus() == Status.DELETED || entry.getStatus() == Status.GONE) {
+            return null;
+        }
+        return (User) entity;
+    }
+
+    private synchronized User cachedCopy(Long userId) {
+        Entry entry = entries.get(userId);
+        if (entry == null || entry.expiresAt <= System.currentTimeMillis()) {
+            if (entry != null) {
+                entries.remove(userId);
+            }
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        return entry.user.copy();
+    }
+
+    private synchronized void invalidateNow(Long userId) {
+        versions[stripeOf(userId)]++;
+        entries.remove(userId);
+    }
+
+    private static int stripeOf(Long userId) {
+        return userId == null ? 0 : Long.hashCode(userId) & (VERSION_STRIPES - 1);
+    }
+
+    private static class Entry {
+        private final User user;
+        private final long expiresAt;
+
+        private Entry(User user, long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
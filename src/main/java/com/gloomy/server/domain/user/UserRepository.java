@@ -1,8 +1,12 @@
 package com.gloomy.server.domain.user;
 
 import com.gloomy.server.domain.common.entity.Status;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -10,4 +14,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     User save(User user);
     Optional<User> findFirstByEmailAndJoinStatus(String email, Status joinStatus);
     Optional<User> findByIdAndJoinStatus(long id, Status joinStatus);
-}
\ No newline at end of file
+
+    @Query("select u.id as id, u.profile.name as name from User u" +
+            " where u.id > :id and u.profile.name is not null order by u.id")
+    List<NicknameRow> findNicknameRowsAfter(@Param("id") Long id, Pageable pageable);
+}
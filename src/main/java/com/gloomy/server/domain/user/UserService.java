@@ -1,20 +1,15 @@
 package com.gloomy.server.domain.user;
 
 
+import com.gloomy.server.application.security.CurrentUserIdArgumentResolver;
 import com.gloomy.server.domain.common.entity.Status;
-import com.gloomy.server.domain.jwt.JWTDeserializer;
-import com.gloomy.server.domain.user.login.UriService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.reactive.function.client.WebClient;
 
-import java.net.URI;
 import java.util.Optional;
 
 
@@ -24,39 +19,36 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
-    private final JWTDeserializer jwtDeserializer;
-    private final UriService uriService;
+    private final UserCache userCache;
+    private final NicknameGenerator nicknameGenerator;
 
     @Transactional(readOnly = true)
     public Optional<User> findById(long id) {
-        return userRepository.findByIdAndJoinStatus(id, Status.ACTIVE);
+        return findActiveUser(id);
     }
 
     public User createUser(User user) {
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        userCache.invalidate(savedUser.getId());
+        return savedUser;
     }
 
     public String createNickName(){
-
-        MultiValueMap<String,String> params=new LinkedMultiValueMap<>();
-        params.set("format","json");
-
-        WebClient webClient= WebClient.builder().baseUrl("https://nickname.hwanmoo.kr").build();
-
-        URI uri=uriService.getUri("https://nickname.hwanmoo.kr","/",params);
-
-        ResponseEntity<String> response = webClient.get()
-                .uri(uriBuilder -> uriBuilder.path("/").queryParam("format","text").build())
-                .retrieve()
-                .toEntity(String.class)
-                .blockOptional().orElseThrow();
-
-        return response.getBody();
+        return nicknameGenerator.next();
     }
 
     @Transactional(readOnly = true)
     public User findUser(Long userId) {
-        System.out.println("userID "+userId);
+        return findActiveUser(userId).orElseThrow(() -> {
+            throw new IllegalArgumentException("[ userService ]: 존재하지 않는 user 입니다.");
+        });
+    }
+
+    /**
+     * UserCache를 거치지 않고 DB에서 읽는다. 캐시의 사본이 다른 서버에서 바뀐 값보다 오래되었을 수 있으므로,
+     * 회원 정보를 확인하고 바꾸는 쪽(토큰 재발급 등)에서 쓴다.
+     */
+    public User loadUser(Long userId) {
         return userRepository.findByIdAndJoinStatus(userId,Status.ACTIVE).orElseThrow(() -> {
             throw new IllegalArgumentException("[ userService ]: 존재하지 않는 user 입니다.");
         });
@@ -65,10 +57,12 @@ public class UserService {
     public void deleteUser(Long userId) {
         if(userRepository.findByIdAndJoinStatus(userId,Status.ACTIVE).isEmpty()) throw new IllegalArgumentException("[ userService ]: 존재하지 않는 user 입니다.");
         else userRepository.delete(findUser(userId));
+        userCache.invalidate(userId);
     }
 
     public void deleteAll() {
         userRepository.deleteAll();
+        userCache.clear();
     }
 
     public User inactiveUser(Long userId){
@@ -77,6 +71,7 @@ public class UserService {
         if(findUser.isPresent()) {
             User user=findUser.get();
             user.inactiveUser();
+            userCache.invalidate(userId);
             return userRepository.save(user);
         }
 
@@ -85,16 +80,28 @@ public class UserService {
     }
 
 
+    private Optional<User> findActiveUser(Long userId) {
+        User cached = userCache.get(userId);
+        if (cached != null) {
+            return cached.getJoinStatus() == Status.ACTIVE ? Optional.of(cached) : Optional.empty();
+        }
+        long version = userCache.version(userId);
+        Optional<User> user = userRepository.findByIdAndJoinStatus(userId, Status.ACTIVE);
+        user.ifPresent(found -> userCache.put(userId, version, found));
+        return user;
+    }
+
+    /**
+     * 인증 필터에서 검증해 둔 payload의 회원 ID. 토큰을 다시 파싱하지 않는다.
+     */
     public Long getMyInfo(){
-        String token=getToken();
-        if(token.equals("")) return null;
-        return jwtDeserializer.jwtPayloadFromJWT(token).getUserId();
+        return CurrentUserIdArgumentResolver.currentUserId();
     }
 
     public String getToken(){
-        return SecurityContextHolder.getContext()
-                .getAuthentication()
-                .getCredentials().toString();
+        Authentication authentication=SecurityContextHolder.getContext().getAuthentication();
+        if(authentication==null || authentication.getCredentials()==null) return "";
+        return authentication.getCredentials().toString();
     }
 
 
@@ -1,5 +1,7 @@
 package com.gloomy.server.domain.user.kakao;
 
+import com.gloomy.server.application.core.resilience.OutboundGuard;
+import com.gloomy.server.application.core.resilience.OutboundGuards;
 import com.gloomy.server.application.user.UserDTO;
 import com.gloomy.server.domain.user.login.UriService;
 import com.gloomy.server.domain.user.UserRepository;
@@ -32,13 +34,16 @@ public class KakaoApiService implements LoginApiService<UserDTO.KakaoToken, User
 
     private final UserRepository userRepository;
     private final UriService uriService;
+    private final WebClient webClient;
+    private final OutboundGuard guard;
 
-    private final String authorizeUri;
-    private final String apiUri;
     private final String grantTypeValue;
     private final String clientIdValue;
+    private final URI tokenUri;
+    private final URI userInfoUri;
+    private final URI logoutUri;
 
-    public KakaoApiService( UserRepository userRepository, UriService uriService,
+    public KakaoApiService( UserRepository userRepository, UriService uriService, WebClient webClient, OutboundGuards outboundGuards,
                            @Value("${secrets.kakao.authorizeUri}") final String authorizeUri,
                            @Value("${secrets.kakao.apiUri}") final String apiUri,
                            @Value("${secrets.kakao.clientId}") final String clientId,
@@ -47,22 +52,19 @@ public class KakaoApiService implements LoginApiService<UserDTO.KakaoToken, User
 
         this.userRepository=userRepository;
         this.uriService=uriService;
-        this.authorizeUri=authorizeUri;
-        this.apiUri=apiUri;
+        this.webClient=webClient;
+        this.guard=outboundGuards.get(OutboundGuards.KAKAO);
         this.clientIdValue=clientId;
         this.grantTypeValue=grantType;
+        this.tokenUri=buildUri(authorizeUri, OAUTH_TOKEN_PATH);
+        this.userInfoUri=buildUri(apiUri, USER_INFO_PATH);
+        this.logoutUri=buildUri(apiUri, LOGOUT_PATH);
     }
 
     @Override
     public Mono<UserDTO.KakaoToken> getToken(UserDTO.CodeRequest request){
-
-        DefaultUriBuilderFactory uriBuilderFactory = new DefaultUriBuilderFactory(authorizeUri);
-        uriBuilderFactory.setEncodingMode(DefaultUriBuilderFactory.EncodingMode.NONE);
-        URI uri= uriBuilderFactory.uriString(OAUTH_TOKEN_PATH).build();
-
-        WebClient webClient= WebClient.builder().baseUrl(authorizeUri).build();
-        return webClient.post()
-                .uri(uri)
+        return guard.guard(webClient.post()
+                .uri(tokenUri)
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .body(BodyInserters.fromFormData(GRANT_TYPE, grantTypeValue)
                         .with(CLIENT_ID, clientIdValue)
@@ -70,43 +72,36 @@ public class KakaoApiService implements LoginApiService<UserDTO.KakaoToken, User
                         .with(REDIRECT_URI, "http://localhost:8080/kakao/signUp")
                         .with(CODE, request.getCode()))
                 .retrieve()
-                .bodyToMono(UserDTO.KakaoToken.class);
+                .bodyToMono(UserDTO.KakaoToken.class));
     }
 
     @Override
     public Mono<UserDTO.KakaoUser> getUserInfo(String accessToken){
-
-        DefaultUriBuilderFactory uriBuilderFactory = new DefaultUriBuilderFactory(apiUri);
-        uriBuilderFactory.setEncodingMode(DefaultUriBuilderFactory.EncodingMode.NONE);
-        URI uri= uriBuilderFactory.uriString(USER_INFO_PATH).build();
-
-        WebClient webClient= WebClient.builder().baseUrl(apiUri).build();
-        return webClient.post()
-                .uri(uri)
+        return guard.guard(webClient.post()
+                .uri(userInfoUri)
                 .contentType(MediaType.APPLICATION_JSON)
                 .header(AUTHORIZATION, "Bearer " + accessToken)
                 .retrieve()
-                .bodyToMono(UserDTO.KakaoUser.class);
+                .bodyToMono(UserDTO.KakaoUser.class));
     }
 
     @Override
     public Long logout(Long userId,String kakaoToken){
-
-        DefaultUriBuilderFactory uriBuilderFactory = new DefaultUriBuilderFactory(apiUri);
-        uriBuilderFactory.setEncodingMode(DefaultUriBuilderFactory.EncodingMode.NONE);
-        URI uri= uriBuilderFactory.uriString(LOGOUT_PATH).build();
-
-        WebClient webClient= WebClient.builder().baseUrl(apiUri).build();
-
-        ResponseEntity<String> response = webClient.post()
-                .uri(uri)
+        ResponseEntity<String> response = guard.guard(webClient.post()
+                .uri(logoutUri)
                 .header(AUTHORIZATION, "Bearer " + kakaoToken)
                 .retrieve()
-                .toEntity(String.class)
+                .toEntity(String.class))
                 .blockOptional().orElseThrow();
 
 
         return userId;
 
     }
+
+    private static URI buildUri(String baseUri, String path) {
+        DefaultUriBuilderFactory uriBuilderFactory = new DefaultUriBuilderFactory(baseUri);
+        uriBuilderFactory.setEncodingMode(DefaultUriBuilderFactory.EncodingMode.NONE);
+        return uriBuilderFactory.uriString(path).build();
+    }
 }
@@ -1,38 +1,65 @@
 package com.gloomy.server.domain.user.login;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.gloomy.server.application.core.resilience.Deadline;
 import com.gloomy.server.application.jwt.JwtService;
 import com.gloomy.server.application.user.UserDTO;
 import com.gloomy.server.domain.common.entity.Status;
 import com.gloomy.server.domain.jwt.JWTDeserializer;
 import com.gloomy.server.domain.jwt.JWTSerializer;
-import com.gloomy.server.domain.logout.Logout;
-import com.gloomy.server.domain.logout.LogoutRepository;
+import com.gloomy.server.domain.logout.LogoutService;
 import com.gloomy.server.domain.user.Type;
 import com.gloomy.server.domain.user.User;
 import com.gloomy.server.domain.user.UserRepository;
 import com.gloomy.server.domain.user.UserService;
 import com.gloomy.server.domain.user.kakao.KakaoApiService;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.util.Optional;
 
 import static java.time.Instant.now;
 
-@RequiredArgsConstructor
+@Slf4j
 @Service
 @Transactional
 public class LoginService {
+    private static final int MAX_SIGNUP_ATTEMPTS = 3;
 
     private final LoginApiService<UserDTO.KakaoToken, UserDTO.KakaoUser> kakaoApiService;
     private final LoginApiService<UserDTO.KakaoToken, UserDTO.KakaoUser> appleApiService;
     private final UserRepository userRepository;
-    private final LogoutRepository logoutRepository;
+    private final LogoutService logoutService;
     private final UserService userService;
     private final JWTSerializer jwtSerializer;
     private final JwtService jwtService;
+    private final ProviderLogoutService providerLogoutService;
+    private final Scheduler loginScheduler;
+    private final TransactionTemplate loginTransaction;
+
+    public LoginService(LoginApiService<UserDTO.KakaoToken, UserDTO.KakaoUser> kakaoApiService,
+                        LoginApiService<UserDTO.KakaoToken, UserDTO.KakaoUser> appleApiService,
+                        UserRepository userRepository, LogoutService logoutService, UserService userService,
+                        JWTSerializer jwtSerializer, JwtService jwtService, ProviderLogoutService providerLogoutService,
+                        Scheduler loginScheduler, PlatformTransactionManager transactionManager) {
+        this.kakaoApiService = kakaoApiService;
+        this.appleApiService = appleApiService;
+        this.userRepository = userRepository;
+        this.logoutService = logoutService;
+        this.userService = userService;
+        this.jwtSerializer = jwtSerializer;
+        this.jwtService = jwtService;
+        this.providerLogoutService = providerLogoutService;
+        this.loginScheduler = loginScheduler;
+        this.loginTransaction = new TransactionTemplate(transactionManager);
+    }
 
     public void test(){
         System.out.println(kakaoApiService.getClass());
@@ -40,10 +67,38 @@ public class LoginService {
         appleApiService.logout(1L,"token");
     }
 
-    public User login(UserDTO.CodeRequest request) {
-        UserDTO.KakaoToken kakaoToken = kakaoApiService.getToken(request).block();
-        UserDTO.KakaoUser kakaoUser =  kakaoApiService.getUserInfo(kakaoToken.getAccess_token()).block();
+    /**
+     * 카카오 토큰, 사용자 정보 요청은 논블로킹으로 이어 붙이고 가입/로그인 처리(DB)만 loginScheduler에서 트랜잭션으로 실행한다.
+     * 요청을 받은 톰캣 스레드는 외부 API 응답을 기다리지 않고 바로 반환된다.
+     * 요청의 Deadline은 Context로 넘겨, 네티 스레드에서 이어지는 사용자 정보 요청도 남은 시간 안에서만 기다린다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<User> login(UserDTO.CodeRequest request) {
+        return kakaoApiService.getToken(request)
+                .flatMap(kakaoToken -> kakaoApiService.getUserInfo(kakaoToken.getAccess_token())
+                        .publishOn(loginScheduler)
+                        .map(kakaoUser -> upsertUserWithRetry(kakaoToken, kakaoUser)))
+                .contextWrite(Deadline.propagate());
+    }
+
+    /**
+     * 닉네임은 서버마다 따로 만들므로 다른 서버가 같은 이름을 먼저 저장했을 수 있다.
+     * users.name 유일 제약에 걸리면 새 닉네임으로 트랜잭션을 다시 실행한다.
+     */
+    private User upsertUserWithRetry(UserDTO.KakaoToken kakaoToken, UserDTO.KakaoUser kakaoUser) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return loginTransaction.execute(status -> upsertUser(kakaoToken, kakaoUser));
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_SIGNUP_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("[LoginService] 닉네임이 겹쳐 가입을 다시 시도합니다 ({}회)", attempt);
+            }
+        }
+    }
 
+    private User upsertUser(UserDTO.KakaoToken kakaoToken, UserDTO.KakaoUser kakaoUser) {
         Optional<User> userOp =
                 userRepository.findFirstByEmailAndJoinStatus(kakaoUser.getKakao_account().getEmail(), Status.ACTIVE);
         User user;
@@ -55,11 +110,15 @@ public class LoginService {
             user=userOp.get();
             user.changeKakaoToken(kakaoToken.getAccess_token());
         }
-        userRepository.save(user);
+        userService.createUser(user);
 
         return user;
     }
 
+    /**
+     * JWT 폐기와 카카오 로그아웃 작업 등록을 한 트랜잭션으로 커밋하고 바로 반환한다.
+     * 카카오 로그아웃은 ProviderLogoutDispatcher가 따로 보내므로 카카오 응답 속도가 이 요청에 영향을 주지 않는다.
+     */
     public void logout() throws JsonProcessingException {
 
         Long userId=jwtService.getMyInfo();
@@ -69,14 +128,13 @@ public class LoginService {
             throw new IllegalArgumentException("[ userService ] 존재하지 않는 user");
         }
 
-        kakaoApiService.logout(userId,user.get().getKakaoToken()); // 카카오 로그아웃 처리
+        providerLogoutService.enqueue(userId, Type.KAKAO, user.get().getKakaoToken()); // 카카오 로그아웃 작업 등록
         this.jwtLogout();
     }
 
     protected void jwtLogout() throws JsonProcessingException {
         String token= userService.getToken();
-//        long expiredTime=jwtDeserializer.jwtPayloadFromJWT(token).getExpiredTime()-now().getEpochSecond();
-        logoutRepository.save(new Logout(token));
+        logoutService.logout(token);
     }
 
 }
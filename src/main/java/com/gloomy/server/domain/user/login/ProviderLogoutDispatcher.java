@@ -0,0 +1,122 @@
+package com.gloomy.server.domain.user.login;
+
+import com.gloomy.server.application.user.UserDTO;
+import com.gloomy.server.domain.user.Type;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import javax.annotation.PreDestroy;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 기한이 된 로그인 제공자 로그아웃 작업을 주기적으로 가져가 크기가 정해진 워커 풀에서 보낸다.
+ * 워커 큐에 남은 자리만큼만 가져가므로 제공자가 느려져도 작업이 메모리에 쌓이지 않고 DB에 남는다.
+ * 4xx 응답(429 제외)은 다시 보내도 결과가 같으므로 바로 DEAD로 남긴다.
+ */
+@Slf4j
+@Component
+public class ProviderLogoutDispatcher {
+    private final ProviderLogoutService providerLogoutService;
+    private final Map<Type, LoginApiService<UserDTO.KakaoToken, UserDTO.KakaoUser>> loginApiServices = new EnumMap<>(Type.class);
+    private final ThreadPoolTaskExecutor executor;
+    private final AtomicLong succeededCount = new AtomicLong();
+    private final AtomicLong retriedCount = new AtomicLong();
+    private final AtomicLong deadLetteredCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public ProviderLogoutDispatcher(ProviderLogoutService providerLogoutService,
+                                    LoginApiService<UserDTO.KakaoToken, UserDTO.KakaoUser> kakaoApiService,
+                                    LoginApiService<UserDTO.KakaoToken, UserDTO.KakaoUser> appleApiService,
+                                    @Value("${login.provider-logout.workers:2}") int workerCount,
+                                    @Value("${login.provider-logout.queue-capacity:100}") int queueCapacity) {
+        this.providerLogoutService = providerLogoutService;
+        this.loginApiServices.put(Type.KAKAO, kakaoApiService);
+        this.loginApiServices.put(Type.APPLE, appleApiService);
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(workerCount);
+        this.executor.setMaxPoolSize(workerCount);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setThreadNamePrefix("provider-logout-");
+        this.executor.initialize();
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+    }
+
+    @Scheduled(fixedDelayString = "${login.provider-logout.dispatch-delay-ms:1000}")
+    public void dispatch() {
+        int available = executor.getThreadPoolExecutor().getQueue().remainingCapacity();
+        if (available == 0) {
+            return;
+        }
+        try {
+            List<Long> taskIds = providerLogoutService.findDueTaskIds(available);
+            for (Long taskId : taskIds) {
+                if (!providerLogoutService.claim(taskId)) {
+                    continue;
+                }
+                try {
+                    executor.execute(() -> process(taskId));
+                } catch (TaskRejectedException e) {
+                    rejectedCount.incrementAndGet();
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("[ProviderLogoutDispatcher] 로그아웃 작업 조회 실패, 다음 주기에 다시 처리합니다.", e);
+        }
+    }
+
+    /**
+     * 작업 하나를 호출한 스레드에서 보낸다. 거절된 작업은 lease가 끝난 뒤 다시 가져간다.
+     */
+    void process(Long taskId) {
+        providerLogoutService.findTask(taskId).ifPresent(task -> {
+            try {
+                loginApiServices.get(task.getType()).logout(task.getUserId(), task.getProviderToken());
+                providerLogoutService.complete(taskId);
+                succeededCount.incrementAndGet();
+            } catch (RuntimeException e) {
+                if (providerLogoutService.fail(taskId, e.toString(), isRetryable(e))) {
+                    deadLetteredCount.incrementAndGet();
+                    log.warn("[ProviderLogoutDispatcher] 로그아웃 작업 {} DEAD 처리: {}", taskId, e.toString());
+                } else {
+                    retriedCount.incrementAndGet();
+                }
+            }
+        });
+    }
+
+    public ProviderLogoutStats stats() {
+        return new ProviderLogoutStats(providerLogoutService.countByStatus(ProviderLogoutStatus.PENDING),
+                providerLogoutService.countByStatus(ProviderLogoutStatus.DEAD),
+                succeededCount.get(), retriedCount.get(), deadLetteredCount.get(), rejectedCount.get());
+    }
+
+    @Scheduled(fixedDelayString = "${login.provider-logout.stats-log-delay-ms:600000}",
+            initialDelayString = "${login.provider-logout.stats-log-delay-ms:600000}")
+    public void logStats() {
+        ProviderLogoutStats stats = stats();
+        log.info("[ProviderLogoutDispatcher] pending={}, dead={}, succeeded={}, retried={}, deadLettered={}, rejected={}",
+                stats.getPendingCount(), stats.getDeadCount(), stats.getSucceededCount(), stats.getRetriedCount(),
+                stats.getDeadLetteredCount(), stats.getRejectedCount());
+    }
+
+    private static boolean isRetryable(RuntimeException e) {
+        if (!(e instanceof WebClientResponseException)) {
+            return true;
+        }
+        HttpStatus status = ((WebClientResponseException) e).getStatusCode();
+        return !status.is4xxClientError() || status == HttpStatus.TOO_MANY_REQUESTS;
+    }
+}
@@ -0,0 +1,98 @@
+package com.gloomy.server.domain.user.login;
+
+import com.gloomy.server.domain.user.Type;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 로그인 제공자 로그아웃 작업 큐. 실패한 작업은 backoffMillis부터 두 배씩(최대 maxBackoffMillis) 미뤄 다시 보내고,
+ * maxAttempts번 실패하거나 다시 보내도 소용없는 실패면 DEAD로 남긴다.
+ */
+@Service
+@Transactional(isolation = Isolation.READ_COMMITTED)
+public class ProviderLogoutService {
+    private final ProviderLogoutTaskRepository providerLogoutTaskRepository;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+    private final long leaseMillis;
+
+    public ProviderLogoutService(ProviderLogoutTaskRepository providerLogoutTaskRepository,
+                                 @Value("${login.provider-logout.max-attempts:8}") int maxAttempts,
+                                 @Value("${login.provider-logout.backoff-ms:1000}") long backoffMillis,
+                                 @Value("${login.provider-logout.max-backoff-ms:3600000}") long maxBackoffMillis,
+                                 @Value("${login.provider-logout.lease-ms:60000}") long leaseMillis) {
+        this.providerLogoutTaskRepository = providerLogoutTaskRepository;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.leaseMillis = leaseMillis;
+    }
+
+    /**
+     * 호출한 쪽 트랜잭션 안에서 작업을 남긴다. 제공자 토큰이 없으면 보낼 것이 없으므로 남기지 않는다.
+     */
+    public ProviderLogoutTask enqueue(Long userId, Type type, String providerToken) {
+        if (providerToken == null) {
+            return null;
+        }
+        return providerLogoutTaskRepository.save(ProviderLogoutTask.of(userId, type, providerToken));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findDueTaskIds(int limit) {
+        return providerLogoutTaskRepository.findDueIds(LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    /**
+     * 다른 서버가 먼저 가져가지 않았으면 leaseMillis 동안 이 서버가 작업을 맡는다.
+     */
+    public boolean claim(Long taskId) {
+        LocalDateTime now = LocalDateTime.now();
+        return providerLogoutTaskRepository.claim(taskId, now, now.plus(leaseMillis, ChronoUnit.MILLIS)) == 1;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ProviderLogoutTask> findTask(Long taskId) {
+        return providerLogoutTaskRepository.findById(taskId);
+    }
+
+    public void complete(Long taskId) {
+        providerLogoutTaskRepository.findById(taskId).ifPresent(providerLogoutTaskRepository::delete);
+    }
+
+    /**
+     * 실패를 기록한다. DEAD가 되었으면 true를 돌려준다.
+     */
+    public boolean fail(Long taskId, String error, boolean retryable) {
+        Optional<ProviderLogoutTask> task = providerLogoutTaskRepository.findById(taskId);
+        if (task.isEmpty()) {
+            return false;
+        }
+        int attempts = task.get().getAttempts() + 1;
+        if (!retryable || attempts >= maxAttempts) {
+            task.get().markDead(error);
+            return true;
+        }
+        task.get().retryAt(LocalDateTime.now().plus(backoffMillis(attempts), ChronoUnit.MILLIS), error);
+        return false;
+    }
+
+    @Transactional(readOnly = true)
+    public long countByStatus(ProviderLogoutStatus status) {
+        return providerLogoutTaskRepository.countByStatus(status);
+    }
+
+    long backoffMillis(int attempts) {
+        int shift = Math.min(attempts - 1, 30);
+        return Math.min(maxBackoffMillis, backoffMillis << shift);
+    }
+}
@@ -0,0 +1,15 @@
+package com.gloomy.server.domain.user.login;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProviderLogoutStats {
+    private final long pendingCount;
+    private final long deadCount;
+    private final long succeededCount;
+    private final long retriedCount;
+    private final long deadLetteredCount;
+    private final long rejectedCount;
+}
@@ -0,0 +1,5 @@
+package com.gloomy.server.domain.user.login;
+
+public enum ProviderLogoutStatus {
+    PENDING, DEAD
+}
@@ -0,0 +1,94 @@
+package com.gloomy.server.domain.user.login;
+
+import com.gloomy.server.domain.user.Type;
+import lombok.Builder;
+import lombok.Getter;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 카카오 등 로그인 제공자 쪽 로그아웃을 나중에 보내기 위해 남겨 두는 작업 행.
+ * 로그아웃 요청 트랜잭션 안에서 JWT 폐기와 함께 저장되고, ProviderLogoutDispatcher가 꺼내 보낸다.
+ * 성공하면 지우고, 실패하면 attempts를 올려 nextAttemptAt까지 미루며, 끝내 실패하면 DEAD로 남긴다.
+ */
+@Getter
+@Entity
+@Table(name = "provider_logout_task", indexes = {
+        @Index(name = "idx_provider_logout_task_due", columnList = "status, next_attempt_at")
+})
+public class ProviderLogoutTask {
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Type type;
+
+    @Column(name = "provider_token", nullable = false)
+    private String providerToken;
+
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ProviderLogoutStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    protected ProviderLogoutTask() {
+    }
+
+    @Builder
+    public ProviderLogoutTask(Long userId, Type type, String providerToken, LocalDateTime createdAt) {
+        this.userId = userId;
+        this.type = type;
+        this.providerToken = providerToken;
+        this.status = ProviderLogoutStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = createdAt;
+        this.createdAt = createdAt;
+    }
+
+    public static ProviderLogoutTask of(Long userId, Type type, String providerToken) {
+        return builder()
+                .userId(userId)
+                .type(type)
+                .providerToken(providerToken)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+    }
+
+    public void markDead(String error) {
+        this.attempts++;
+        this.status = ProviderLogoutStatus.DEAD;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,30 @@
+package com.gloomy.server.domain.user.login;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ProviderLogoutTaskRepository extends JpaRepository<ProviderLogoutTask, Long> {
+
+    @Query("select t.id from ProviderLogoutTask t" +
+            " where t.status = com.gloomy.server.domain.user.login.ProviderLogoutStatus.PENDING and t.nextAttemptAt <= :now" +
+            " order by t.nextAttemptAt")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 아직 기한이 된 작업이면 nextAttemptAt을 leaseUntil로 미뤄 이 서버가 가져간다. 가져갔으면 1을 돌려준다.
+     * 처리 도중 서버가 죽으면 leaseUntil 이후 다른 서버가 다시 가져간다.
+     */
+    @Modifying
+    @Query("update ProviderLogoutTask t set t.nextAttemptAt = :leaseUntil" +
+            " where t.id = :id and t.status = com.gloomy.server.domain.user.login.ProviderLogoutStatus.PENDING" +
+            " and t.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    long countByStatus(ProviderLogoutStatus status);
+}
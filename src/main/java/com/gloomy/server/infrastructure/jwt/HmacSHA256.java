@@ -8,14 +8,33 @@ class HmacSHA256 {
 
     private static final String HMAC_SHA256_ALGORITHM = "HmacSHA256";
 
-    private HmacSHA256() {
+    private final ThreadLocal<Mac> macs;
+
+    /**
+     * secret으로 초기화한 Mac을 스레드마다 하나씩 만들어 두고 다시 쓴다.
+     * Mac.getInstance와 init은 서명 계산보다 비싸므로 요청마다 새로 만들지 않는다.
+     */
+    HmacSHA256(byte[] secret) {
+        final var key = new SecretKeySpec(secret, HMAC_SHA256_ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> newMac(key));
+    }
+
+    byte[] sign(String message) {
+        final var messageBytes = message.getBytes(StandardCharsets.UTF_8);
+        return sign(messageBytes, 0, messageBytes.length);
+    }
+
+    byte[] sign(byte[] message, int offset, int length) {
+        final var hmacSHA256 = macs.get();
+        hmacSHA256.update(message, offset, length);
+        return hmacSHA256.doFinal();
     }
 
-    public static byte[] sign(byte[] secret, String message) {
+    private static Mac newMac(SecretKeySpec key) {
         try {
             final var hmacSHA256 = Mac.getInstance(HMAC_SHA256_ALGORITHM);
-            hmacSHA256.init(new SecretKeySpec(secret, HMAC_SHA256_ALGORITHM));
-            return hmacSHA256.doFinal(message.getBytes(StandardCharsets.UTF_8));
+            hmacSHA256.init(key);
+            return hmacSHA256;
         } catch (Exception exception) {
             throw new HmacSHA256SignFailedException(exception);
         }
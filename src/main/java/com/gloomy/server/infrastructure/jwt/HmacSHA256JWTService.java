@@ -1,39 +1,42 @@
 package com.gloomy.server.infrastructure.jwt;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gloomy.server.domain.jwt.JWTDeserializer;
 import com.gloomy.server.domain.jwt.JWTPayload;
 import com.gloomy.server.domain.jwt.JWTSerializer;
 import com.gloomy.server.domain.user.User;
 
-import java.util.regex.Pattern;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 
 import static com.gloomy.server.application.core.ErrorMessage.invalidTokenErrorMessage;
 import static com.gloomy.server.application.core.ErrorMessage.tokenExpired;
 import static com.gloomy.server.infrastructure.jwt.Base64URL.*;
-import static java.lang.String.format;
 import static java.time.Instant.now;
-import static java.util.regex.Pattern.compile;
 
 class HmacSHA256JWTService implements JWTSerializer, JWTDeserializer {
 
     private static final String JWT_HEADER = base64URLFromString("{\"alg\":\"HS256\",\"type\":\"JWT\"}");
-    private static final String BASE64URL_PATTERN = "[\\w_\\-]+";
-    private static final Pattern JWT_PATTERN = compile(format("^(%s\\.)(%s\\.)(%s)$",
-            BASE64URL_PATTERN, BASE64URL_PATTERN, BASE64URL_PATTERN));
+    private static final int SIGNATURE_LENGTH = 43;
+    private static final int VERIFIED_TOKEN_CACHE_SIZE = 4096;
+    private static final Base64.Encoder BASE64URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64URL_DECODER = Base64.getUrlDecoder();
 
     protected final byte[] secret;
     protected final int accessTokenExpireIn;
     protected final int refreshTokenExpireIn;
     private final ObjectMapper objectMapper;
+    private final HmacSHA256 hmacSHA256;
+    private final VerifiedJWTCache verifiedTokens = new VerifiedJWTCache(VERIFIED_TOKEN_CACHE_SIZE);
 
     HmacSHA256JWTService(byte[] secret, int accessTokenExpireIn, int refreshTokenExpireIn, ObjectMapper objectMapper) {
         this.secret = secret;
         this.accessTokenExpireIn = accessTokenExpireIn;
         this.refreshTokenExpireIn = refreshTokenExpireIn;
         this.objectMapper = objectMapper;
+        this.hmacSHA256 = new HmacSHA256(secret);
     }
 
     // jwtSerializer
@@ -43,14 +46,14 @@ class HmacSHA256JWTService implements JWTSerializer, JWTDeserializer {
     @Override
     public String jwtFromUser(User user) {
         final var messageToSign = JWT_HEADER.concat(".").concat(jwtPayloadFromUser(user));
-        final var signature = HmacSHA256.sign(secret, messageToSign);
+        final var signature = hmacSHA256.sign(messageToSign);
         return messageToSign.concat(".").concat(base64URLFromBytes(signature));
     }
 
     @Override
     public String createRefreshToken(){
         final var messageToSign = JWT_HEADER.concat(".").concat(refreshJwtPayload());
-        final var signature = HmacSHA256.sign(secret, messageToSign);
+        final var signature = hmacSHA256.sign(messageToSign);
         return messageToSign.concat(".").concat(base64URLFromBytes(signature));
     }
 
@@ -65,61 +68,90 @@ class HmacSHA256JWTService implements JWTSerializer, JWTDeserializer {
 
     @Override
     public JWTPayload jwtPayloadFromJWT(String jwtToken){
-        UserJWTPayload jwtPayload=null;
+        UserJWTPayload jwtPayload;
         try {
-            if (!isValidToken(jwtToken)) throw new IllegalArgumentException(invalidTokenErrorMessage);
-
-            final var splintedTokens = jwtToken.split("\\.");
-            final var decodedPayload = stringFromBase64URL(splintedTokens[1]);
-            jwtPayload= objectMapper.readValue(decodedPayload, UserJWTPayload.class);
-
-            if (isExpired(jwtToken)) throw new IllegalArgumentException(tokenExpired);
-
+            jwtPayload = verifiedPayload(jwtToken);
         }catch (Exception e){
             throw new IllegalArgumentException(e.getMessage());
         }
+        if (jwtPayload.isExpired()) throw new IllegalArgumentException(tokenExpired);
         return jwtPayload;
     }
 
+    @Override
     public boolean isValidToken(String jwtToken){
-
-        final var splintedTokens = jwtToken.split("\\.");
-        final var signatureBytes = HmacSHA256.sign(secret, splintedTokens[0].concat(".").concat(splintedTokens[1]));
-        if (!JWT_PATTERN.matcher(jwtToken).matches() ||
-                !splintedTokens[0].equals(JWT_HEADER) ||
-                !base64URLFromBytes(signatureBytes).equals(splintedTokens[2])) return false;
-
-        return true;
-
+        try {
+            verifiedPayload(jwtToken);
+            return true;
+        }catch (Exception e){
+            return false;
+        }
     }
+
     @Override
     public boolean isExpired(String jwtToken)  {
-        try {
-            final var splintedTokens = jwtToken.split("\\.");
-            final var decodedPayload = stringFromBase64URL(splintedTokens[1]);
+        return parsePayload(jwtToken).isExpired();
+    }
 
-            UserJWTPayload jwtPayload = objectMapper.readValue(decodedPayload, UserJWTPayload.class);
+    @Override
+    public Long getUserId(String jwtToken) {
+        return parsePayload(jwtToken).getUserId();
+    }
 
-            if (jwtPayload.isExpired()) return true;
-            return false;
-        }catch (Exception e){
-            throw new IllegalArgumentException(e.getMessage());
+    /**
+     * 서명을 검증한 payload. 한 번 검증한 토큰은 verifiedTokens에서 바로 꺼낸다.
+     */
+    private UserJWTPayload verifiedPayload(String jwtToken) throws IOException {
+        var jwtPayload = verifiedTokens.get(jwtToken);
+        if (jwtPayload == null) {
+            jwtPayload = verify(jwtToken);
+            verifiedTokens.put(jwtToken, jwtPayload);
         }
+        return jwtPayload;
     }
 
-    @Override
-    public Long getUserId(String jwtToken) {
-        final var splintedTokens = jwtToken.split("\\.");
-        final var decodedPayload = stringFromBase64URL(splintedTokens[1]);
-        UserJWTPayload jwtPayload = null;
-        try{
-            jwtPayload = objectMapper.readValue(decodedPayload, UserJWTPayload.class);
+    /**
+     * 토큰을 한 번만 훑어 헤더, 서명, payload를 차례로 확인한다.
+     * 서명은 base64url로 인코딩한 바이트를 토큰의 서명 부분과 상수 시간으로 비교하고, payload는 한 번만 파싱한다.
+     */
+    private UserJWTPayload verify(String jwtToken) throws IOException {
+        final var headerEnd = jwtToken.indexOf('.');
+        final var payloadEnd = headerEnd < 0 ? -1 : jwtToken.indexOf('.', headerEnd + 1);
+        if (headerEnd != JWT_HEADER.length() || !jwtToken.startsWith(JWT_HEADER)
+                || payloadEnd <= headerEnd + 1 || jwtToken.length() - payloadEnd - 1 != SIGNATURE_LENGTH) {
+            throw new IllegalArgumentException(invalidTokenErrorMessage);
+        }
+        final var tokenBytes = jwtToken.getBytes(StandardCharsets.US_ASCII);
+        final var expectedSignature = new byte[SIGNATURE_LENGTH];
+        BASE64URL_ENCODER.encode(hmacSHA256.sign(tokenBytes, 0, payloadEnd), expectedSignature);
+        if (!constantTimeEquals(expectedSignature, tokenBytes, payloadEnd + 1)) {
+            throw new IllegalArgumentException(invalidTokenErrorMessage);
+        }
+        return readPayload(tokenBytes, headerEnd + 1, payloadEnd);
+    }
+
+    private UserJWTPayload parsePayload(String jwtToken) {
+        try {
+            final var headerEnd = jwtToken.indexOf('.');
+            final var payloadEnd = jwtToken.indexOf('.', headerEnd + 1);
+            if (headerEnd < 0 || payloadEnd < 0) throw new IllegalArgumentException(invalidTokenErrorMessage);
+            return readPayload(jwtToken.getBytes(StandardCharsets.US_ASCII), headerEnd + 1, payloadEnd);
         }catch (Exception e){
             throw new IllegalArgumentException(e.getMessage());
         }
-        return jwtPayload.getUserId();
     }
 
+    private UserJWTPayload readPayload(byte[] tokenBytes, int from, int to) throws IOException {
+        final var decodedPayload = BASE64URL_DECODER.decode(ByteBuffer.wrap(tokenBytes, from, to - from));
+        return objectMapper.readValue(decodedPayload.array(), decodedPayload.arrayOffset(), decodedPayload.remaining(),
+                UserJWTPayload.class);
+    }
 
-
-}
\ No newline at end of file
+    private static boolean constantTimeEquals(byte[] expected, byte[] tokenBytes, int offset) {
+        var result = 0;
+        for (var i = 0; i < expected.length; i++) {
+            result |= expected[i] ^ tokenBytes[offset + i];
+        }
+        return result == 0;
+    }
+}
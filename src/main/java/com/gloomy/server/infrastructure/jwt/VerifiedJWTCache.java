@@ -0,0 +1,61 @@
+package com.gloomy.server.infrastructure.jwt;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 서명 검증을 통과한 토큰과 그 payload를 서명 부분의 해시 자리에 하나씩 보관하는 고정 크기 캐시.
+ * 같은 자리에 다른 토큰이 들어오면 그냥 덮어쓰므로 크기가 늘지 않고 잠금도 없다.
+ * 만료 여부는 꺼내 쓰는 쪽에서 매번 확인한다.
+ */
+class VerifiedJWTCache {
+
+    private final AtomicReferenceArray<Entry> entries;
+    private final int mask;
+
+    VerifiedJWTCache(int size) {
+        final var capacity = Integer.highestOneBit(Math.max(1, size - 1)) << 1;
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    UserJWTPayload get(String jwtToken) {
+        final var entry = entries.get(slotOf(jwtToken));
+        if (entry == null || !constantTimeEquals(entry.jwtToken, jwtToken)) {
+            return null;
+        }
+        return entry.payload;
+    }
+
+    void put(String jwtToken, UserJWTPayload payload) {
+        entries.set(slotOf(jwtToken), new Entry(jwtToken, payload));
+    }
+
+    private int slotOf(String jwtToken) {
+        var hash = 0;
+        for (var i = jwtToken.lastIndexOf('.') + 1; i < jwtToken.length(); i++) {
+            hash = 31 * hash + jwtToken.charAt(i);
+        }
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static boolean constantTimeEquals(String expected, String actual) {
+        if (expected.length() != actual.length()) {
+            return false;
+        }
+        var result = 0;
+        for (var i = 0; i < expected.length(); i++) {
+            result |= expected.charAt(i) ^ actual.charAt(i);
+        }
+        return result == 0;
+    }
+
+    private static class Entry {
+        private final String jwtToken;
+        private final UserJWTPayload payload;
+
+        private Entry(String jwtToken, UserJWTPayload payload) {
+            this.jwtToken = jwtToken;
+            this.payload = payload;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.gloomy.server.application.core.resilience;
+
+import com.gloomy.server.application.core.exception.OutboundRejectedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutboundGuardTest {
+
+    @AfterEach
+    void tearDown() {
+        Deadline.clear();
+    }
+
+    @DisplayName("실패율이 기준을 넘으면 회로가 열려 호출하지 않음")
+    @Test
+    void opensOnFailureRate() {
+        OutboundGuard guard = guard(1000, 60000);
+
+        fail(guard);
+        guard.call(timeoutMillis -> "ok");
+        fail(guard);
+        fail(guard);
+
+        assertEquals(OutboundGuard.State.OPEN, guard.stats().getState());
+        assertThrows(OutboundRejectedException.class, () -> guard.call(timeoutMillis -> "ok"));
+        assertEquals(1, guard.stats().getOpenRejectedCount());
+    }
+
+    @DisplayName("4xx 응답은 실패로 세지 않음")
+    @Test
+    void ignoresClientErrors() {
+        OutboundGuard guard = guard(1000, 60000);
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(WebClientResponseException.class, () -> guard.call(timeoutMillis -> {
+                throw WebClientResponseException.create(HttpStatus.BAD_REQUEST.value(), "Bad Request", null, null, null);
+            }));
+        }
+
+        assertEquals(OutboundGuard.State.CLOSED, guard.stats().getState());
+    }
+
+    @DisplayName("열린 회로는 openMillis 뒤 시험 호출이 성공하면 닫힘")
+    @Test
+    void closesAfterHalfOpenSuccess() throws InterruptedException {
+        OutboundGuard guard = guard(1000, 50);
+        for (int i = 0; i < 4; i++) {
+            fail(guard);
+        }
+        Thread.sleep(100);
+
+        assertEquals(OutboundGuard.State.HALF_OPEN, guard.stats().getState());
+        guard.call(timeoutMillis -> "ok");
+        guard.call(timeoutMillis -> "ok");
+
+        assertEquals(OutboundGuard.State.CLOSED, guard.stats().getState());
+    }
+
+    @DisplayName("시험 호출이 실패하면 회로가 다시 열림")
+    @Test
+    void reopensAfterHalfOpenFailure() throws InterruptedException {
+        OutboundGuard guard = guard(1000, 50);
+        for (int i = 0; i < 4; i++) {
+            fail(guard);
+        }
+        Thread.sleep(100);
+
+        fail(guard);
+
+        assertEquals(OutboundGuard.State.OPEN, guard.stats().getState());
+    }
+
+    @DisplayName("동시 호출 수를 넘으면 바로 거절")
+    @Test
+    void rejectsWhenBulkheadFull() throws InterruptedException {
+        OutboundGuard guard = guard(1000, 60000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.submit(() -> guard.call(timeoutMillis -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "ok";
+        }));
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+
+        assertThrows(OutboundRejectedException.class, () -> guard.call(timeoutMillis -> "ok"));
+        assertEquals(1, guard.stats().getBulkheadRejectedCount());
+        assertEquals(1, guard.stats().getInFlight());
+
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+        assertEquals(0, guard.stats().getInFlight());
+    }
+
+    @DisplayName("타임아웃은 Deadline의 남은 시간을 넘지 않고, 지난 Deadline은 호출하지 않음")
+    @Test
+    void clipsTimeoutToDeadline() {
+        OutboundGuard guard = guard(1000, 60000);
+
+        Deadline.set(Deadline.after(Duration.ofMillis(200)));
+        assertTrue(guard.call(timeoutMillis -> timeoutMillis) <= 200);
+
+        Deadline.set(Deadline.after(Duration.ZERO));
+        assertThrows(OutboundRejectedException.class, () -> guard.call(timeoutMillis -> timeoutMillis));
+        assertEquals(1, guard.stats().getDeadlineRejectedCount());
+    }
+
+    @DisplayName("Mono가 타임아웃을 넘기면 TimeoutException으로 끝나고 실패로 기록")
+    @Test
+    void monoTimeout() {
+        OutboundGuard guard = guard(50, 60000);
+
+        StepVerifier.create(guard.guard(Mono.never()))
+                .expectError(java.util.concurrent.TimeoutException.class)
+                .verify(Duration.ofSeconds(1));
+
+        assertEquals(1, guard.stats().getTimeoutCount());
+        assertEquals(0, guard.stats().getInFlight());
+    }
+
+    private static OutboundGuard guard(long timeoutMillis, long openMillis) {
+        return OutboundGuard.builder()
+                .name("test")
+                .maxConcurrent(1)
+                .timeoutMillis(timeoutMillis)
+                .windowSize(4)
+                .minCalls(4)
+                .failureRateThreshold(0.5)
+                .openMillis(openMillis)
+                .halfOpenCalls(2)
+                .build();
+    }
+
+    private static void fail(OutboundGuard guard) {
+        assertThrows(IllegalStateException.class, () -> guard.call(timeoutMillis -> {
+            throw new IllegalStateException("down");
+        }));
+    }
+}
@@ -0,0 +1,88 @@
+package com.gloomy.server.application.core.response;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourceVersionsTest {
+    private ResourceVersions resourceVersions;
+
+    @BeforeEach
+    void beforeEach() {
+        resourceVersions = new ResourceVersions();
+    }
+
+    @AfterEach
+    void afterEach() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 변경_없는_자원_ETag_유지_성공() {
+        String etag = resourceVersions.etag(ResourceVersions.FEED, 1L);
+
+        assertEquals(etag, resourceVersions.etag(ResourceVersions.FEED, 1L));
+        assertNotEquals(etag, new ResourceVersions().etag(ResourceVersions.FEED, 1L));
+    }
+
+    @Test
+    void 자원_변경_후_ETag_변경_성공() {
+        String feedETag = resourceVersions.etag(ResourceVersions.FEED, 1L);
+        String feedsETag = resourceVersions.etag(ResourceVersions.FEEDS, ResourceVersions.ALL, ResourceVersions.HIDDEN_FEEDS, 2L);
+
+        resourceVersions.touch(ResourceVersions.FEED, 1L);
+        resourceVersions.touch(ResourceVersions.HIDDEN_FEEDS, 2L);
+
+        assertNotEquals(feedETag, resourceVersions.etag(ResourceVersions.FEED, 1L));
+        assertNotEquals(feedsETag, resourceVersions.etag(ResourceVersions.FEEDS, ResourceVersions.ALL, ResourceVersions.HIDDEN_FEEDS, 2L));
+    }
+
+    @Test
+    void 트랜잭션_종료_후_버전_재변경_성공() {
+        TransactionSynchronizationManager.initSynchronization();
+        resourceVersions.touch(ResourceVersions.COMMENTS, 3L);
+        String etagBeforeCommit = resourceVersions.etag(ResourceVersions.COMMENTS, 3L);
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+
+        assertNotEquals(etagBeforeCommit, resourceVersions.etag(ResourceVersions.COMMENTS, 3L));
+    }
+
+    @Test
+    void 전체_변경_후_ETag_변경_성공() {
+        String noticesETag = resourceVersions.etag(ResourceVersions.NOTICES, 4L);
+
+        resourceVersions.touchAll();
+
+        assertNotEquals(noticesETag, resourceVersions.etag(ResourceVersions.NOTICES, 4L));
+    }
+
+    @Test
+    void 같은_ETag_요청_304_응답_성공() {
+        String etag = resourceVersions.etag(ResourceVersions.NOTICES, 5L);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/notice");
+        request.addHeader("If-None-Match", etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(new ServletWebRequest(request, response).checkNotModified(etag));
+        assertEquals(304, response.getStatus());
+
+        resourceVersions.touch(ResourceVersions.NOTICES, 5L);
+        MockHttpServletResponse changedResponse = new MockHttpServletResponse();
+        String changedETag = resourceVersions.etag(ResourceVersions.NOTICES, 5L);
+
+        assertFalse(new ServletWebRequest(request, changedResponse).checkNotModified(changedETag));
+        assertEquals(changedETag, changedResponse.getHeader("ETag"));
+    }
+}
@@ -0,0 +1,118 @@
+package com.gloomy.server.application.core.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingResponseWriterTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private StreamingResponseWriter streamingResponseWriter;
+    private List<Integer> requestedSizes;
+
+    @BeforeEach
+    void beforeEach() {
+        streamingResponseWriter = new StreamingResponseWriter(objectMapper, Runnable::run, 1000, 100);
+        requestedSizes = new ArrayList<>();
+    }
+
+    @Test
+    void 묶음_단위_스트리밍_응답_성공() throws Exception {
+        StreamingResponseBody body = streamingResponseWriter.writeCursorSlices(this::readNumbers, null, 3, 100);
+
+        JsonNode response = write(body);
+
+        assertEquals(200, response.get("code").asInt());
+        assertEquals("성공", response.get("message").asText());
+        assertEquals(10, response.get("result").get("content").size());
+        assertEquals(9, response.get("result").get("content").get(9).asInt());
+        assertFalse(response.get("result").get("hasNext").asBoolean());
+        assertTrue(response.get("result").get("nextCursor").isNull());
+        assertNotNull(response.get("responseTime"));
+        assertEquals(List.of(3, 3, 3, 3), requestedSizes);
+    }
+
+    @Test
+    void 최대_개수_도달_시_다음_커서_반환_성공() throws Exception {
+        StreamingResponseBody body = streamingResponseWriter.writeCursorSlices(this::readNumbers, null, 3, 5);
+
+        JsonNode response = write(body);
+
+        assertEquals(5, response.get("result").get("content").size());
+        assertTrue(response.get("result").get("hasNext").asBoolean());
+        assertEquals("5", response.get("result").get("nextCursor").asText());
+        assertEquals(List.of(3, 2), requestedSizes);
+    }
+
+    @Test
+    void 최대_개수_설정_초과_요청_제한_성공() throws Exception {
+        StreamingResponseWriter limitedWriter = new StreamingResponseWriter(objectMapper, Runnable::run, 1000, 4);
+        StreamingResponseBody body = limitedWriter.writeCursorSlices(this::readNumbers, null, 3, 100);
+
+        JsonNode response = write(body);
+
+        assertEquals(4, response.get("result").get("content").size());
+        assertTrue(response.get("result").get("hasNext").asBoolean());
+        assertEquals(List.of(3, 1), requestedSizes);
+    }
+
+    @Test
+    void 스트리밍_실행기_대기열_초과_실패() {
+        StreamingResponseWriter rejectingWriter = new StreamingResponseWriter(objectMapper, task -> {
+            throw new TaskRejectedException("full");
+        }, 1000, 100);
+
+        assertThrows(TaskRejectedException.class, () -> rejectingWriter.streamCursorSlices(this::readNumbers, null, 3, 100));
+        assertEquals(List.of(3), requestedSizes);
+    }
+
+    @Test
+    void 스트리밍_조회_개수_실패() {
+        assertEquals(
+                assertThrows(IllegalArgumentException.class, () -> {
+                    streamingResponseWriter.writeCursorSlices(this::readNumbers, null, 0, 10);
+                }).getMessage(),
+                "[StreamingResponseWriter] 조회 개수가 유효하지 않습니다.");
+    }
+
+    @Test
+    void 스트리밍_도중_조회_실패_시_응답_본문을_닫지_않음() {
+        StreamingResponseBody body = streamingResponseWriter.writeCursorSlices((cursor, size) -> {
+            if (cursor != null) {
+                throw new IllegalStateException("db down");
+            }
+            return readNumbers(null, size);
+        }, null, 3, 100);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        assertThrows(IllegalStateException.class, () -> body.writeTo(outputStream));
+        assertTrue(outputStream.toString().contains("[0,1,2"));
+        assertThrows(JsonProcessingException.class, () -> objectMapper.readTree(outputStream.toByteArray()));
+    }
+
+    private CursorSlice<Integer> readNumbers(String cursor, int size) {
+        requestedSizes.add(size);
+        int from = cursor == null ? 0 : Integer.parseInt(cursor);
+        int to = Math.min(from + size, 10);
+        List<Integer> content = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            content.add(i);
+        }
+        return new CursorSlice<>(content, to < 10 ? String.valueOf(to) : null);
+    }
+
+    private JsonNode write(StreamingResponseBody body) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        body.writeTo(outputStream);
+        return objectMapper.readTree(outputStream.toByteArray());
+    }
+}
@@ -0,0 +1,115 @@
+package com.gloomy.server.application.feed;
+
+import com.gloomy.server.application.comment.CommentDTO;
+import com.gloomy.server.application.comment.CommentService;
+import com.gloomy.server.application.feedlike.FeedLikeDTO;
+import com.gloomy.server.application.feedlike.FeedLikeService;
+import com.gloomy.server.domain.feed.Feed;
+import com.gloomy.server.domain.user.User;
+import com.gloomy.server.domain.user.UserService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Transactional
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = {
+        "spring.config.location=classpath:test-application.yml,classpath:aws.yml",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class FeedCardAssemblerTest {
+    @Autowired
+    private FeedCardAssembler feedCardAssembler;
+    @Autowired
+    private FeedService feedService;
+    @Autowired
+    private FeedLikeService feedLikeService;
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private TestFeedDTO testFeedDTO;
+    private Statistics statistics;
+
+    @BeforeEach
+    void beforeEach() {
+        User testUser = userService.createUser(TestUserDTO.makeTestUser());
+        testFeedDTO = new TestFeedDTO(testUser, 1);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void 피드_목록_응답_쿼리_수_일정() {
+        List<Feed> smallPage = createFeedsWithLikeAndComment(2);
+        List<Feed> largePage = createFeedsWithLikeAndComment(10);
+
+        long smallPageQueryCount = countQueries(smallPage);
+        long largePageQueryCount = countQueries(largePage);
+
+        assertEquals(smallPageQueryCount, largePageQueryCount);
+    }
+
+    @Test
+    void 피드_목록_응답_좋아요_댓글_수_성공() {
+        List<Feed> feeds = createFeedsWithLikeAndComment(3);
+
+        List<FeedDTO.Response> responses = feedCardAssembler.makeFeedDTOResponses(feeds);
+
+        assertEquals(feeds.size(), responses.size());
+        for (int i = 0; i < feeds.size(); i++) {
+            assertEquals(feeds.get(i).getId(), responses.get(i).getId());
+            assertEquals(1, responses.get(i).getLikeCount());
+            assertEquals(1, responses.get(i).getCommentCount());
+        }
+    }
+
+    @Test
+    void 피드_ID_목록_카드_조회_엔티티_미사용_성공() {
+        List<Feed> feeds = createFeedsWithLikeAndComment(3);
+        feedService.deleteFeed(feeds.get(1).getId());
+        List<Long> feedIds = List.of(feeds.get(0).getId(), feeds.get(1).getId(), feeds.get(2).getId());
+
+        statistics.clear();
+        Page<FeedDTO.Response> responses = feedCardAssembler.makeActiveFeedPage(new PageImpl<>(feedIds));
+
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(2, responses.getContent().size());
+        assertEquals(feeds.get(0).getId(), responses.getContent().get(0).getId());
+        assertEquals(feeds.get(2).getId(), responses.getContent().get(1).getId());
+        assertEquals(1, responses.getContent().get(0).getLikeCount());
+    }
+
+    private List<Feed> createFeedsWithLikeAndComment(int feedNum) {
+        List<Feed> feeds = new ArrayList<>();
+        for (int i = 0; i < feedNum; i++) {
+            Feed feed = feedService.createFeed(null, testFeedDTO.makeNonUserFeedDTO());
+            feedLikeService.createFeedLike(null, new FeedLikeDTO.Request(feed.getId()));
+            commentService.createComment(null, new CommentDTO.Request("댓글", feed.getId(), "12345"));
+            feeds.add(feed);
+        }
+        return feeds;
+    }
+
+    private long countQueries(List<Feed> feeds) {
+        statistics.clear();
+        feedCardAssembler.makeFeedDTOResponses(feeds);
+        return statistics.getPrepareStatementCount();
+    }
+}
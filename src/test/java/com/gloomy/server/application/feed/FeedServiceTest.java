@@ -1,5 +1,6 @@
 package com.gloomy.server.application.feed;
 
+import com.gloomy.server.application.core.response.CursorSlice;
 import com.gloomy.server.application.feedlike.FeedLikeDTO;
 import com.gloomy.server.application.feedlike.FeedLikeService;
 import com.gloomy.server.application.image.ImageService;
@@ -357,6 +358,65 @@ class FeedServiceTest {
         assertEquals(foundAllFeeds.getContent().get(0).getCategory(), Category.FAMILY);
     }
 
+    @Transactional
+    @Test
+    void 활성_피드_커서_조회_최신순_성공() {
+        FeedDTO.Request nonUserFeedDTO = testFeedDTO.makeNonUserFeedDTO();
+        Feed activeFeedFirst = feedService.createFeed(null, nonUserFeedDTO);
+        Feed activeFeedSecond = feedService.createFeed(null, nonUserFeedDTO);
+        Feed activeFeedThird = feedService.createFeed(null, nonUserFeedDTO);
+        PageRequest pageable = PageRequest.of(0, 2);
+
+        CursorSlice<Feed> firstSlice = feedService.findAllActiveFeeds("", pageable, null, null);
+        CursorSlice<Feed> secondSlice = feedService.findAllActiveFeeds(firstSlice.getNextCursor(), pageable, null, null);
+
+        assertEquals(firstSlice.getContent().size(), 2);
+        assertEquals(firstSlice.getContent().get(0), activeFeedThird);
+        assertEquals(firstSlice.getContent().get(1), activeFeedSecond);
+        assertTrue(firstSlice.isHasNext());
+        assertEquals(secondSlice.getContent().size(), 1);
+        assertEquals(secondSlice.getContent().get(0), activeFeedFirst);
+        assertFalse(secondSlice.isHasNext());
+    }
+
+    @Transactional
+    @Test
+    void 활성_피드_커서_조회_인기순_성공() {
+        FeedDTO.Request nonUserFeedDTO = testFeedDTO.makeNonUserFeedDTO();
+        Feed activeFeedFirst = feedService.createFeed(null, nonUserFeedDTO);
+        Feed activeFeedSecond = feedService.createFeed(null, nonUserFeedDTO);
+        Feed activeFeedThird = feedService.createFeed(null, nonUserFeedDTO);
+        PageRequest pageableWithSortLike = PageRequest.of(0, 1, Sort.by("like"));
+
+        feedLikeService.createFeedLike(null, new FeedLikeDTO.Request(activeFeedFirst.getId()));
+        CursorSlice<Feed> firstSlice = feedService.findAllActiveFeeds(null, pageableWithSortLike, null, null);
+        CursorSlice<Feed> secondSlice = feedService.findAllActiveFeeds(firstSlice.getNextCursor(), pageableWithSortLike, null, null);
+        CursorSlice<Feed> thirdSlice = feedService.findAllActiveFeeds(secondSlice.getNextCursor(), pageableWithSortLike, null, null);
+
+        assertEquals(firstSlice.getContent().get(0), activeFeedFirst);
+        assertEquals(secondSlice.getContent().get(0), activeFeedThird);
+        assertEquals(thirdSlice.getContent().get(0), activeFeedSecond);
+        assertFalse(thirdSlice.isHasNext());
+    }
+
+    @Transactional
+    @Test
+    void 활성_피드_커서_조회_카테고리별_성공() {
+        PageRequest pageable = PageRequest.of(0, 10);
+        createFeed("FRIEND");
+        createFeed("FAMILY");
+
+        CursorSlice<Feed> foundFeeds = feedService.findAllActiveFeeds("", pageable, null, "FAMILY");
+
+        assertEquals(foundFeeds.getContent().size(), 1);
+        assertEquals(foundFeeds.getContent().get(0).getCategory(), Category.FAMILY);
+    }
+
+    @Test
+    void 활성_피드_커서_조회_실패() {
+        checkFoundAllActiveFeedsByCursorFail("INVALID_CURSOR", "[FeedCursor] cursor가 유효하지 않습니다.");
+    }
+
     @Test
     void 활성_피드_전체_조회_공통_실패() {
         Pageable pageableWithSortInvalid = PageRequest.of(0, 10, Sort.by("invalid"));
@@ -515,6 +575,14 @@ class FeedServiceTest {
         }, errorMessage);
     }
 
+    private void checkFoundAllActiveFeedsByCursorFail(String cursor, String errorMessage) {
+        assertEquals(
+                assertThrows(IllegalArgumentException.class, () -> {
+                    feedService.findAllActiveFeeds(cursor, PageRequest.of(0, 10), null, null);
+                }).getMessage(),
+                errorMessage);
+    }
+
     private void checkUpdatedFeedFail(Long feedId, UpdateFeedDTO.Request feedDTO, String errorMessage) {
         assertEquals(
                 assertThrows(IllegalArgumentException.class, () -> {
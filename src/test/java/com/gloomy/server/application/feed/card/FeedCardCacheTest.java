@@ -0,0 +1,112 @@
+package com.gloomy.server.application.feed.card;
+
+import com.gloomy.server.application.feed.FeedDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeedCardCacheTest {
+    private static final long TTL_SECONDS = 300;
+
+    private FeedCardCache feedCardCache;
+
+    @BeforeEach
+    void beforeEach() {
+        feedCardCache = new FeedCardCache(FeedCardCache.weigh(makeCard(1L)) * 2, TTL_SECONDS);
+    }
+
+    @Test
+    void 카드_저장_조회_성공() {
+        FeedDTO.Response card = makeCard(1L);
+
+        assertNull(feedCardCache.get(1L));
+        feedCardCache.put(1L, feedCardCache.version(1L), card);
+
+        assertSame(card, feedCardCache.get(1L));
+        FeedCardCacheStats stats = feedCardCache.stats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(1, stats.getSize());
+    }
+
+    @Test
+    void 무효화_이후_이전_버전_카드_저장_무시_성공() {
+        long version = feedCardCache.version(1L);
+
+        feedCardCache.invalidate(1L);
+        feedCardCache.put(1L, version, makeCard(1L));
+
+        assertNull(feedCardCache.get(1L));
+    }
+
+    @Test
+    void 트랜잭션_종료_후_다시_무효화_성공() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            feedCardCache.invalidate(1L);
+            feedCardCache.put(1L, feedCardCache.version(1L), makeCard(1L));
+            assertNotNull(feedCardCache.get(1L));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertNull(feedCardCache.get(1L));
+    }
+
+    @Test
+    void 자주_조회된_카드_유지_성공() {
+        putCard(1L);
+        putCard(2L);
+        feedCardCache.get(1L);
+        feedCardCache.get(2L);
+
+        putCard(3L);
+
+        assertNull(feedCardCache.get(3L));
+        assertNotNull(feedCardCache.get(1L));
+        assertEquals(1, feedCardCache.stats().getRejectionCount());
+    }
+
+    @Test
+    void 더_자주_조회된_카드로_교체_성공() {
+        putCard(1L);
+        putCard(2L);
+        for (int i = 0; i < 3; i++) {
+            feedCardCache.get(3L);
+        }
+
+        putCard(3L);
+
+        assertNotNull(feedCardCache.get(3L));
+        assertEquals(1, feedCardCache.stats().getEvictionCount());
+        assertTrue(feedCardCache.stats().getWeight() <= feedCardCache.stats().getMaxWeight());
+    }
+
+    private void putCard(Long feedId) {
+        feedCardCache.put(feedId, feedCardCache.version(feedId), makeCard(feedId));
+    }
+
+    private FeedDTO.Response makeCard(Long feedId) {
+        return FeedDTO.Response.builder()
+                .id(feedId)
+                .ip("127.0.0.1")
+                .category("FAMILY")
+                .title("제목")
+                .content("내용")
+                .imageURLs(List.of())
+                .likeCount(0)
+                .commentCount(0)
+                .status("ACTIVE")
+                .createdAt("2021-01-01T00:00")
+                .updatedAt("2021-01-01T00:00")
+                .deletedAt("2021-01-01T00:00")
+                .build();
+    }
+}
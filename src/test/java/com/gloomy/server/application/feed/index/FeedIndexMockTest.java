@@ -0,0 +1,185 @@
+package com.gloomy.server.application.feed.index;
+
+import com.gloomy.server.application.feed.FeedCursor;
+import com.gloomy.server.application.feed.FeedDTO;
+import com.gloomy.server.application.feed.FeedRepository;
+import com.gloomy.server.application.feed.sort.FeedSort;
+import com.gloomy.server.domain.common.entity.Status;
+import com.gloomy.server.domain.feed.Category;
+import com.gloomy.server.domain.feed.Feed;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+
+@ExtendWith(MockitoExtension.class)
+class FeedIndexMockTest {
+    @Mock
+    private FeedRepository feedRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FeedIndex feedIndex;
+
+    @BeforeEach
+    void beforeEach() {
+        feedIndex = new FeedIndex(feedRepository, transactionManager);
+        ReflectionTestUtils.setField(feedIndex, "bootstrapChunkSize", 2);
+        List<FeedIndexRow> rows = List.of(
+                new TestFeedIndexRow(1L, Category.FAMILY, 3),
+                new TestFeedIndexRow(2L, Category.FRIEND, 0),
+                new TestFeedIndexRow(3L, Category.FAMILY, 1),
+                new TestFeedIndexRow(4L, Category.CHAT, 3));
+        doReturn(rows.subList(0, 2)).when(feedRepository).findIndexRowsAfter(eq(Status.active()), eq(0L), any());
+        doReturn(rows.subList(2, 4)).when(feedRepository).findIndexRowsAfter(eq(Status.active()), eq(2L), any());
+        doReturn(List.of()).when(feedRepository).findIndexRowsAfter(eq(Status.active()), eq(4L), any());
+        feedIndex.rebuild();
+    }
+
+    @Test
+    void 인덱스_구축_최신순_조회_성공() {
+        FeedIndexResult result = find(Category.ALL, FeedSort.DATE, 0, 10);
+
+        assertTrue(feedIndex.isReady());
+        assertEquals(List.of(4L, 3L, 2L, 1L), result.getFeedIds());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void 인덱스_인기순_조회_성공() {
+        FeedIndexResult result = find(Category.ALL, FeedSort.LIKE, 0, 10);
+
+        assertEquals(List.of(4L, 1L, 3L, 2L), result.getFeedIds());
+    }
+
+    @Test
+    void 인덱스_카테고리별_조회_성공() {
+        FeedIndexResult result = find(Category.FAMILY, FeedSort.LIKE, 0, 10);
+
+        assertEquals(List.of(1L, 3L), result.getFeedIds());
+    }
+
+    @Test
+    void 인덱스_오프셋_조회_성공() {
+        FeedIndexResult result = find(Category.ALL, FeedSort.DATE, 2, 1);
+
+        assertEquals(List.of(2L), result.getFeedIds());
+        assertNotNull(result.getNextCursor());
+    }
+
+    @Test
+    void 인덱스_커서_조회_성공() {
+        FeedIndexResult firstResult = find(Category.ALL, FeedSort.LIKE, 0, 2);
+        FeedIndexResult secondResult = feedIndex.find(Category.ALL, FeedSort.LIKE, firstResult.getNextCursor(), 0, 2, FeedIndex.noHiddenFeeds());
+
+        assertEquals(List.of(4L, 1L), firstResult.getFeedIds());
+        assertEquals(List.of(3L, 2L), secondResult.getFeedIds());
+        assertNull(secondResult.getNextCursor());
+    }
+
+    @Test
+    void 인덱스_숨김_피드_제외_성공() {
+        long[] hiddenFeedIds = {1L, 4L};
+
+        FeedIndexResult result = feedIndex.find(Category.ALL, FeedSort.DATE, FeedCursor.first(FeedSort.DATE), 1, 10, hiddenFeedIds);
+
+        assertEquals(List.of(2L), result.getFeedIds());
+        assertEquals(2, result.getTotal());
+    }
+
+    @Test
+    void 인덱스_전체_개수_카테고리_내_숨김_피드만_제외_성공() {
+        long[] hiddenFeedIds = {1L, 4L};
+
+        FeedIndexResult result = feedIndex.find(Category.FAMILY, FeedSort.DATE, FeedCursor.first(FeedSort.DATE), 0, 10, hiddenFeedIds);
+
+        assertEquals(List.of(3L), result.getFeedIds());
+        assertEquals(1, result.getTotal());
+    }
+
+    @Test
+    void 인덱스_좋아요_반영_성공() {
+        feedIndex.addLikeCount(2L, 5);
+
+        FeedIndexResult result = find(Category.ALL, FeedSort.LIKE, 0, 10);
+
+        assertEquals(List.of(2L, 4L, 1L, 3L), result.getFeedIds());
+    }
+
+    @Test
+    void 인덱스_피드_추가_삭제_성공() {
+        Feed feed = Feed.of(null, new FeedDTO.Request("12345", "FAMILY", "제목", "내용"));
+        ReflectionTestUtils.setField(feed, "id", 5L);
+
+        feedIndex.put(feed);
+        feedIndex.remove(1L);
+
+        assertEquals(List.of(5L, 3L), find(Category.FAMILY, FeedSort.DATE, 0, 10).getFeedIds());
+    }
+
+    @Test
+    void 인덱스_대량_추가_삭제_성공() {
+        List<Long> expectedFeedIds = new ArrayList<>();
+        for (long feedId = 5L; feedId < 5000L; feedId++) {
+            Feed feed = Feed.of(null, new FeedDTO.Request("12345", "STUDY", "제목", "내용"));
+            ReflectionTestUtils.setField(feed, "id", feedId);
+            feedIndex.put(feed);
+        }
+        for (long feedId = 4999L; feedId >= 5L; feedId--) {
+            if (feedId % 3 == 0) {
+                feedIndex.remove(feedId);
+                continue;
+            }
+            expectedFeedIds.add(feedId);
+        }
+
+        assertEquals(expectedFeedIds, find(Category.STUDY, FeedSort.DATE, 0, 5000).getFeedIds());
+    }
+
+    private FeedIndexResult find(Category category, FeedSort sort, long offset, int size) {
+        return feedIndex.find(category, sort, FeedCursor.first(sort), offset, size, FeedIndex.noHiddenFeeds());
+    }
+
+    private static class TestFeedIndexRow implements FeedIndexRow {
+        private final Long id;
+        private final Category category;
+        private final Integer likeCount;
+
+        TestFeedIndexRow(Long id, Category category, Integer likeCount) {
+            this.id = id;
+            this.category = category;
+            this.likeCount = likeCount;
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Status getStatus() {
+            return Status.active();
+        }
+
+        @Override
+        public Category getCategory() {
+            return category;
+        }
+
+        @Override
+        public Integer getLikeCount() {
+            return likeCount;
+        }
+    }
+}
@@ -99,6 +99,17 @@ class FeedLikeServiceTest {
         assertEquals(feedLikeCount, 2);
     }
 
+    @Test
+    void 피드_좋아요_카운터_증가_성공() {
+        FeedLikeDTO.Request feedLikeDTO = new FeedLikeDTO.Request(testFeed.getId());
+
+        feedLikeService.createFeedLike(null, feedLikeDTO);
+        feedLikeService.createFeedLike(null, feedLikeDTO);
+        Feed foundFeed = feedService.findOneFeed(testFeed.getId());
+
+        assertEquals(foundFeed.getLikeCount(), 2);
+    }
+
     private void checkCreatedFeedLikeFail(Long userId, FeedLikeDTO.Request feedLikeDTO, String errorMessage) {
         assertEquals(
                 assertThrows(IllegalArgumentException.class, () -> {
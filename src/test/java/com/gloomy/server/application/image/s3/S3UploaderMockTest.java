@@ -0,0 +1,133 @@
+package com.gloomy.server.application.image.s3;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.gloomy.server.application.core.resilience.OutboundGuards;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class S3UploaderMockTest {
+    private static final String BUCKET = "bucket";
+
+    @TempDir
+    Path spoolDir;
+
+    private AmazonS3Client amazonS3Client;
+    private OutboundGuards outboundGuards;
+    private S3Uploader s3Uploader;
+
+    @BeforeEach
+    void setUp() throws MalformedURLException {
+        amazonS3Client = mock(AmazonS3Client.class);
+        outboundGuards = new OutboundGuards(new MockEnvironment());
+        s3Uploader = new S3Uploader(amazonS3Client, outboundGuards);
+        ReflectionTestUtils.setField(s3Uploader, "bucket", BUCKET);
+        ReflectionTestUtils.setField(s3Uploader, "spoolDir", spoolDir.toString());
+        ReflectionTestUtils.setField(s3Uploader, "spoolMaxAttempts", 2);
+        ReflectionTestUtils.setField(s3Uploader, "clientExecutionTimeoutMs", 30000L);
+        when(amazonS3Client.getUrl(eq(BUCKET), anyString()))
+                .thenAnswer(invocation -> new URL("https://" + BUCKET + ".s3.amazonaws.com/" + invocation.getArgument(1)));
+    }
+
+    @DisplayName("S3 업로드가 일시적으로 실패하면 대기열에 두고 URL을 돌려줌")
+    @Test
+    void spoolOnRetryableFailure() {
+        when(amazonS3Client.putObject(any(PutObjectRequest.class))).thenThrow(new SdkClientException("timeout"));
+
+        String url = s3Uploader.upload("feed/1", image());
+
+        assertTrue(url.startsWith("https://" + BUCKET + ".s3.amazonaws.com/feed/1/"));
+        File[] spooledFiles = spoolDir.toFile().listFiles();
+        assertEquals(1, spooledFiles.length);
+        assertTrue(spooledFiles[0].getName().startsWith("feed%2F1%2F"));
+    }
+
+    @DisplayName("대기열의 업로드는 S3가 회복되면 다시 올리고 지움")
+    @Test
+    void drainSpool() {
+        when(amazonS3Client.putObject(any(PutObjectRequest.class)))
+                .thenThrow(new SdkClientException("timeout"))
+                .thenReturn(null);
+        String url = s3Uploader.upload("feed/1", image());
+
+        s3Uploader.drainSpool();
+
+        verify(amazonS3Client, times(2)).putObject(argThat((PutObjectRequest request) ->
+                url.endsWith(request.getKey()) && BUCKET.equals(request.getBucketName())));
+        assertEquals(0, spoolDir.toFile().listFiles().length);
+    }
+
+    @DisplayName("다시 시도해도 소용없는 S3 오류는 대기열에 넣지 않음")
+    @Test
+    void throwOnNonRetryableFailure() {
+        AmazonServiceException forbidden = new AmazonServiceException("forbidden");
+        forbidden.setStatusCode(403);
+        forbidden.setErrorType(AmazonServiceException.ErrorType.Client);
+        when(amazonS3Client.putObject(any(PutObjectRequest.class))).thenThrow(forbidden);
+
+        assertThrows(AmazonServiceException.class, () -> s3Uploader.upload("feed/1", image()));
+        assertEquals(0, spoolDir.toFile().listFiles().length);
+    }
+
+    @DisplayName("S3 호출 타임아웃은 SDK 실행 타임아웃을 따름")
+    @Test
+    void guardTimeoutFollowsClientExecutionTimeout() {
+        s3Uploader.upload("feed/1", image());
+
+        verify(amazonS3Client).putObject(argThat((PutObjectRequest request) ->
+                request.getSdkClientExecutionTimeout() == 30000));
+    }
+
+    @DisplayName("여러 번 실패한 대기열 파일은 dead 디렉터리로 옮기고 뒤의 파일은 계속 올림")
+    @Test
+    void deadLetterAfterMaxAttempts() {
+        when(amazonS3Client.putObject(any(PutObjectRequest.class))).thenThrow(new SdkClientException("timeout"));
+        String stuckUrl = s3Uploader.upload("feed/1", image());
+        String nextUrl = s3Uploader.upload("feed/2", image());
+        reset(amazonS3Client);
+        when(amazonS3Client.putObject(argThat((PutObjectRequest request) -> stuckUrl.endsWith(request.getKey()))))
+                .thenThrow(new SdkClientException("timeout"));
+
+        s3Uploader.drainSpool();
+        s3Uploader.drainSpool();
+
+        verify(amazonS3Client, times(1)).putObject(argThat((PutObjectRequest request) -> nextUrl.endsWith(request.getKey())));
+        assertEquals(0, spoolDir.toFile().listFiles(File::isFile).length);
+        assertEquals(1, spoolDir.resolve("dead").toFile().listFiles().length);
+    }
+
+    @DisplayName("대기열 재시도 실패는 요청이 쓰는 S3 회로에 기록하지 않음")
+    @Test
+    void drainFailuresDoNotTouchLiveGuard() {
+        when(amazonS3Client.putObject(any(PutObjectRequest.class))).thenThrow(new SdkClientException("timeout"));
+        s3Uploader.upload("feed/1", image());
+        long liveFailures = outboundGuards.get(OutboundGuards.S3).stats().getFailureCount();
+
+        s3Uploader.drainSpool();
+
+        assertEquals(liveFailures, outboundGuards.get(OutboundGuards.S3).stats().getFailureCount());
+        assertEquals(1, outboundGuards.get(OutboundGuards.S3_SPOOL).stats().getFailureCount());
+    }
+
+    private static MockMultipartFile image() {
+        return new MockMultipartFile("image", "image.jpg", "image/jpeg", new byte[]{1, 2, 3});
+    }
+}
@@ -59,7 +59,7 @@ public class JwtServiceMockTest {
         doReturn(true).when(jwtDeserializer).isValidToken(request.getRefreshToken());
         doReturn(false).when(jwtDeserializer).isExpired(request.getRefreshToken());
         doReturn(userId).when(jwtDeserializer).getUserId(request.getAccessToken());
-        doReturn(user).when(userService).findUser(userId);
+        doReturn(user).when(userService).loadUser(userId);
         doReturn(response.getAccessToken()).when(jwtSerializer).jwtFromUser(user);
         doReturn(response.getRefreshToken()).when(jwtSerializer).createRefreshToken();
 
@@ -105,7 +105,7 @@ public class JwtServiceMockTest {
         doReturn(true).when(jwtDeserializer).isValidToken(request.getRefreshToken());
         doReturn(false).when(jwtDeserializer).isExpired(request.getRefreshToken());
         doReturn(userId).when(jwtDeserializer).getUserId(request.getAccessToken());
-        doReturn(user).when(userService).findUser(userId);
+        doReturn(user).when(userService).loadUser(userId);
 
         IllegalArgumentException e=assertThrows(IllegalArgumentException.class,
                 ()->jwtService.reissue(request));
@@ -2,6 +2,8 @@ package com.gloomy.server.application.logout;
 
 import com.gloomy.server.domain.logout.Logout;
 import com.gloomy.server.domain.logout.LogoutRepository;
+import com.gloomy.server.domain.logout.LogoutService;
+import com.gloomy.server.domain.logout.RevokedTokens;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,7 +13,11 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static java.time.Instant.now;
 
 @ExtendWith(SpringExtension.class)
 @SpringBootTest(properties = {
@@ -22,6 +28,10 @@ public class LogoutServiceTest {
 
     @Autowired
     LogoutRepository logoutRepository;
+    @Autowired
+    LogoutService logoutService;
+    @Autowired
+    RevokedTokens revokedTokens;
 
     private Logout logout;
 
@@ -34,9 +44,42 @@ public class LogoutServiceTest {
     public void getLogoutToken(){
         Logout saveLogout=logoutRepository.save(logout);
 
-        Optional<Logout> findLogout=logoutRepository.findByLogoutToken(logout.getLogoutToken());
+        Optional<Logout> findLogout=logoutRepository.findById(saveLogout.getId());
 
         Assertions.assertEquals(findLogout.get().getLogoutToken(),saveLogout.getLogoutToken());
         Assertions.assertEquals(findLogout.get().getId(),saveLogout.getId());
     }
+
+    @Test
+    public void syncRevokedTokens(){
+        logoutRepository.save(Logout.of(RevokedTokens.hash("revoked_token"), now().getEpochSecond() + 60));
+        logoutRepository.save(Logout.of(RevokedTokens.hash("expired_token"), now().getEpochSecond() - 60));
+
+        logoutService.syncRevokedTokens();
+
+        Assertions.assertTrue(revokedTokens.isRevoked("revoked_token"));
+        Assertions.assertFalse(revokedTokens.isRevoked("expired_token"));
+        Assertions.assertFalse(revokedTokens.isRevoked("log_out_token"));
+    }
+
+    @Test
+    public void deleteExpiredTokens(){
+        Logout activeLogout=logoutRepository.save(Logout.of(RevokedTokens.hash("revoked_token"), now().getEpochSecond() + 60));
+        logoutRepository.save(Logout.of(RevokedTokens.hash("expired_token"), now().getEpochSecond() - 60));
+
+        int deletedCount=logoutService.deleteExpiredTokens();
+
+        Assertions.assertEquals(1,deletedCount);
+        Assertions.assertEquals(List.of(activeLogout.getId()),
+                logoutRepository.findAll().stream().map(Logout::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void hashLegacyTokens(){
+        Logout saveLogout=logoutRepository.save(logout);
+
+        logoutService.hashLegacyTokens();
+
+        Assertions.assertTrue(logoutRepository.findById(saveLogout.getId()).isEmpty());
+    }
 }
@@ -71,6 +71,7 @@ public class NoticeRestControllerTest extends AbstractControllerTest {
         Comment testComment = commentService.createComment(null, testCommentDTO.makeNonUserCommentDTO());
         replyService.createReply(null, new ReplyDTO.Request("대댓글", testComment.getId(), "12345"));
         feedLikeService.createFeedLike(null, new FeedLikeDTO.Request(testFeed.getId()));
+        noticeService.dispatchNoticeEvents(10);
     }
 
     @AfterEach
@@ -105,6 +106,7 @@ public class NoticeRestControllerTest extends AbstractControllerTest {
                                 fieldWithPath("result.content[].likeId").optional().type(JsonFieldType.NUMBER).description("(좋아요 알림일 경우) 댓글 ID"),
                                 fieldWithPath("result.content[].type").type(JsonFieldType.STRING).description("알림 타입 (COMMENT, REPLY, LIKE)"),
                                 fieldWithPath("result.content[].isRead").type(JsonFieldType.BOOLEAN).description("알림 읽음 여부"),
+                                fieldWithPath("result.content[].actorCount").type(JsonFieldType.NUMBER).description("이 알림에 합쳐진 댓글, 대댓글, 좋아요 수"),
                                 fieldWithPath("result.content[].status").type(JsonFieldType.STRING).description("알림 상태 (ACTIVE, INACTIVE)"),
                                 fieldWithPath("result.content[].commentCount").type(JsonFieldType.NUMBER).description("알림 상태 (ACTIVE, INACTIVE)"),
                                 fieldWithPath("result.content[].likeCount").type(JsonFieldType.NUMBER).description("알림 상태 (ACTIVE, INACTIVE)"),
@@ -159,6 +161,7 @@ public class NoticeRestControllerTest extends AbstractControllerTest {
                                 fieldWithPath("result.likeId").optional().type(JsonFieldType.NUMBER).description("(좋아요 알림일 경우) 댓글 ID"),
                                 fieldWithPath("result.type").type(JsonFieldType.STRING).description("알림 타입 (COMMENT, REPLY, LIKE)"),
                                 fieldWithPath("result.isRead").type(JsonFieldType.BOOLEAN).description("알림 읽음 여부"),
+                                fieldWithPath("result.actorCount").type(JsonFieldType.NUMBER).description("이 알림에 합쳐진 댓글, 대댓글, 좋아요 수"),
                                 fieldWithPath("result.status").type(JsonFieldType.STRING).description("알림 상태 (ACTIVE, INACTIVE)"),
                                 fieldWithPath("result.commentCount").type(JsonFieldType.NUMBER).description("알림 상태 (ACTIVE, INACTIVE)"),
                                 fieldWithPath("result.likeCount").type(JsonFieldType.NUMBER).description("알림 상태 (ACTIVE, INACTIVE)"),
@@ -170,4 +173,74 @@ public class NoticeRestControllerTest extends AbstractControllerTest {
                         )
                 ));
     }
+
+    @DisplayName("읽지_않은_알림_수_조회")
+    @Transactional
+    @Test
+    void countUnreadNotices() throws Exception {
+        this.mockMvc.perform(get("/notice/unread-count")
+                        .header("Authorization", "Bearer " + token)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andDo(document.document(
+                        requestHeaders(
+                                headerWithName(HttpHeaders.AUTHORIZATION).description("사용자 토큰")),
+                        responseFields(
+                                fieldWithPath("code").type(JsonFieldType.NUMBER).description("응답 상태 코드"),
+                                fieldWithPath("message").type(JsonFieldType.STRING).description("응답 메시지"),
+                                fieldWithPath("result").description("응답 데이터"),
+                                fieldWithPath("result.unreadCount").type(JsonFieldType.NUMBER).description("읽지 않은 알림 수"),
+                                fieldWithPath("responseTime").type(JsonFieldType.STRING).description("응답 시간")
+                        )
+                ));
+    }
+
+    @DisplayName("알림_전체_읽음_처리")
+    @Transactional
+    @Test
+    void readAllNotices() throws Exception {
+        this.mockMvc.perform(post("/notice/read-all")
+                        .header("Authorization", "Bearer " + token)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andDo(document.document(
+                        requestHeaders(
+                                headerWithName(HttpHeaders.AUTHORIZATION).description("사용자 토큰")),
+                        responseFields(
+                                fieldWithPath("code").type(JsonFieldType.NUMBER).description("응답 상태 코드"),
+                                fieldWithPath("message").type(JsonFieldType.STRING).description("응답 메시지"),
+                                fieldWithPath("result").description("응답 데이터"),
+                                fieldWithPath("result.unreadCount").type(JsonFieldType.NUMBER).description("남은 읽지 않은 알림 수"),
+                                fieldWithPath("responseTime").type(JsonFieldType.STRING).description("응답 시간")
+                        )
+                ));
+    }
+
+    @DisplayName("알림_일괄_읽음_처리")
+    @Transactional
+    @Test
+    void readNoticesUpTo() throws Exception {
+        Notice notice = noticeService.getOneNotice(testUser);
+
+        this.mockMvc.perform(post("/notice/read-up-to/{noticeId}", notice.getId())
+                        .header("Authorization", "Bearer " + token)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andDo(document.document(
+                        requestHeaders(
+                                headerWithName(HttpHeaders.AUTHORIZATION).description("사용자 토큰")),
+                        pathParameters(
+                                parameterWithName("noticeId").description("이 ID 이하의 알림을 모두 읽음 처리")),
+                        responseFields(
+                                fieldWithPath("code").type(JsonFieldType.NUMBER).description("응답 상태 코드"),
+                                fieldWithPath("message").type(JsonFieldType.STRING).description("응답 메시지"),
+                                fieldWithPath("result").description("응답 데이터"),
+                                fieldWithPath("result.unreadCount").type(JsonFieldType.NUMBER).description("남은 읽지 않은 알림 수"),
+                                fieldWithPath("responseTime").type(JsonFieldType.STRING).description("응답 시간")
+                        )
+                ));
+    }
 }
@@ -0,0 +1,129 @@
+package com.gloomy.server.application.notice;
+
+import com.gloomy.server.application.comment.CommentDTO;
+import com.gloomy.server.application.comment.CommentService;
+import com.gloomy.server.application.feed.FeedService;
+import com.gloomy.server.application.feed.TestFeedDTO;
+import com.gloomy.server.application.feed.TestUserDTO;
+import com.gloomy.server.application.feedlike.FeedLikeDTO;
+import com.gloomy.server.application.feedlike.FeedLikeService;
+import com.gloomy.server.domain.comment.Comment;
+import com.gloomy.server.domain.feed.Feed;
+import com.gloomy.server.domain.feedlike.FeedLike;
+import com.gloomy.server.domain.user.User;
+import com.gloomy.server.domain.user.UserService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Transactional
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = {
+        "spring.config.location=classpath:test-application.yml,classpath:aws.yml",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class NoticeRowQueryTest {
+    private static final int MAX_NOTICE_PAGE_QUERY_COUNT = 3;
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private FeedService feedService;
+    @Autowired
+    private FeedLikeService feedLikeService;
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private NoticeService noticeService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void beforeEach() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void 알림_목록_응답_쿼리_수_일정() {
+        User smallPageUser = createUserWithNotices(2);
+        User largePageUser = createUserWithNotices(10);
+
+        long smallPageQueryCount = countQueries(smallPageUser);
+        long largePageQueryCount = countQueries(largePageUser);
+
+        assertEquals(smallPageQueryCount, largePageQueryCount);
+        assertTrue(largePageQueryCount <= MAX_NOTICE_PAGE_QUERY_COUNT);
+    }
+
+    @Test
+    void 알림_목록_응답_피드_제목_좋아요_댓글_수_성공() {
+        User user = createUserWithNotices(3);
+        entityManager.clear();
+
+        statistics.clear();
+        List<NoticeDTO.Response> responses = makeResponses(user);
+
+        assertEquals(0, loadCountOf(Feed.class));
+        assertEquals(0, loadCountOf(Comment.class));
+        assertEquals(0, loadCountOf(FeedLike.class));
+        assertEquals(6, responses.size());
+        for (NoticeDTO.Response response : responses) {
+            assertEquals(user.getId(), response.getUserId());
+            assertEquals("글 제목", response.getTitle());
+            assertEquals(1, response.getLikeCount());
+            assertEquals(1, response.getCommentCount());
+        }
+    }
+
+    private User createUserWithNotices(int feedNum) {
+        User user = userService.createUser(TestUserDTO.makeTestUser());
+        TestFeedDTO testFeedDTO = new TestFeedDTO(user, 0);
+        for (int i = 0; i < feedNum; i++) {
+            Feed feed = feedService.createFeed(user.getId(), testFeedDTO.makeUserFeedDTO());
+            commentService.createComment(null, new CommentDTO.Request("댓글", feed.getId(), "12345"));
+            feedLikeService.createFeedLike(null, new FeedLikeDTO.Request(feed.getId()));
+        }
+        noticeService.dispatchNoticeEvents(100);
+        return user;
+    }
+
+    private long countQueries(User user) {
+        entityManager.clear();
+        statistics.clear();
+        makeResponses(user);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<NoticeDTO.Response> makeResponses(User user) {
+        Page<NoticeRow> rows = noticeService.getAllNoticeRows(PageRequest.of(0, 20), user.getId());
+        List<NoticeDTO.Response> responses = new ArrayList<>();
+        for (NoticeRow row : rows.getContent()) {
+            responses.add(NoticeDTO.Response.of(row));
+        }
+        return responses;
+    }
+
+    private long loadCountOf(Class<?> entityClass) {
+        return statistics.getEntityStatistics(entityClass.getName()).getLoadCount();
+    }
+}
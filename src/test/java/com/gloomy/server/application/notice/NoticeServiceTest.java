@@ -81,7 +81,7 @@ class NoticeServiceTest {
     @Test
     void 댓글_알림_생성_성공() {
         Notice notice = Notice.of(testNotice.feed, testNotice.comment, Type.COMMENT);
-        Notice createdNotice = noticeService.createNotice(testNotice.feed, testNotice.comment, Type.COMMENT);
+        Notice createdNotice = createNotice(testNotice.feed, testNotice.comment, Type.COMMENT);
 
         checkCreatedNoticeSuccess(createdNotice, notice);
     }
@@ -98,7 +98,7 @@ class NoticeServiceTest {
     @Test
     void 대댓글_알림_생성_성공() {
         Notice notice = Notice.of(testNotice.feed, testNotice.reply, Type.REPLY);
-        Notice createdNotice = noticeService.createNotice(testNotice.feed, testNotice.reply, Type.REPLY);
+        Notice createdNotice = createNotice(testNotice.feed, testNotice.reply, Type.REPLY);
 
         checkCreatedNoticeSuccess(createdNotice, notice);
     }
@@ -115,7 +115,7 @@ class NoticeServiceTest {
     @Test
     void 좋아요_알림_생성_성공() {
         Notice notice = Notice.of(testNotice.feed, testNotice.feedLike, Type.LIKE);
-        Notice createdNotice = noticeService.createNotice(testNotice.feed, testNotice.feedLike, Type.LIKE);
+        Notice createdNotice = createNotice(testNotice.feed, testNotice.feedLike, Type.LIKE);
 
         checkCreatedNoticeSuccess(createdNotice, notice);
     }
@@ -144,6 +144,7 @@ class NoticeServiceTest {
         TestCommentDTO testCommentDTO = new TestCommentDTO(testNotice.feed.getId(), null);
 
         Comment createdComment = commentService.createComment(null, testCommentDTO.makeNonUserCommentDTO());
+        noticeService.dispatchNoticeEvents(10);
         Notice commentNotice = noticeService.findOneNotice(createdComment);
         Integer noticeSize = noticeService.countAllNotices(testNotice.feed.getUserId().getId());
 
@@ -157,6 +158,7 @@ class NoticeServiceTest {
         ReplyDTO.Request replyDTO = new ReplyDTO.Request("대댓글", testNotice.comment.getId(), "12345");
 
         Reply createdReply = replyService.createReply(null, replyDTO);
+        noticeService.dispatchNoticeEvents(10);
         Notice replyNotice = noticeService.findOneNotice(createdReply);
         Integer noticeSize = noticeService.countAllNotices(testNotice.feed.getUserId().getId());
 
@@ -170,6 +172,7 @@ class NoticeServiceTest {
         FeedLikeDTO.Request feedLikeDTO = new FeedLikeDTO.Request(testNotice.feed.getId());
 
         FeedLike createdFeedLike = feedLikeService.createFeedLike(null, feedLikeDTO);
+        noticeService.dispatchNoticeEvents(10);
         Notice feedLikeNotice = noticeService.findOneNotice(createdFeedLike);
         Integer noticeSize = noticeService.countAllNotices(testNotice.feed.getUserId().getId());
 
@@ -177,14 +180,71 @@ class NoticeServiceTest {
         assertEquals(noticeSize, 1);
     }
 
+    @Transactional
+    @Test
+    void 같은_피드_알림_합치기_성공() {
+        TestCommentDTO testCommentDTO = new TestCommentDTO(testNotice.feed.getId(), null);
+        Long userId = testNotice.feed.getUserId().getId();
+
+        commentService.createComment(null, testCommentDTO.makeNonUserCommentDTO());
+        Comment secondComment = commentService.createComment(null, testCommentDTO.makeNonUserCommentDTO());
+        noticeService.dispatchNoticeEvents(10);
+        Notice previousNotice = noticeService.findOneNotice(secondComment);
+        Long previousNoticeId = previousNotice.getId();
+        Long previousSequence = previousNotice.getSequence();
+        Comment latestComment = commentService.createComment(null, testCommentDTO.makeNonUserCommentDTO());
+        noticeService.dispatchNoticeEvents(10);
+        Notice commentNotice = noticeService.findOneNotice(latestComment);
+
+        assertEquals(commentNotice.getActorCount(), 3);
+        assertEquals(commentNotice.getId(), previousNoticeId);
+        assertTrue(commentNotice.getSequence() > previousSequence);
+        assertEquals(noticeService.countAllNotices(userId), 1);
+        assertEquals(noticeService.countUnreadNotices(userId), 1);
+    }
+
+    @Transactional
+    @Test
+    void 읽은_알림_합치지_않음_성공() {
+        TestCommentDTO testCommentDTO = new TestCommentDTO(testNotice.feed.getId(), null);
+        Long userId = testNotice.feed.getUserId().getId();
+
+        Comment firstComment = commentService.createComment(null, testCommentDTO.makeNonUserCommentDTO());
+        noticeService.dispatchNoticeEvents(10);
+        noticeService.readNotice(noticeService.findOneNotice(firstComment).getId());
+        Comment secondComment = commentService.createComment(null, testCommentDTO.makeNonUserCommentDTO());
+        noticeService.dispatchNoticeEvents(10);
+
+        assertEquals(noticeService.findOneNotice(secondComment).getActorCount(), 1);
+        assertEquals(noticeService.countAllNotices(userId), 2);
+        assertEquals(noticeService.countUnreadNotices(userId), 1);
+    }
+
+    @Transactional
+    @Test
+    void 알림_사건_중복_처리_성공() {
+        noticeService.publishNotice(testNotice.feed, testNotice.comment, Type.COMMENT);
+        noticeService.publishNotice(testNotice.feed, testNotice.comment, Type.COMMENT);
+
+        int firstDispatchedCount = noticeService.dispatchNoticeEvents(10);
+        noticeService.publishNotice(testNotice.feed, testNotice.comment, Type.COMMENT);
+        int secondDispatchedCount = noticeService.dispatchNoticeEvents(10);
+        Integer noticeSize = noticeService.countAllNotices(testNotice.feed.getUserId().getId());
+
+        assertEquals(firstDispatchedCount, 2);
+        assertEquals(secondDispatchedCount, 1);
+        assertEquals(noticeSize, 1);
+        assertNull(noticeService.findOldestNoticeEventCreatedAt());
+    }
+
     @Transactional
     @Test
     void 회원_알림_조회_성공() {
         Pageable pageable = PageRequest.of(0, 10);
 
-        Notice commentNotice = noticeService.createNotice(testNotice.feed, testNotice.comment, Type.COMMENT);
-        Notice replyNotice = noticeService.createNotice(testNotice.feed, testNotice.reply, Type.REPLY);
-        Notice feedLikeNotice = noticeService.createNotice(testNotice.feed, testNotice.feedLike, Type.LIKE);
+        Notice commentNotice = createNotice(testNotice.feed, testNotice.comment, Type.COMMENT);
+        Notice replyNotice = createNotice(testNotice.feed, testNotice.reply, Type.REPLY);
+        Notice feedLikeNotice = createNotice(testNotice.feed, testNotice.feedLike, Type.LIKE);
         Page<Notice> allNotices = noticeService.getAllNotices(pageable, testNotice.feed.getUserId().getId());
 
         assertEquals(allNotices.getContent().size(), 3);
@@ -206,7 +266,7 @@ class NoticeServiceTest {
     @Transactional
     @Test
     void 알림_읽음_처리_성공() {
-        Notice createdNotice = noticeService.createNotice(testNotice.feed, testNotice.reply, Type.REPLY);
+        Notice createdNotice = createNotice(testNotice.feed, testNotice.reply, Type.REPLY);
 
         Notice readNotice = noticeService.readNotice(createdNotice.getId());
 
@@ -220,6 +280,75 @@ class NoticeServiceTest {
         checkReadNoticeFail(0L, "[NoticeService] userId가 유효하지 않습니다.");
     }
 
+    @Transactional
+    @Test
+    void 읽지_않은_알림_수_조회_성공() {
+        Long userId = testNotice.feed.getUserId().getId();
+        Notice commentNotice = createNotice(testNotice.feed, testNotice.comment, Type.COMMENT);
+        createNotice(testNotice.feed, testNotice.reply, Type.REPLY);
+        createNotice(testNotice.feed, testNotice.feedLike, Type.LIKE);
+
+        noticeService.readNotice(commentNotice.getId());
+        noticeService.readNotice(commentNotice.getId());
+        int unreadCount = noticeService.countUnreadNotices(userId);
+
+        assertEquals(unreadCount, 2);
+    }
+
+    @Transactional
+    @Test
+    void 알림_일괄_읽음_처리_성공() {
+        Long userId = testNotice.feed.getUserId().getId();
+        createNotice(testNotice.feed, testNotice.comment, Type.COMMENT);
+        Notice replyNotice = createNotice(testNotice.feed, testNotice.reply, Type.REPLY);
+        createNotice(testNotice.feed, testNotice.feedLike, Type.LIKE);
+
+        int unreadCountAfterReadUpTo = noticeService.readAllNotices(userId, replyNotice.getId());
+        int unreadCountAfterReadAll = noticeService.readAllNotices(userId, null);
+
+        assertEquals(unreadCountAfterReadUpTo, 1);
+        assertEquals(unreadCountAfterReadAll, 0);
+        assertEquals(noticeService.countUnreadNotices(userId), 0);
+    }
+
+    @Transactional
+    @Test
+    void 알림_일괄_읽음_처리_실패() {
+        checkReadAllNoticesFail(null, null, "[NoticeService] userId가 유효하지 않습니다.");
+        checkReadAllNoticesFail(0L, null, "[NoticeService] userId가 유효하지 않습니다.");
+        checkReadAllNoticesFail(testNotice.feed.getUserId().getId(), 0L, "[NoticeService] 알림 ID가 유효하지 않습니다.");
+    }
+
+    @Transactional
+    @Test
+    void 오래된_알림_삭제_성공() {
+        Long userId = testNotice.feed.getUserId().getId();
+        createNotice(testNotice.feed, testNotice.comment, Type.COMMENT);
+        Notice replyNotice = createNotice(testNotice.feed, testNotice.reply, Type.REPLY);
+        createNotice(testNotice.feed, testNotice.feedLike, Type.LIKE);
+        noticeService.readNotice(replyNotice.getId());
+
+        Long lastOverflowNoticeId = noticeService.findLastOverflowNoticeId(userId, 1);
+        int deletedCount = noticeService.deleteNotices(noticeService.findUserNoticeIdsUpTo(userId, lastOverflowNoticeId, 10));
+
+        assertEquals(lastOverflowNoticeId, replyNotice.getId());
+        assertEquals(deletedCount, 2);
+        assertEquals(noticeService.countAllNotices(userId), 1);
+        assertEquals(noticeService.countUnreadNotices(userId), 1);
+    }
+
+    private Notice createNotice(Feed feed, BaseEntity entity, Type entityType) {
+        noticeService.publishNotice(feed, entity, entityType);
+        noticeService.dispatchNoticeEvents(10);
+        if (entityType == Type.COMMENT) {
+            return noticeService.findOneNotice((Comment) entity);
+        }
+        if (entityType == Type.REPLY) {
+            return noticeService.findOneNotice((Reply) entity);
+        }
+        return noticeService.findOneNotice((FeedLike) entity);
+    }
+
     private void checkCreatedNoticeSuccess(Notice expectedNotice, Notice actualNotice) {
         assertEquals(expectedNotice.getFeedId(), actualNotice.getFeedId());
         assertEquals(expectedNotice.getCommentId(), actualNotice.getCommentId());
@@ -232,7 +361,7 @@ class NoticeServiceTest {
     private void checkCreatedNoticeFail(Feed feed, BaseEntity entity, Type entityType, String errorMessage) {
         assertEquals(
                 assertThrows(IllegalArgumentException.class, () -> {
-                    noticeService.createNotice(feed, entity, entityType);
+                    createNotice(feed, entity, entityType);
                 }).getMessage(),
                 errorMessage);
     }
@@ -245,6 +374,14 @@ class NoticeServiceTest {
                 errorMessage);
     }
 
+    private void checkReadAllNoticesFail(Long userId, Long noticeId, String errorMessage) {
+        assertEquals(
+                assertThrows(IllegalArgumentException.class, () -> {
+                    noticeService.readAllNotices(userId, noticeId);
+                }).getMessage(),
+                errorMessage);
+    }
+
     private void checkGetAllNoticesFail(Pageable pageable, Long userId, String errorMessage) {
         assertEquals(
                 assertThrows(IllegalArgumentException.class, () -> {
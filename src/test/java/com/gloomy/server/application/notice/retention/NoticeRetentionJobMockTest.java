@@ -0,0 +1,129 @@
+package com.gloomy.server.application.notice.retention;
+
+import com.gloomy.server.application.notice.NoticeService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NoticeRetentionJobMockTest {
+    @Mock
+    private NoticeService noticeService;
+
+    @Test
+    void 보관_기간_지난_알림_묶음_삭제_성공() {
+        NoticeRetentionJob noticeRetentionJob = new NoticeRetentionJob(noticeService, 90, 0, 2, 0, 10);
+        doReturn(List.of(1L, 2L)).when(noticeService).findExpiredNoticeIds(any(LocalDateTime.class), eq(0L), eq(2));
+        doReturn(List.of(3L)).when(noticeService).findExpiredNoticeIds(any(LocalDateTime.class), eq(2L), eq(2));
+        doReturn(List.of()).when(noticeService).findExpiredNoticeIds(any(LocalDateTime.class), eq(3L), eq(2));
+        doReturn(2).when(noticeService).deleteNotices(List.of(1L, 2L));
+        doReturn(1).when(noticeService).deleteNotices(List.of(3L));
+
+        noticeRetentionJob.run();
+        NoticeRetentionStats stats = noticeRetentionJob.stats();
+
+        assertEquals(3, stats.getDeletedCount());
+        assertEquals(2, stats.getChunkCount());
+        assertEquals(3, stats.getLastRunDeletedCount());
+        assertEquals(3L, stats.getLastDeletedId());
+        assertFalse(stats.isRunning());
+        verify(noticeService, never()).findUserIdsOverNoticeLimit(2, 2);
+    }
+
+    @Test
+    void 회원별_보관_개수_초과_알림_삭제_성공() {
+        NoticeRetentionJob noticeRetentionJob = new NoticeRetentionJob(noticeService, 0, 2, 10, 0, 10);
+        doReturn(List.of(7L)).when(noticeService).findUserIdsOverNoticeLimit(2, 10);
+        doReturn(5L).when(noticeService).findLastOverflowNoticeId(7L, 2);
+        doReturn(List.of(1L, 3L, 5L), List.of()).when(noticeService).findUserNoticeIdsUpTo(7L, 5L, 10);
+        doReturn(3).when(noticeService).deleteNotices(List.of(1L, 3L, 5L));
+
+        noticeRetentionJob.run();
+        NoticeRetentionStats stats = noticeRetentionJob.stats();
+
+        assertEquals(3, stats.getDeletedCount());
+        assertEquals(1, stats.getChunkCount());
+        verify(noticeService, never()).findExpiredNoticeIds(any(LocalDateTime.class), any(), eq(10));
+    }
+
+    @Test
+    void 보관_개수_초과_회원_집계는_실행마다_한번_성공() {
+        NoticeRetentionJob noticeRetentionJob = new NoticeRetentionJob(noticeService, 0, 2, 10, 0, 10);
+        doReturn(List.of(7L, 8L)).when(noticeService).findUserIdsOverNoticeLimit(2, 10);
+        doReturn(5L).when(noticeService).findLastOverflowNoticeId(7L, 2);
+        doReturn(6L).when(noticeService).findLastOverflowNoticeId(8L, 2);
+        doReturn(List.of(1L, 5L), List.of()).when(noticeService).findUserNoticeIdsUpTo(7L, 5L, 10);
+        doReturn(List.of(6L), List.of()).when(noticeService).findUserNoticeIdsUpTo(8L, 6L, 10);
+        doReturn(2).when(noticeService).deleteNotices(List.of(1L, 5L));
+        doReturn(1).when(noticeService).deleteNotices(List.of(6L));
+
+        noticeRetentionJob.run();
+
+        assertEquals(3, noticeRetentionJob.stats().getDeletedCount());
+        verify(noticeService, times(1)).findUserIdsOverNoticeLimit(2, 10);
+    }
+
+    @Test
+    void 한번_실행_묶음_수_제한_성공() {
+        NoticeRetentionJob noticeRetentionJob = new NoticeRetentionJob(noticeService, 90, 2, 2, 0, 1);
+        doReturn(List.of(1L, 2L)).when(noticeService).findExpiredNoticeIds(any(LocalDateTime.class), eq(0L), eq(2));
+        doReturn(2).when(noticeService).deleteNotices(List.of(1L, 2L));
+
+        noticeRetentionJob.run();
+
+        assertEquals(1, noticeRetentionJob.stats().getChunkCount());
+        verify(noticeService, never()).findExpiredNoticeIds(any(LocalDateTime.class), eq(2L), eq(2));
+        verify(noticeService, never()).findUserIdsOverNoticeLimit(2, 2);
+    }
+
+    @Test
+    void 알림_삭제_실패시_다음_실행_가능() {
+        NoticeRetentionJob noticeRetentionJob = new NoticeRetentionJob(noticeService, 90, 0, 2, 0, 10);
+        doReturn(List.of(1L, 2L)).when(noticeService).findExpiredNoticeIds(any(LocalDateTime.class), eq(0L), eq(2));
+        doThrow(new IllegalStateException("lock wait timeout")).when(noticeService).deleteNotices(anyList());
+
+        noticeRetentionJob.run();
+        NoticeRetentionStats stats = noticeRetentionJob.stats();
+
+        assertEquals(1, stats.getFailureCount());
+        assertEquals(1, stats.getRunCount());
+        assertEquals(0, stats.getDeletedCount());
+        assertFalse(stats.isRunning());
+    }
+
+    @Test
+    void 보관_정리는_전용_스레드에서_실행_성공() throws InterruptedException {
+        NoticeRetentionJob noticeRetentionJob = new NoticeRetentionJob(noticeService, 90, 0, 2, 0, 10);
+        AtomicReference<String> threadName = new AtomicReference<>();
+        CountDownLatch finished = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            threadName.set(Thread.currentThread().getName());
+            finished.countDown();
+            return List.of();
+        }).when(noticeService).findExpiredNoticeIds(any(LocalDateTime.class), eq(0L), eq(2));
+
+        noticeRetentionJob.schedule();
+
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertTrue(threadName.get().startsWith("notice-retention-"));
+        noticeRetentionJob.stop();
+    }
+}
@@ -0,0 +1,153 @@
+package com.gloomy.server.application.notice.stream;
+
+import com.gloomy.server.application.notice.NoticeDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NoticeStreamHubTest {
+    private static final Executor DIRECT_SENDER = Runnable::run;
+    private static final Executor STALLED_SENDER = runnable -> {
+    };
+
+    @Test
+    void 회원_연결에만_알림_전달_성공() {
+        NoticeStreamHub noticeStreamHub = new NoticeStreamHub(4, 60000, DIRECT_SENDER);
+
+        noticeStreamHub.subscribe(1L, () -> List.of(makeNotice(1L)));
+        noticeStreamHub.subscribe(1L, List::of);
+        noticeStreamHub.publish(1L, makeNotice(2L));
+        noticeStreamHub.publish(2L, makeNotice(3L));
+        NoticeStreamStats stats = noticeStreamHub.stats();
+
+        assertEquals(2, stats.getConnectionCount());
+        assertEquals(1, stats.getPublishedCount());
+        assertEquals(0, stats.getDroppedCount());
+        assertEquals(3, noticeStreamHub.getReplayLimit());
+    }
+
+    @Test
+    void 버퍼_가득_찬_느린_연결_끊기_성공() {
+        NoticeStreamHub noticeStreamHub = new NoticeStreamHub(3, 60000, STALLED_SENDER);
+
+        noticeStreamHub.subscribe(1L, List::of);
+        noticeStreamHub.publish(1L, makeNotice(1L));
+        noticeStreamHub.publish(1L, makeNotice(2L));
+        noticeStreamHub.publish(1L, makeNotice(3L));
+        noticeStreamHub.publish(1L, makeNotice(4L));
+        NoticeStreamStats stats = noticeStreamHub.stats();
+
+        assertEquals(0, stats.getConnectionCount());
+        assertEquals(3, stats.getPublishedCount());
+        assertEquals(1, stats.getDroppedCount());
+    }
+
+    @Test
+    void 하트비트_사이_버퍼를_비우지_못한_연결_끊기_성공() {
+        NoticeStreamHub noticeStreamHub = new NoticeStreamHub(8, 60000, STALLED_SENDER);
+        noticeStreamHub.subscribe(1L, List::of);
+
+        noticeStreamHub.heartbeat();
+        int connectionCountAfterFirstHeartbeat = noticeStreamHub.stats().getConnectionCount();
+        noticeStreamHub.heartbeat();
+
+        assertEquals(1, connectionCountAfterFirstHeartbeat);
+        assertEquals(0, noticeStreamHub.stats().getConnectionCount());
+        assertEquals(1, noticeStreamHub.stats().getDroppedCount());
+    }
+
+    @Test
+    void 하트비트_정상_연결_유지_성공() {
+        NoticeStreamHub noticeStreamHub = new NoticeStreamHub(8, 60000, DIRECT_SENDER);
+        noticeStreamHub.subscribe(1L, List::of);
+
+        noticeStreamHub.heartbeat();
+        noticeStreamHub.heartbeat();
+
+        assertEquals(1, noticeStreamHub.stats().getConnectionCount());
+        assertEquals(0, noticeStreamHub.stats().getDroppedCount());
+    }
+
+    @Test
+    void 느린_연결_끊을_때_complete는_sender에서_호출_성공() throws IOException {
+        List<Runnable> tasks = new ArrayList<>();
+        NoticeStreamHub noticeStreamHub = new NoticeStreamHub(2, 60000, tasks::add);
+        SseEmitter emitter = noticeStreamHub.subscribe(1L, List::of);
+
+        noticeStreamHub.publish(1L, makeNotice(1L));
+        noticeStreamHub.publish(1L, makeNotice(2L));
+        emitter.send(SseEmitter.event().comment("still open"));
+        runAll(tasks);
+
+        assertEquals(0, noticeStreamHub.stats().getConnectionCount());
+        assertEquals(1, noticeStreamHub.stats().getDroppedCount());
+        assertThrows(IllegalStateException.class, () -> emitter.send(SseEmitter.event().comment("completed")));
+    }
+
+    @Test
+    void 하트비트_사이_조금씩이라도_보낸_연결_유지_성공() {
+        List<Runnable> tasks = new ArrayList<>();
+        NoticeStreamHub noticeStreamHub = new NoticeStreamHub(8, 60000, tasks::add);
+        noticeStreamHub.subscribe(1L, List::of);
+
+        noticeStreamHub.heartbeat();
+        runAll(tasks);
+        noticeStreamHub.publish(1L, makeNotice(1L));
+        noticeStreamHub.heartbeat();
+
+        assertEquals(1, noticeStreamHub.stats().getConnectionCount());
+        assertEquals(0, noticeStreamHub.stats().getDroppedCount());
+    }
+
+    @Test
+    void 로그인하지_않은_연결_실패() {
+        NoticeStreamHub noticeStreamHub = new NoticeStreamHub(4, 60000, DIRECT_SENDER);
+
+        assertEquals(
+                assertThrows(IllegalArgumentException.class, () -> {
+                    noticeStreamHub.subscribe(null, List::of);
+                }).getMessage(),
+                "[NoticeStreamHub] userId가 유효하지 않습니다.");
+        assertEquals(0, noticeStreamHub.stats().getConnectionCount());
+    }
+
+    @Test
+    void 놓친_알림_조회_중_만든_알림_한번만_전달_성공() {
+        NoticeStreamHub noticeStreamHub = new NoticeStreamHub(4, 60000, STALLED_SENDER);
+
+        noticeStreamHub.subscribe(1L, () -> {
+            noticeStreamHub.publish(1L, makeNotice(2L));
+            noticeStreamHub.publish(1L, makeNotice(3L));
+            return List.of(makeNotice(1L), makeNotice(2L));
+        });
+        long droppedCountAfterSubscribe = noticeStreamHub.stats().getDroppedCount();
+        noticeStreamHub.publish(1L, makeNotice(4L));
+
+        assertEquals(0, droppedCountAfterSubscribe);
+        assertEquals(1, noticeStreamHub.stats().getDroppedCount());
+    }
+
+    private void runAll(List<Runnable> tasks) {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    private NoticeDTO.Response makeNotice(Long noticeId) {
+        return NoticeDTO.Response.builder()
+                .id(noticeId)
+                .userId(1L)
+                .feedId(1L)
+                .type("LIKE")
+                .isRead(false)
+                .actorCount(1)
+                .sequence(noticeId)
+                .build();
+    }
+}
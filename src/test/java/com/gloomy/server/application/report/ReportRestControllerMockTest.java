@@ -2,8 +2,11 @@ package com.gloomy.server.application.report;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gloomy.server.application.jwt.JwtService;
+import com.gloomy.server.application.security.CurrentUserIdArgumentResolver;
 import com.gloomy.server.domain.report.ReportService;
 import com.gloomy.server.domain.user.UserService;
+import com.gloomy.server.infrastructure.jwt.UserJWTPayload;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,13 +15,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
-import static org.mockito.Mockito.doReturn;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,16 +52,22 @@ public class ReportRestControllerMockTest {
 
     @BeforeEach
     public void setUp(){
-        mockMvc= MockMvcBuilders.standaloneSetup(reportController).build();
+        mockMvc= MockMvcBuilders.standaloneSetup(reportController)
+                .setCustomArgumentResolvers(new CurrentUserIdArgumentResolver()).build();
         request= ReportDTO.Request.of(feedId,"ADVERTISEMENT");
         objectMapper=new ObjectMapper();
     }
 
+    @AfterEach
+    public void tearDown(){
+        SecurityContextHolder.clearContext();
+    }
+
     @DisplayName("피드 신고하기 mock test")
     @Test
     public void reportFeed() throws Exception {
         // given
-        doReturn(userId).when(jwtService).getMyInfo();
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(new UserJWTPayload(userId, Long.MAX_VALUE), null));
 
         // when
         final ResultActions resultActions=mockMvc
@@ -65,6 +78,7 @@ public class ReportRestControllerMockTest {
 
         // then
         final MvcResult mvcResult=resultActions.andExpect(status().isOk()).andReturn();
+        verify(reportService).saveReport(any(), eq(userId));
 
     }
 }
\ No newline at end of file
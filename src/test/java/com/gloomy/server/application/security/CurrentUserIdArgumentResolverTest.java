@@ -0,0 +1,36 @@
+package com.gloomy.server.application.security;
+
+import com.gloomy.server.infrastructure.jwt.UserJWTPayload;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CurrentUserIdArgumentResolverTest {
+
+    @AfterEach
+    void afterEach() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 인증된_회원_ID_조회_성공() {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(new UserJWTPayload(10L, Long.MAX_VALUE), "token"));
+
+        assertEquals(10L, CurrentUserIdArgumentResolver.currentUserId());
+    }
+
+    @Test
+    void 비회원_ID_조회_성공() {
+        assertNull(CurrentUserIdArgumentResolver.currentUserId());
+
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken("key", "anonymousUser",
+                AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+
+        assertNull(CurrentUserIdArgumentResolver.currentUserId());
+    }
+}
@@ -6,12 +6,16 @@ import com.gloomy.server.domain.user.User;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 
 public class TestUserDTO {
 
     public static class TestUser{
+        private static final AtomicInteger sequence = new AtomicInteger();
+
         public static User makeTestUser(){
-            return User.of("test@email.com", "testName", Type.KAKAO,"kakaoToken","refreshToken");
+            return User.of("test@email.com", "testName" + sequence.incrementAndGet(), Type.KAKAO,"kakaoToken","refreshToken");
         }
     }
 
@@ -2,10 +2,13 @@ package com.gloomy.server.application.user;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gloomy.server.application.jwt.JwtService;
+import com.gloomy.server.application.security.CurrentUserIdArgumentResolver;
 import com.gloomy.server.domain.jwt.JWTSerializer;
 import com.gloomy.server.domain.user.User;
 import com.gloomy.server.domain.user.UserService;
 import com.gloomy.server.domain.user.login.LoginService;
+import com.gloomy.server.infrastructure.jwt.UserJWTPayload;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +19,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -25,6 +30,7 @@ import static com.gloomy.server.domain.user.login.LoginFixture.ACCESS_TOKEN;
 import static com.gloomy.server.domain.user.login.LoginFixture.USER_ID;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -57,7 +63,8 @@ public class UserRestControllerMockTest {
 
     @BeforeEach
     public void setUp(){
-        mockMvc= MockMvcBuilders.standaloneSetup(userRestController).build();
+        mockMvc= MockMvcBuilders.standaloneSetup(userRestController)
+                .setCustomArgumentResolvers(new CurrentUserIdArgumentResolver()).build();
         objectMapper=new ObjectMapper();
         request=new UserDTO.CodeRequest("code","redirect_uri");
         testUser=TestUserDTO.TestUser.makeTestUser();
@@ -67,6 +74,11 @@ public class UserRestControllerMockTest {
 
     }
 
+    @AfterEach
+    public void tearDown(){
+        SecurityContextHolder.clearContext();
+    }
+
 
     @DisplayName("logout")
     @Test
@@ -83,7 +95,7 @@ public class UserRestControllerMockTest {
     @DisplayName("inactive user")
     @Test
     public void inactiveUser() throws Exception {
-        doReturn(USER_ID).when(jwtService).getMyInfo();
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(new UserJWTPayload(USER_ID, Long.MAX_VALUE), null));
         doReturn(testUser).when(userService).inactiveUser(USER_ID);
 
         mockMvc.perform(MockMvcRequestBuilders.put("/user/inactive")
@@ -91,6 +103,7 @@ public class UserRestControllerMockTest {
                 .contentType(MediaType.APPLICATION_JSON))
                 .andDo(print())
                 .andExpect(status().isOk());
+        verify(userService).inactiveUser(USER_ID);
     }
 
 
@@ -0,0 +1,114 @@
+package com.gloomy.server.domain.common.firebase;
+
+import com.gloomy.server.domain.notice.fcm.FcmTokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FcmServiceMockTest {
+    private static final PushMessage MESSAGE = new PushMessage("새 댓글", "내 글에 새 댓글이 달렸어요.");
+
+    @Mock
+    private FcmTokenService fcmTokenService;
+
+    private LocalPushSender pushSender;
+    private FcmService fcmService;
+
+    @BeforeEach
+    void beforeEach() {
+        pushSender = new LocalPushSender(0);
+        fcmService = new FcmService(fcmTokenService, pushSender, 2, 0, 3, 1);
+    }
+
+    @Test
+    void 같은_메시지_멀티캐스트_묶음_전송_성공() throws InterruptedException {
+        doReturn(Map.of(1L, makeTokens("a", 300), 2L, makeTokens("b", 300)))
+                .when(fcmTokenService).findFcmTokens(Set.of(1L, 2L));
+
+        fcmService.sendPushMessage(1L, MESSAGE);
+        fcmService.sendPushMessage(2L, new PushMessage("새 댓글", "내 글에 새 댓글이 달렸어요."));
+        int drainedCount = fcmService.drainQueue();
+
+        assertEquals(2, drainedCount);
+        assertEquals(2, pushSender.getSendCount());
+        assertEquals(600, pushSender.getSent().size());
+        assertEquals(600, fcmService.stats().getSentCount());
+        verify(fcmTokenService, never()).deleteFcmTokens(any());
+    }
+
+    @Test
+    void 일시_실패_재전송_성공() throws InterruptedException {
+        doReturn(Map.of(1L, List.of("a", "b"))).when(fcmTokenService).findFcmTokens(Set.of(1L));
+        pushSender.failTemporarily("a", 2);
+
+        fcmService.sendPushMessage(1L, MESSAGE);
+        fcmService.drainQueue();
+
+        assertEquals(3, pushSender.getSendCount());
+        assertEquals(2, fcmService.stats().getSentCount());
+        assertEquals(2, fcmService.stats().getRetriedCount());
+        assertEquals(0, fcmService.stats().getFailedCount());
+    }
+
+    @Test
+    void 재전송_횟수_초과_실패() throws InterruptedException {
+        doReturn(Map.of(1L, List.of("a"))).when(fcmTokenService).findFcmTokens(Set.of(1L));
+        pushSender.failTemporarily("a", 5);
+
+        fcmService.sendPushMessage(1L, MESSAGE);
+        fcmService.drainQueue();
+
+        assertEquals(3, pushSender.getSendCount());
+        assertEquals(0, fcmService.stats().getSentCount());
+        assertEquals(1, fcmService.stats().getFailedCount());
+    }
+
+    @Test
+    void 등록_해제_토큰_삭제_성공() throws InterruptedException {
+        doReturn(Map.of(1L, List.of("a", "b"))).when(fcmTokenService).findFcmTokens(Set.of(1L));
+        doReturn(1).when(fcmTokenService).deleteFcmTokens(List.of("b"));
+        pushSender.unregister("b");
+
+        fcmService.sendPushMessage(1L, MESSAGE);
+        fcmService.drainQueue();
+
+        assertEquals(1, fcmService.stats().getSentCount());
+        assertEquals(1, fcmService.stats().getPrunedCount());
+        verify(fcmTokenService).deleteFcmTokens(List.of("b"));
+    }
+
+    @Test
+    void 큐_가득_참_요청_거절() {
+        assertTrue(fcmService.sendPushMessage(1L, MESSAGE));
+        assertTrue(fcmService.sendPushMessage(2L, MESSAGE));
+        assertFalse(fcmService.sendPushMessage(3L, MESSAGE));
+
+        FcmPushStats stats = fcmService.stats();
+        assertEquals(2, stats.getQueueSize());
+        assertEquals(0, stats.getRemainingCapacity());
+        assertEquals(2, stats.getEnqueuedCount());
+        assertEquals(1, stats.getRejectedCount());
+    }
+
+    private List<String> makeTokens(String prefix, int size) {
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            tokens.add(prefix + i);
+        }
+        return tokens;
+    }
+}
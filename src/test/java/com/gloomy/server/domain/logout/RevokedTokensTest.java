@@ -0,0 +1,106 @@
+package com.gloomy.server.domain.logout;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static java.time.Instant.now;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RevokedTokensTest {
+    private RevokedTokens revokedTokens;
+
+    @BeforeEach
+    void beforeEach() {
+        revokedTokens = new RevokedTokens(16, 0.01);
+    }
+
+    @Test
+    void 로그아웃_토큰_확인_성공() {
+        revokedTokens.revoke(RevokedTokens.hash("token"), now().getEpochSecond() + 60);
+
+        assertTrue(revokedTokens.isRevoked("token"));
+        assertFalse(revokedTokens.isRevoked("token2"));
+    }
+
+    @Test
+    void 만료된_로그아웃_토큰_무시_및_정리_성공() {
+        long now = now().getEpochSecond();
+        revokedTokens.revoke(RevokedTokens.hash("expired"), now - 1);
+        revokedTokens.revoke(RevokedTokens.hash("active"), now + 60);
+
+        assertFalse(revokedTokens.isRevoked("expired"));
+        assertEquals(1, revokedTokens.compact(now));
+        assertEquals(1, revokedTokens.size());
+        assertTrue(revokedTokens.isRevoked("active"));
+    }
+
+    @Test
+    void 블룸_필터_용량_초과_후_정리_성공() {
+        long expiresAt = now().getEpochSecond() + 60;
+        for (int i = 0; i < 1000; i++) {
+            revokedTokens.revoke(RevokedTokens.hash("token" + i), expiresAt);
+        }
+
+        revokedTokens.compact(now().getEpochSecond());
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(revokedTokens.isRevoked("token" + i));
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 1000; i++) {
+            falsePositives += revokedTokens.isRevoked("other" + i) ? 1 : 0;
+        }
+        assertEquals(0, falsePositives);
+    }
+
+    @Test
+    void DB_행_적재_및_마지막_ID_기억_성공() {
+        long expiresAt = now().getEpochSecond() + 60;
+
+        revokedTokens.addAll(List.of(row(3L, RevokedTokens.hash("a"), expiresAt), row(7L, RevokedTokens.hash("b"), expiresAt)));
+
+        assertTrue(revokedTokens.isRevoked("a"));
+        assertTrue(revokedTokens.isRevoked("b"));
+        assertEquals(7L, revokedTokens.getLastSyncedId());
+    }
+
+    @Test
+    void 로그아웃_트랜잭션_롤백_시_제거_성공() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            revokedTokens.revoke(RevokedTokens.hash("token"), now().getEpochSecond() + 60);
+            assertTrue(revokedTokens.isRevoked("token"));
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertFalse(revokedTokens.isRevoked("token"));
+    }
+
+    private static RevokedTokenRow row(Long id, String tokenHash, Long expiresAt) {
+        return new RevokedTokenRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTokenHash() {
+                return tokenHash;
+            }
+
+            @Override
+            public Long getExpiresAt() {
+                return expiresAt;
+            }
+        };
+    }
+}
@@ -0,0 +1,98 @@
+package com.gloomy.server.domain.notice.fcm;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FcmTokenCacheMockTest {
+    @Mock
+    private FcmRepository fcmRepository;
+
+    private FcmTokenCache fcmTokenCache;
+
+    @BeforeEach
+    void beforeEach() {
+        fcmTokenCache = new FcmTokenCache(fcmRepository, 10);
+    }
+
+    @Test
+    void 여러_회원_토큰_한번에_조회_및_캐시_성공() {
+        doReturn(List.of(row(1L, "a"), row(1L, "a"), row(2L, "b")))
+                .when(fcmRepository).findTokenRowsByUserIdIn(List.of(1L, 2L, 3L));
+
+        Map<Long, List<String>> first = fcmTokenCache.getTokens(List.of(1L, 2L, 3L));
+        Map<Long, List<String>> second = fcmTokenCache.getTokens(List.of(1L, 2L, 3L));
+
+        assertEquals(Map.of(1L, List.of("a"), 2L, List.of("b")), first);
+        assertEquals(first, second);
+        verify(fcmRepository, times(1)).findTokenRowsByUserIdIn(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void 토큰_저장_즉시_반영_성공() {
+        doReturn(List.of(row(1L, "a"))).when(fcmRepository).findTokenRowsByUserIdIn(List.of(1L));
+        fcmTokenCache.getTokens(List.of(1L));
+
+        fcmTokenCache.add(1L, "b");
+        fcmTokenCache.add(1L, "b");
+
+        assertEquals(List.of("a", "b"), fcmTokenCache.getTokens(List.of(1L)).get(1L));
+    }
+
+    @Test
+    void 토큰_저장_트랜잭션_롤백_시_캐시_무효화_성공() {
+        doReturn(List.of(row(1L, "a"))).when(fcmRepository).findTokenRowsByUserIdIn(List.of(1L));
+        fcmTokenCache.getTokens(List.of(1L));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            fcmTokenCache.add(1L, "b");
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(List.of("a"), fcmTokenCache.getTokens(List.of(1L)).get(1L));
+        verify(fcmRepository, times(2)).findTokenRowsByUserIdIn(List.of(1L));
+    }
+
+    @Test
+    void 삭제한_토큰_캐시_제거_성공() {
+        doReturn(List.of(row(1L, "a"), row(1L, "b"), row(2L, "b")))
+                .when(fcmRepository).findTokenRowsByUserIdIn(List.of(1L, 2L));
+        fcmTokenCache.getTokens(List.of(1L, 2L));
+
+        fcmTokenCache.remove(List.of("b"));
+
+        assertEquals(Map.of(1L, List.of("a")), fcmTokenCache.getTokens(List.of(1L, 2L)));
+    }
+
+    private FcmTokenRow row(Long userId, String fcmToken) {
+        return new FcmTokenRow() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public String getFcmToken() {
+                return fcmToken;
+            }
+        };
+    }
+}
@@ -0,0 +1,110 @@
+package com.gloomy.server.domain.report;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class HiddenFeedCacheMockTest {
+    @Mock
+    private ReportRepository reportRepository;
+
+    private HiddenFeedCache hiddenFeedCache;
+
+    @BeforeEach
+    void beforeEach() {
+        hiddenFeedCache = new HiddenFeedCache(reportRepository, 2, 300);
+    }
+
+    @Test
+    void 숨긴_피드_조회_정렬_및_캐시_성공() {
+        doReturn(List.of(7L, 3L, 5L, 3L)).when(reportRepository).findFeedIdsByUserId(1L);
+
+        long[] first = hiddenFeedCache.getHiddenFeedIds(1L);
+        long[] second = hiddenFeedCache.getHiddenFeedIds(1L);
+
+        assertArrayEquals(new long[]{3L, 5L, 7L}, first);
+        assertSame(first, second);
+        verify(reportRepository, times(1)).findFeedIdsByUserId(1L);
+    }
+
+    @Test
+    void 신고_즉시_숨김_반영_성공() {
+        doReturn(List.of(2L, 8L)).when(reportRepository).findFeedIdsByUserId(1L);
+        hiddenFeedCache.getHiddenFeedIds(1L);
+
+        hiddenFeedCache.hide(1L, 5L);
+        hiddenFeedCache.hide(1L, 5L);
+
+        assertArrayEquals(new long[]{2L, 5L, 8L}, hiddenFeedCache.getHiddenFeedIds(1L));
+    }
+
+    @Test
+    void 신고_트랜잭션_롤백_시_캐시_무효화_성공() {
+        doReturn(List.of(2L)).when(reportRepository).findFeedIdsByUserId(1L);
+        hiddenFeedCache.getHiddenFeedIds(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            hiddenFeedCache.hide(1L, 5L);
+            assertArrayEquals(new long[]{2L, 5L}, hiddenFeedCache.getHiddenFeedIds(1L));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertArrayEquals(new long[]{2L}, hiddenFeedCache.getHiddenFeedIds(1L));
+        verify(reportRepository, times(2)).findFeedIdsByUserId(1L);
+    }
+
+    @Test
+    void 최대_회원_수_초과_시_오래된_회원_제거_성공() {
+        doReturn(List.of(1L)).when(reportRepository).findFeedIdsByUserId(1L);
+        doReturn(List.of(2L)).when(reportRepository).findFeedIdsByUserId(2L);
+        doReturn(List.of(3L)).when(reportRepository).findFeedIdsByUserId(3L);
+
+        hiddenFeedCache.getHiddenFeedIds(1L);
+        hiddenFeedCache.getHiddenFeedIds(2L);
+        hiddenFeedCache.getHiddenFeedIds(3L);
+        hiddenFeedCache.getHiddenFeedIds(1L);
+
+        verify(reportRepository, times(2)).findFeedIdsByUserId(1L);
+    }
+
+    @Test
+    void 조회_도중_신고된_집합_캐시하지_않음_성공() {
+        doAnswer(invocation -> {
+            hiddenFeedCache.hide(1L, 5L);
+            return List.of(2L);
+        }).doReturn(List.of(2L, 5L)).when(reportRepository).findFeedIdsByUserId(1L);
+
+        hiddenFeedCache.getHiddenFeedIds(1L);
+
+        assertArrayEquals(new long[]{2L, 5L}, hiddenFeedCache.getHiddenFeedIds(1L));
+        verify(reportRepository, times(2)).findFeedIdsByUserId(1L);
+    }
+
+    @Test
+    void 보관_시간_지난_집합_다시_조회_성공() {
+        hiddenFeedCache = new HiddenFeedCache(reportRepository, 2, 0);
+        doReturn(List.of(2L)).when(reportRepository).findFeedIdsByUserId(1L);
+
+        hiddenFeedCache.getHiddenFeedIds(1L);
+        hiddenFeedCache.getHiddenFeedIds(1L);
+
+        verify(reportRepository, times(2)).findFeedIdsByUserId(1L);
+    }
+}
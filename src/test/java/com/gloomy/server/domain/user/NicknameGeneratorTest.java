@@ -0,0 +1,114 @@
+package com.gloomy.server.domain.user;
+
+import com.gloomy.server.application.core.resilience.OutboundGuards;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class NicknameGeneratorTest {
+    private UserRepository userRepository;
+    private NicknameGenerator nicknameGenerator;
+
+    @BeforeEach
+    void beforeEach() {
+        userRepository = mock(UserRepository.class);
+        doReturn(Collections.emptyList()).when(userRepository).findNicknameRowsAfter(anyLong(), any(Pageable.class));
+        nicknameGenerator = new NicknameGenerator(userRepository, null, new OutboundGuards(new MockEnvironment()), 100, 100000, 0.001, 1000, 100, false);
+    }
+
+    @Test
+    void 닉네임_중복_없이_생성_성공() {
+        nicknameGenerator.refill();
+
+        Set<String> nicknames = new HashSet<>();
+        for (int i = 0; i < 10000; i++) {
+            nicknames.add(nicknameGenerator.next());
+        }
+
+        assertEquals(10000, nicknames.size());
+    }
+
+    @Test
+    void 사용_중인_닉네임_제외_성공() throws IOException {
+        List<String> adjectives = readWords("nickname/adjectives.txt");
+        List<String> nouns = readWords("nickname/nouns.txt");
+        List<NicknameRow> rows = new ArrayList<>();
+        for (String adjective : adjectives) {
+            for (String noun : nouns) {
+                rows.add(row(rows.size() + 1L, adjective + " " + noun));
+            }
+        }
+        doReturn(rows).when(userRepository).findNicknameRowsAfter(eq(0L), any(Pageable.class));
+
+        nicknameGenerator.syncNames();
+
+        for (int i = 0; i < 1000; i++) {
+            String nickname = nicknameGenerator.next();
+            assertTrue(Character.isDigit(nickname.charAt(nickname.length() - 1)), nickname);
+        }
+    }
+
+    @Test
+    void 미리_만든_닉네임_채우기_성공() {
+        nicknameGenerator.refill();
+        assertEquals(100, nicknameGenerator.poolSize());
+
+        nicknameGenerator.next();
+        assertEquals(99, nicknameGenerator.poolSize());
+
+        nicknameGenerator.refill();
+        assertEquals(100, nicknameGenerator.poolSize());
+    }
+
+    @Test
+    void 닉네임_동기화_겹쳐_읽기_성공() {
+        doReturn(List.of(row(500L, "다정한 고양이"))).when(userRepository).findNicknameRowsAfter(eq(0L), any(Pageable.class));
+        nicknameGenerator.syncNames();
+
+        nicknameGenerator.syncNames();
+
+        verify(userRepository).findNicknameRowsAfter(eq(400L), any(Pageable.class));
+        assertFalse(nicknameGenerator.reserve("다정한 고양이"));
+        assertTrue(nicknameGenerator.reserve("다정한 고양이1"));
+        assertFalse(nicknameGenerator.reserve("다정한 고양이1"));
+    }
+
+    private static List<String> readWords(String path) throws IOException {
+        return Files.readAllLines(new ClassPathResource(path).getFile().toPath(), StandardCharsets.UTF_8).stream()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .collect(Collectors.toList());
+    }
+
+    private static NicknameRow row(Long id, String name) {
+        return new NicknameRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package com.gloomy.server.domain.user;
+
+import com.gloomy.server.application.user.TestUserDTO;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = {
+        "spring.config.location=classpath:test-application.yml,classpath:aws.yml",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class UserCacheTest {
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+
+    @BeforeEach
+    void beforeEach() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void afterEach() {
+        userService.deleteAll();
+    }
+
+    @Test
+    void 회원_조회_캐시_성공() {
+        User user = userService.createUser(TestUserDTO.TestUser.makeTestUser());
+        userService.findUser(user.getId());
+
+        statistics.clear();
+        User foundUser = transactionTemplate.execute(status -> {
+            User first = userService.findUser(user.getId());
+            assertSame(first, userService.findUser(user.getId()));
+            return first;
+        });
+
+        assertEquals(0, userLoadCount());
+        assertEquals(user.getId(), foundUser.getId());
+        assertEquals(user.getEmail(), foundUser.getEmail());
+        assertEquals(user.getName(), foundUser.getName());
+    }
+
+    @Test
+    void 회원_조회_요청당_한번_조회_성공() {
+        User user = userService.createUser(TestUserDTO.TestUser.makeTestUser());
+
+        statistics.clear();
+        transactionTemplate.execute(status -> {
+            userService.findUser(user.getId());
+            userService.findUser(user.getId());
+            return null;
+        });
+
+        assertEquals(1, userLoadCount());
+    }
+
+    @Test
+    void 회원_탈퇴_시_캐시_무효화_성공() {
+        User user = userService.createUser(TestUserDTO.TestUser.makeTestUser());
+        userService.findUser(user.getId());
+
+        userService.inactiveUser(user.getId());
+
+        assertThrows(IllegalArgumentException.class, () -> userService.findUser(user.getId()));
+    }
+
+    @Test
+    void 리프레시_토큰_변경_시_캐시_무효화_성공() {
+        User user = userService.createUser(TestUserDTO.TestUser.makeTestUser());
+        userService.findUser(user.getId());
+
+        User loadedUser = userService.loadUser(user.getId());
+        loadedUser.changeRefreshToken("new_refresh_token");
+        userService.createUser(loadedUser);
+
+        assertEquals("new_refresh_token", userService.findUser(user.getId()).getRefreshToken());
+    }
+
+    private long userLoadCount() {
+        return statistics.getEntityStatistics(User.class.getName()).getLoadCount();
+    }
+}
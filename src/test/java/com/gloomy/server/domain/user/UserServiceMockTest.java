@@ -29,6 +29,8 @@ public class UserServiceMockTest {
     @Mock
     UserRepository userRepository;
     @Mock
+    UserCache userCache;
+    @Mock
     JWTDeserializer jwtDeserializer;
 
     private MockWebServer mockWebServer;
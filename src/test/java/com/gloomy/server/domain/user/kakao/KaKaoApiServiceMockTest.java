@@ -1,6 +1,12 @@
 package com.gloomy.server.domain.user.kakao;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gloomy.server.application.core.WebClientConfig;
+import com.gloomy.server.application.core.WebClientPoolMetrics;
+import com.gloomy.server.application.core.exception.OutboundRejectedException;
+import com.gloomy.server.application.core.resilience.Deadline;
+import com.gloomy.server.application.core.resilience.OutboundGuard;
+import com.gloomy.server.application.core.resilience.OutboundGuards;
 import com.gloomy.server.application.user.UserDTO;
 import com.gloomy.server.domain.user.login.UriService;
 import com.gloomy.server.domain.user.UserRepository;
@@ -13,16 +19,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.mock.env.MockEnvironment;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.test.util.ReflectionTestUtils;
 import reactor.core.publisher.Mono;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
 import reactor.test.StepVerifier;
 
 import javax.validation.constraints.NotNull;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static com.gloomy.server.domain.user.login.LoginFixture.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 public class KaKaoApiServiceMockTest {
@@ -35,6 +49,9 @@ public class KaKaoApiServiceMockTest {
     private MockResponse logoutResponse;
     private String mockServerUrl;
     private Dispatcher dispatcher;
+    private WebClientPoolMetrics poolMetrics;
+    private ConnectionProvider connectionProvider;
+    private OutboundGuards outboundGuards;
     @Mock
     private UserRepository userRepository;
     @Mock
@@ -43,12 +60,21 @@ public class KaKaoApiServiceMockTest {
 
     @BeforeEach
     public void initialize() throws IOException {
-        ReactorClientHttpConnector connector = new ReactorClientHttpConnector();
         objectMapper=new ObjectMapper();
         mockWebServer=new MockWebServer();
         mockServerUrl=mockWebServer.url("/").toString();
-        kakaoApiService =new KakaoApiService(userRepository,uriService,mockServerUrl,mockServerUrl
-                ,CLIENT_ID_VALUE,GRANT_TYPE_VALUE);
+        poolMetrics=new WebClientPoolMetrics();
+        connectionProvider=ConnectionProvider.builder("outbound").metrics(true,()->poolMetrics).build();
+        WebClientConfig webClientConfig=new WebClientConfig();
+        ReflectionTestUtils.setField(webClientConfig,"dnsCacheMaxTtlSeconds",60L);
+        ReflectionTestUtils.setField(webClientConfig,"dnsCacheNegativeTtlSeconds",5L);
+        outboundGuards=new OutboundGuards(new MockEnvironment()
+                .withProperty("outbound.kakao.timeout-ms","500")
+                .withProperty("outbound.kakao.window-size","2")
+                .withProperty("outbound.kakao.min-calls","2")
+                .withProperty("outbound.kakao.open-ms","60000"));
+        kakaoApiService =new KakaoApiService(userRepository,uriService,webClientConfig.webClient(connectionProvider),outboundGuards
+                ,mockServerUrl,mockServerUrl,CLIENT_ID_VALUE,GRANT_TYPE_VALUE);
 
         tokenResponse=new MockResponse()
                 .addHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
@@ -83,6 +109,7 @@ public class KaKaoApiServiceMockTest {
 
     @AfterEach
     public void shutdown() throws IOException{
+        connectionProvider.dispose();
         mockWebServer.shutdown();
     }
 
@@ -137,4 +164,76 @@ public class KaKaoApiServiceMockTest {
                 .verifyComplete();
     }
 
-}
\ No newline at end of file
+    @DisplayName("카카오 호출끼리 커넥션 재사용")
+    @Test
+    public void reuseConnection() throws InterruptedException {
+        int calls=5;
+        int newConnections=0;
+        for(int i=0;i<calls;i++){
+            kakaoApiService.getUserInfo(CODE_VALUE).block();
+            if(mockWebServer.takeRequest().getSequenceNumber()==0) newConnections++;
+        }
+
+        assertTrue(newConnections<calls);
+        Map<String, ConnectionPoolMetrics> pools=poolMetrics.pools();
+        assertEquals(pools.size(),1);
+        assertTrue(pools.keySet().iterator().next().startsWith("outbound/"));
+        assertEquals(pools.values().iterator().next().allocatedSize(),newConnections);
+    }
+
+    @DisplayName("카카오 응답이 타임아웃보다 늦으면 TimeoutException")
+    @Test
+    public void slowResponseTimesOut(){
+        userResponse.setHeadersDelay(2, TimeUnit.SECONDS);
+
+        StepVerifier.create(kakaoApiService.getUserInfo(CODE_VALUE))
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @DisplayName("타임아웃이 이어지면 회로가 열려 카카오를 더 호출하지 않음")
+    @Test
+    public void circuitOpensAfterTimeouts(){
+        userResponse.setHeadersDelay(2, TimeUnit.SECONDS);
+
+        for(int i=0;i<2;i++){
+            StepVerifier.create(kakaoApiService.getUserInfo(CODE_VALUE))
+                    .expectError(TimeoutException.class)
+                    .verify(Duration.ofSeconds(5));
+        }
+        int requestCount=mockWebServer.getRequestCount();
+        StepVerifier.create(kakaoApiService.getUserInfo(CODE_VALUE))
+                .expectError(OutboundRejectedException.class)
+                .verify(Duration.ofSeconds(5));
+
+        assertEquals(mockWebServer.getRequestCount(),requestCount);
+        assertEquals(outboundGuards.get(OutboundGuards.KAKAO).stats().getState(),OutboundGuard.State.OPEN);
+        assertEquals(outboundGuards.get(OutboundGuards.KAKAO).stats().getTimeoutCount(),2);
+    }
+
+    @DisplayName("요청 Deadline이 남은 만큼만 카카오 응답을 기다림")
+    @Test
+    public void deadlineShortensTimeout(){
+        userResponse.setHeadersDelay(2, TimeUnit.SECONDS);
+        Deadline deadline=Deadline.after(Duration.ofMillis(100));
+
+        long startedAt=System.nanoTime();
+        StepVerifier.create(kakaoApiService.getUserInfo(CODE_VALUE)
+                        .contextWrite(context->context.put(Deadline.class,deadline)))
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(5));
+
+        assertTrue(System.nanoTime()-startedAt<TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @DisplayName("요청 Deadline이 지났으면 카카오를 호출하지 않음")
+    @Test
+    public void expiredDeadlineRejected(){
+        StepVerifier.create(kakaoApiService.getUserInfo(CODE_VALUE)
+                        .contextWrite(context->context.put(Deadline.class,Deadline.after(Duration.ZERO))))
+                .expectError(OutboundRejectedException.class)
+                .verify(Duration.ofSeconds(5));
+
+        assertEquals(mockWebServer.getRequestCount(),0);
+    }
+}
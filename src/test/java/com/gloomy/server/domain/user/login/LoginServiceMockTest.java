@@ -9,7 +9,8 @@ import com.gloomy.server.application.user.UserRestController;
 import com.gloomy.server.domain.common.entity.Status;
 import com.gloomy.server.domain.jwt.JWTDeserializer;
 import com.gloomy.server.domain.jwt.JWTSerializer;
-import com.gloomy.server.domain.logout.LogoutRepository;
+import com.gloomy.server.domain.logout.LogoutService;
+import com.gloomy.server.domain.user.Type;
 import com.gloomy.server.domain.user.User;
 import com.gloomy.server.domain.user.UserRepository;
 import com.gloomy.server.domain.user.UserService;
@@ -18,25 +19,34 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
 
 import java.util.Optional;
 
 import static com.gloomy.server.domain.user.login.LoginFixture.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
 public class LoginServiceMockTest {
 
-    @InjectMocks
     LoginService loginService;
 
     @Mock
@@ -44,11 +54,17 @@ public class LoginServiceMockTest {
     @Mock
     UserRepository userRepository;
     @Mock
-    LogoutRepository logoutRepository;
+    LogoutService logoutService;
     @Mock
     UserService userService;
     @Mock
     JwtService jwtService;
+    @Mock
+    JWTSerializer jwtSerializer;
+    @Mock
+    PlatformTransactionManager transactionManager;
+    @Mock
+    ProviderLogoutService providerLogoutService;
     @Mock LoginService loginServiceMock;
 
     private UserDTO.CodeRequest request;
@@ -59,6 +75,8 @@ public class LoginServiceMockTest {
 
     @BeforeEach
     public void setUp(){
+        loginService=new LoginService(kakaoApiService,kakaoApiService,userRepository,logoutService,userService,
+                jwtSerializer,jwtService,providerLogoutService,Schedulers.immediate(),transactionManager);
         request=new UserDTO.CodeRequest("code");
         kakaoToken=createMockKakaoTokenResponse();
         kakaoUser=createMockKakaoUserResponse();
@@ -76,9 +94,26 @@ public class LoginServiceMockTest {
         doReturn(kakaoUserMono).when(kakaoApiService).getUserInfo(kakaoToken.getAccess_token());
         doReturn(userOp).when(userRepository).findFirstByEmailAndJoinStatus(kakaoUser.getKakao_account().getEmail(), Status.ACTIVE);
 
-        User loginUser=loginService.login(request);
+        StepVerifier.create(loginService.login(request))
+                .assertNext(loginUser -> Assertions.assertEquals(user.getName(),loginUser.getName()))
+                .verifyComplete();
+    }
 
-        Assertions.assertEquals(user.getName(),loginUser.getName());
+    @DisplayName("다른 서버와 닉네임이 겹치면 새 닉네임으로 가입 재시도")
+    @Test
+    public void signupRetriesOnNicknameConflict(){
+        doReturn(Mono.just(kakaoToken)).when(kakaoApiService).getToken(request);
+        doReturn(Mono.just(kakaoUser)).when(kakaoApiService).getUserInfo(kakaoToken.getAccess_token());
+        doReturn(Optional.empty()).when(userRepository).findFirstByEmailAndJoinStatus(kakaoUser.getKakao_account().getEmail(), Status.ACTIVE);
+        when(userService.createNickName()).thenReturn("taken", "free");
+        when(userService.createUser(any(User.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_users_name"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        StepVerifier.create(loginService.login(request))
+                .assertNext(loginUser -> Assertions.assertEquals("free",loginUser.getName()))
+                .verifyComplete();
+        verify(userService, times(2)).createUser(any(User.class));
     }
 
     @DisplayName("logout")
@@ -87,11 +122,15 @@ public class LoginServiceMockTest {
         doReturn(userId).when(userService).getMyInfo();
         Optional<User> userOp= Optional.of(user);
         doReturn(userOp).when(userRepository).findByIdAndJoinStatus(userId,Status.ACTIVE);
-        doReturn(userId).when(kakaoApiService).logout(userId,user.getKakaoToken());
         doReturn(userId).when(jwtService).getMyInfo();
+        doReturn("token").when(userService).getToken();
         doNothing().when(loginServiceMock).jwtLogout();
 
         loginService.logout();
+
+        verify(providerLogoutService).enqueue(userId, Type.KAKAO, user.getKakaoToken());
+        verify(kakaoApiService, never()).logout(anyLong(), anyString());
+        verify(logoutService).logout("token");
     }
 
     @DisplayName("logout_fail")
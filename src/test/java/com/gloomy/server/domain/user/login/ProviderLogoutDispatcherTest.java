@@ -0,0 +1,98 @@
+package com.gloomy.server.domain.user.login;
+
+import com.gloomy.server.application.user.UserDTO;
+import com.gloomy.server.domain.user.Type;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProviderLogoutDispatcherTest {
+    private static final Long TASK_ID = 1L;
+    private static final Long USER_ID = 2L;
+
+    @Mock
+    ProviderLogoutService providerLogoutService;
+    @Mock
+    LoginApiService<UserDTO.KakaoToken, UserDTO.KakaoUser> kakaoApiService;
+    @Mock
+    LoginApiService<UserDTO.KakaoToken, UserDTO.KakaoUser> appleApiService;
+
+    private ProviderLogoutDispatcher providerLogoutDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        providerLogoutDispatcher = new ProviderLogoutDispatcher(providerLogoutService, kakaoApiService, appleApiService, 1, 10);
+        doReturn(Optional.of(ProviderLogoutTask.of(USER_ID, Type.KAKAO, "kakaoToken")))
+                .when(providerLogoutService).findTask(TASK_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        providerLogoutDispatcher.stop();
+    }
+
+    @DisplayName("카카오 로그아웃 성공하면 작업 삭제")
+    @Test
+    void process_success() {
+        providerLogoutDispatcher.process(TASK_ID);
+
+        verify(kakaoApiService).logout(USER_ID, "kakaoToken");
+        verify(appleApiService, never()).logout(anyLong(), anyString());
+        verify(providerLogoutService).complete(TASK_ID);
+        verify(providerLogoutService, never()).fail(anyLong(), anyString(), anyBoolean());
+        assertEquals(1, providerLogoutDispatcher.stats().getSucceededCount());
+    }
+
+    @DisplayName("연결 실패는 다시 시도")
+    @Test
+    void process_retry() {
+        doThrow(mock(WebClientRequestException.class)).when(kakaoApiService).logout(USER_ID, "kakaoToken");
+
+        providerLogoutDispatcher.process(TASK_ID);
+
+        verify(providerLogoutService, never()).complete(TASK_ID);
+        verify(providerLogoutService).fail(eq(TASK_ID), anyString(), eq(true));
+        assertEquals(1, providerLogoutDispatcher.stats().getRetriedCount());
+    }
+
+    @DisplayName("401 응답은 다시 시도하지 않고 DEAD")
+    @Test
+    void process_dead_on_client_error() {
+        doThrow(WebClientResponseException.create(HttpStatus.UNAUTHORIZED.value(), "Unauthorized", null, null, null))
+                .when(kakaoApiService).logout(USER_ID, "kakaoToken");
+        doReturn(true).when(providerLogoutService).fail(eq(TASK_ID), anyString(), eq(false));
+
+        providerLogoutDispatcher.process(TASK_ID);
+
+        verify(providerLogoutService).fail(eq(TASK_ID), anyString(), eq(false));
+        assertEquals(1, providerLogoutDispatcher.stats().getDeadLetteredCount());
+    }
+
+    @DisplayName("429 응답은 다시 시도")
+    @Test
+    void process_retry_on_too_many_requests() {
+        doThrow(WebClientResponseException.create(HttpStatus.TOO_MANY_REQUESTS.value(), "Too Many Requests", null, null, null))
+                .when(kakaoApiService).logout(USER_ID, "kakaoToken");
+
+        providerLogoutDispatcher.process(TASK_ID);
+
+        verify(providerLogoutService).fail(eq(TASK_ID), anyString(), eq(true));
+    }
+}
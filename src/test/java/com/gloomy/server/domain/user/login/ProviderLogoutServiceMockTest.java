@@ -0,0 +1,83 @@
+package com.gloomy.server.domain.user.login;
+
+import com.gloomy.server.domain.user.Type;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ProviderLogoutServiceMockTest {
+    private static final Long TASK_ID = 1L;
+
+    @Mock
+    ProviderLogoutTaskRepository providerLogoutTaskRepository;
+
+    private ProviderLogoutService providerLogoutService;
+    private ProviderLogoutTask task;
+
+    @BeforeEach
+    void setUp() {
+        providerLogoutService = new ProviderLogoutService(providerLogoutTaskRepository, 3, 1000, 1500, 60000);
+        task = ProviderLogoutTask.of(1L, Type.KAKAO, "kakaoToken");
+    }
+
+    @DisplayName("제공자 토큰이 없으면 작업을 남기지 않음")
+    @Test
+    void enqueue_without_token() {
+        assertNull(providerLogoutService.enqueue(1L, Type.KAKAO, null));
+        verify(providerLogoutTaskRepository, never()).save(any());
+    }
+
+    @DisplayName("실패하면 두 배씩 늘어나는 간격으로 다시 시도")
+    @Test
+    void fail_retry_with_backoff() {
+        doReturn(Optional.of(task)).when(providerLogoutTaskRepository).findById(TASK_ID);
+
+        LocalDateTime before = LocalDateTime.now();
+        assertFalse(providerLogoutService.fail(TASK_ID, "timeout", true));
+
+        assertEquals(ProviderLogoutStatus.PENDING, task.getStatus());
+        assertEquals(1, task.getAttempts());
+        assertEquals("timeout", task.getLastError());
+        assertFalse(task.getNextAttemptAt().isBefore(before.plusSeconds(1)));
+        assertEquals(1000, providerLogoutService.backoffMillis(1));
+        assertEquals(1500, providerLogoutService.backoffMillis(2));
+        assertEquals(1500, providerLogoutService.backoffMillis(40));
+    }
+
+    @DisplayName("최대 횟수만큼 실패하면 DEAD")
+    @Test
+    void fail_dead_after_max_attempts() {
+        doReturn(Optional.of(task)).when(providerLogoutTaskRepository).findById(TASK_ID);
+
+        assertFalse(providerLogoutService.fail(TASK_ID, "timeout", true));
+        assertFalse(providerLogoutService.fail(TASK_ID, "timeout", true));
+        assertTrue(providerLogoutService.fail(TASK_ID, "timeout", true));
+
+        assertEquals(ProviderLogoutStatus.DEAD, task.getStatus());
+        assertEquals(3, task.getAttempts());
+    }
+
+    @DisplayName("다시 보내도 소용없는 실패는 바로 DEAD")
+    @Test
+    void fail_not_retryable() {
+        doReturn(Optional.of(task)).when(providerLogoutTaskRepository).findById(TASK_ID);
+
+        assertTrue(providerLogoutService.fail(TASK_ID, "401 Unauthorized", false));
+
+        assertEquals(ProviderLogoutStatus.DEAD, task.getStatus());
+        assertEquals(1, task.getAttempts());
+    }
+}
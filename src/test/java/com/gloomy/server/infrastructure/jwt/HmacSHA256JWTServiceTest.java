@@ -14,6 +14,8 @@ import org.junit.jupiter.api.Test;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 
+import static com.gloomy.server.application.core.ErrorMessage.invalidTokenErrorMessage;
+import static com.gloomy.server.application.core.ErrorMessage.tokenExpired;
 import static org.apache.tomcat.jni.Time.now;
 
 public class HmacSHA256JWTServiceTest {
@@ -60,6 +62,36 @@ public class HmacSHA256JWTServiceTest {
     @DisplayName("token expire 체크")
     @Test
     public void isExpired(){
+        HmacSHA256JWTService expiredJWTService=new HmacSHA256JWTService("TEST_SECRET".getBytes(StandardCharsets.UTF_8),-10,-10,new ObjectMapper());
+        User user= TestUserDTO.TestUser.makeTestUser();
+        user.changeId(userId);
+        String accessToken=expiredJWTService.jwtFromUser(user);
+
+        Assertions.assertThat(expiredJWTService.isExpired(accessToken)).isTrue();
+        Assertions.assertThatThrownBy(()->expiredJWTService.jwtPayloadFromJWT(accessToken))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(tokenExpired);
+        Assertions.assertThatThrownBy(()->expiredJWTService.jwtPayloadFromJWT(accessToken))
+                .hasMessage(tokenExpired);
+    }
+
+    @DisplayName("서명이 바뀐 token 거부")
+    @Test
+    public void rejectTamperedToken(){
+        User user= TestUserDTO.TestUser.makeTestUser();
+        user.changeId(userId);
+        String accessToken=hmacSHA256JWTService.jwtFromUser(user);
+        hmacSHA256JWTService.jwtPayloadFromJWT(accessToken);
+        char lastChar=accessToken.charAt(accessToken.length()-1);
+        String tamperedToken=accessToken.substring(0,accessToken.length()-1)+(lastChar=='A'?'B':'A');
+        String otherSecretToken=new HmacSHA256JWTService("OTHER_SECRET".getBytes(StandardCharsets.UTF_8),10,100,new ObjectMapper()).jwtFromUser(user);
 
+        Assertions.assertThat(hmacSHA256JWTService.isValidToken(accessToken)).isTrue();
+        Assertions.assertThat(hmacSHA256JWTService.isValidToken(tamperedToken)).isFalse();
+        Assertions.assertThat(hmacSHA256JWTService.isValidToken(otherSecretToken)).isFalse();
+        Assertions.assertThat(hmacSHA256JWTService.isValidToken("a.b")).isFalse();
+        Assertions.assertThatThrownBy(()->hmacSHA256JWTService.jwtPayloadFromJWT(tamperedToken))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(invalidTokenErrorMessage);
     }
 }